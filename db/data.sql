@@ -10,13 +10,13 @@ ON DUPLICATE KEY UPDATE email = VALUES(email);
 INSERT INTO schedules (
   id, user_id, title, description, color, schedule_date,
   start_time, end_time, is_all_day, is_recurring, recurrence_rule,
-  status, completion_rate, reminder_minutes, is_reminder_enabled,
+  status, completion_rate, reminder_minutes, is_reminder_enabled, fire_at,
   created_at, updated_at
 ) VALUES (
   '01JABCDETESTSCHDULID00001', '01JABCDETESTUSERULID00001',
   '캘린더 시작하기', '샘플 일정입니다.', '#FF5733', CURDATE(),
   '09:00:00', '10:00:00', b'0', b'0', NULL,
-  'PLANNED', 0, 10, b'1', NOW(6), NOW(6)
+  'PLANNED', 0, 10, b'1', TIMESTAMP(CURDATE(), '09:00:00') - INTERVAL 10 MINUTE, NOW(6), NOW(6)
 ) ON DUPLICATE KEY UPDATE title = VALUES(title);
 
 
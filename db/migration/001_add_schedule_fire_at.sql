@@ -0,0 +1,14 @@
+-- schedules.fire_at 추가 및 기존 데이터 백필
+-- fire_at = schedule_date + start_time - reminder_minutes (시작 시간이 없으면 NULL)
+-- 적용: mysql -u root -p calendar < db/migration/001_add_schedule_fire_at.sql
+
+SET time_zone = '+09:00';
+
+ALTER TABLE schedules ADD COLUMN fire_at DATETIME(6) NULL AFTER reminded;
+
+UPDATE schedules
+   SET fire_at = TIMESTAMP(schedule_date, start_time) - INTERVAL COALESCE(GREATEST(reminder_minutes, 0), 0) MINUTE
+ WHERE start_time IS NOT NULL;
+
+-- 미발송 알림 범위 조회용 (is_reminder_enabled, reminded, fire_at) + PK(id) 커버링
+CREATE INDEX idx_reminder_fire_at ON schedules(is_reminder_enabled, reminded, fire_at);
@@ -0,0 +1,7 @@
+-- idx_reminder_fire_at에 user_id 추가
+-- 알림 휠 적재 조회(id, user_id, fire_at)가 샤드 판별용 user_id까지 인덱스만으로 처리되도록 함
+-- 적용: mysql -u root -p calendar < db/migration/002_extend_reminder_fire_at_index.sql
+
+ALTER TABLE schedules
+  DROP INDEX idx_reminder_fire_at,
+  ADD INDEX idx_reminder_fire_at (is_reminder_enabled, reminded, fire_at, user_id);
@@ -0,0 +1,8 @@
+-- idx_user_id를 (user_id, schedule_date, start_time) 복합 인덱스로 교체
+-- 사용자 + 날짜 범위 조회와 schedule_date, start_time 정렬을 인덱스 한 번으로 처리 (index merge/filesort 제거)
+-- user_id로 시작하므로 fk_schedules_users 외래 키 인덱스 역할도 대신함
+-- 적용: mysql -u root -p calendar < db/migration/003_user_date_start_index.sql
+
+ALTER TABLE schedules
+  ADD INDEX idx_user_date_start (user_id, schedule_date, start_time),
+  DROP INDEX idx_user_id;
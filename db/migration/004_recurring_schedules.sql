@@ -0,0 +1,29 @@
+-- 반복 일정: 규칙(RRULE) 길이 확장, 마지막 회차 날짜, 회차 예외 테이블
+-- 반복 일정은 원본 한 행에 규칙만 저장하고 회차는 조회 범위만큼 펼침 (회차 행을 미리 만들지 않음)
+-- fire_at은 다음 회차의 알림 시각만 저장 (발송할 때마다 다음 회차로 이동)
+-- 적용: mysql -u root -p calendar < db/migration/004_recurring_schedules.sql
+
+ALTER TABLE schedules
+  MODIFY COLUMN recurrence_rule VARCHAR(255) NULL,
+  ADD COLUMN recurrence_until DATE NULL AFTER recurrence_rule,
+  -- 사용자별 반복 일정 목록 조회
+  ADD INDEX idx_user_recurring (user_id, is_recurring),
+  -- 알림이 밀린 반복 일정 정리 (is_recurring = true AND fire_at < ?)
+  ADD INDEX idx_recurring_fire_at (is_recurring, fire_at);
+
+CREATE TABLE IF NOT EXISTS schedule_recurrence_exceptions (
+  id VARCHAR(26) PRIMARY KEY,
+  schedule_id VARCHAR(26) NOT NULL,
+  occurrence_date DATE NOT NULL,
+  cancelled BIT(1) NOT NULL,
+  title VARCHAR(255) NULL,
+  description TEXT NULL,
+  color VARCHAR(7) NULL,
+  schedule_date DATE NULL,
+  start_time TIME NULL,
+  end_time TIME NULL,
+  created_at DATETIME(6) NOT NULL,
+  updated_at DATETIME(6) NULL,
+  CONSTRAINT fk_recurrence_exceptions_schedules FOREIGN KEY (schedule_id) REFERENCES schedules(id) ON DELETE CASCADE,
+  CONSTRAINT uk_recurrence_exception_occurrence UNIQUE (schedule_id, occurrence_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -25,19 +25,42 @@ CREATE TABLE IF NOT EXISTS schedules (
   end_time TIME NULL,
   is_all_day BIT(1) NOT NULL,
   is_recurring BIT(1) NOT NULL,
-  recurrence_rule VARCHAR(20) NULL,
+  recurrence_rule VARCHAR(255) NULL,
+  recurrence_until DATE NULL,
   status VARCHAR(20) NOT NULL,
   completion_rate INT NULL,
   reminder_minutes INT NULL,
   is_reminder_enabled BIT(1) NOT NULL,
   reminded BIT(1) NOT NULL DEFAULT b'0',
+  fire_at DATETIME(6) NULL,
   created_at DATETIME(6) NOT NULL,
   updated_at DATETIME(6) NULL,
   CONSTRAINT fk_schedules_users FOREIGN KEY (user_id) REFERENCES users(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
-CREATE INDEX idx_user_id ON schedules(user_id);
+CREATE INDEX idx_user_date_start ON schedules(user_id, schedule_date, start_time);
 CREATE INDEX idx_schedule_date ON schedules(schedule_date);
 CREATE INDEX idx_created_at ON schedules(created_at);
+CREATE INDEX idx_reminder_fire_at ON schedules(is_reminder_enabled, reminded, fire_at, user_id);
+CREATE INDEX idx_user_recurring ON schedules(user_id, is_recurring);
+CREATE INDEX idx_recurring_fire_at ON schedules(is_recurring, fire_at);
+
+-- 반복 일정 회차 예외 (특정 회차 취소/수정, 반복 일정 삭제 시 함께 삭제)
+CREATE TABLE IF NOT EXISTS schedule_recurrence_exceptions (
+  id VARCHAR(26) PRIMARY KEY,
+  schedule_id VARCHAR(26) NOT NULL,
+  occurrence_date DATE NOT NULL,
+  cancelled BIT(1) NOT NULL,
+  title VARCHAR(255) NULL,
+  description TEXT NULL,
+  color VARCHAR(7) NULL,
+  schedule_date DATE NULL,
+  start_time TIME NULL,
+  end_time TIME NULL,
+  created_at DATETIME(6) NOT NULL,
+  updated_at DATETIME(6) NULL,
+  CONSTRAINT fk_recurrence_exceptions_schedules FOREIGN KEY (schedule_id) REFERENCES schedules(id) ON DELETE CASCADE,
+  CONSTRAINT uk_recurrence_exception_occurrence UNIQUE (schedule_id, occurrence_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 
@@ -1,7 +1,9 @@
 package com.calendar.app.config;
 
+import com.calendar.app.dto.auth.TokenClaims;
 import com.calendar.app.service.JwtTokenProvider;
 import com.calendar.app.service.RedisService;
+import com.calendar.app.service.TokenBlacklist;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +23,7 @@ public class  JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,20 +35,24 @@ public class  JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
 
             if (StringUtils.hasText(token)) {
-                // 블랙리스트 검사 추가
-                if (redisService.isBlacklisted(token)) {
+                // 서명 검증은 한 번만: 검증된 클레임으로 블랙리스트 검사, 인증 객체 생성과 만료 임박 확인
+                TokenClaims claims = jwtTokenProvider.verify(token);
+
+                // 블랙리스트 검사 (jti로 조회, 로컬 블룸 필터에 없으면 Redis 조회 생략)
+                // 블랙리스트 항목은 토큰 만료 시각에 사라지므로 검증에 실패한 토큰은 확인하지 않음
+                if (claims != null && tokenBlacklist.isRevoked(token, claims.getTokenId())) {
                     log.warn("블랙리스트에 등록된 JWT 토큰 사용 시도: {}", requestURI);
                     SecurityContextHolder.clearContext();
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     return;
                 }
-                
-                if (jwtTokenProvider.validateToken(token)) {
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+                if (claims != null) {
+                    Authentication authentication = jwtTokenProvider.getAuthentication(claims);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     
                     // 토큰이 곧 만료될 예정이면 미리 갱신
-                    if (jwtTokenProvider.isTokenExpiringSoon(token)) {
+                    if (jwtTokenProvider.isTokenExpiringSoon(claims)) {
                         log.debug("JWT 토큰이 곧 만료될 예정, 미리 갱신: {}", requestURI);
                         String newToken = attemptTokenRefresh(request, response);
                         if (newToken != null) {
@@ -142,6 +149,8 @@ public class  JwtAuthenticationFilter extends OncePerRequestFilter {
 *
 * void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 * - 요청에서 JWT 토큰을 추출하고 검증하는 메서드
+* - 블랙리스트 확인은 검증된 토큰의 jti로 TokenBlacklist에서 (블룸 필터 음성이면 Redis 조회 없이 통과)
+* - 토큰은 한 번만 파싱/서명 검증 (verify), 검증된 클레임으로 인증 객체 생성과 만료 임박 확인
 * - 토큰이 유효하면 인증 객체를 생성하여 SecurityContext에 저장
 * - 토큰이 곧 만료될 예정이면 미리 갱신
 * - 토큰이 만료되면 자동으로 갱신을 시도
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "jwt")
@@ -11,4 +14,9 @@ public class JwtProperties {
     private String secretKey;
     private long accessTokenValidityInSeconds;
     private long refreshTokenValidityInSeconds;
-}
\ No newline at end of file
+    private String keyId; // 현재 서명 키 id (JWT 헤더 kid), 없으면 kid 없이 서명
+    private Map<String, String> previousKeys = new LinkedHashMap<>(); // 교체 전 키 (kid → secret, kid 없이 발급하던 키는 "default"), 검증에만 사용
+    private boolean statelessPrincipal = false; // true면 액세스 토큰 클레임(id, email, nickname)으로 principal 생성 (요청당 사용자 조회 없음)
+    private long userCacheTtlSeconds = 0; // 인증용 사용자 엔티티 캐시 TTL (클레임으로 principal을 못 만들 때), 기본 0 = 캐시 안 함 (켜면 다른 노드의 변경이 TTL만큼 늦게 반영)
+    private int userCacheSize = 10000; // 인증용 사용자 엔티티 캐시 최대 항목 수
+}
@@ -1,9 +1,11 @@
 package com.calendar.app.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
@@ -53,6 +55,15 @@ public class RedisConfig {
         
         return new LettuceConnectionFactory(config, clientConfig);
     }
+
+    // 노드 간 SSE 전달(RedisSseDeliveryBus), 월 캐시 무효화(ScheduleMonthCache), 토큰 폐기 알림(TokenBlacklist)용 pub/sub 구독 컨테이너
+    @Bean
+    @ConditionalOnExpression("${sse.cluster.enabled:false} or ${schedule.cache.redis.enabled:false} or ${auth.blacklist.bloom.enabled:false}")
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
 
 /*
@@ -69,4 +80,5 @@ public class RedisConfig {
     * - 명령어 타임아웃 설정
     * - 종료 타임아웃 설정
     * - 읽기 전용 복제본 우선 설정
+    * - sse.cluster.enabled, schedule.cache.redis.enabled, auth.blacklist.bloom.enabled 중 하나라도 true일 때 pub/sub 구독 컨테이너 등록
 */
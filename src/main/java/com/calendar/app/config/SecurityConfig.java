@@ -2,6 +2,7 @@ package com.calendar.app.config;
 
 import com.calendar.app.service.JwtTokenProvider;
 import com.calendar.app.service.RedisService;
+import com.calendar.app.service.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +25,7 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
+    private final TokenBlacklist tokenBlacklist;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
@@ -54,7 +56,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, redisService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, redisService, tokenBlacklist);
     }
 
     // Spring Security 인증/인가 규칙 설정
@@ -2,11 +2,13 @@ package com.calendar.app.controller;
 
 import com.calendar.app.dto.CommonResponse;
 import com.calendar.app.dto.auth.RefreshTokenRequest;
+import com.calendar.app.dto.auth.TokenClaims;
 import com.calendar.app.dto.auth.TokenDto;
 import com.calendar.app.service.AuthService;
 import com.calendar.app.service.JwtTokenProvider;
 import com.calendar.app.service.RedisService;
 import com.calendar.app.service.SsePushService;
+import com.calendar.app.service.TokenBlacklist;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -54,6 +56,7 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
     private final SsePushService ssePushService;
+    private final TokenBlacklist tokenBlacklist;
     private final UserRepository userRepository;
 
     @Value("${frontend.success-redirect}")
@@ -275,14 +278,14 @@ public class AuthController {
                     redisService.deleteRefreshToken(userEmail);
                     
                     // JWT 토큰을 블랙리스트에 추가 (선택사항)
-                    if (accessToken != null) {
-                        // 토큰 만료 시간까지 블랙리스트에 유지
-                        long expirationTime = jwtTokenProvider.getExpirationTimeFromToken(accessToken);
-                        long currentTime = System.currentTimeMillis();
-                        long timeToLive = Math.max(0, expirationTime - currentTime);
+                    // 이미 만료/위조된 토큰은 검증에 실패하므로 기록하지 않음
+                    TokenClaims claims = accessToken != null ? jwtTokenProvider.verify(accessToken) : null;
+                    if (claims != null) {
+                        // 토큰 만료 시간까지 블랙리스트에 유지 (키는 jti)
+                        long timeToLive = Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis());
                         
                         if (timeToLive > 0) {
-                            redisService.addToBlacklist(accessToken, timeToLive);
+                            tokenBlacklist.revoke(accessToken, claims.getTokenId(), timeToLive);
                             log.info("JWT 토큰을 블랙리스트에 추가: email={}, ttl={}ms", userEmail, timeToLive);
                         }
                     }
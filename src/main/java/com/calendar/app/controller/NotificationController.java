@@ -15,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -46,7 +47,8 @@ public class NotificationController {
 
     @Operation(summary = "SSE 구독 (세션 기반)", description = "세션 기반 인증으로 실시간 알림을 구독합니다. 토큰 노출 없이 안전합니다.")
     @GetMapping("/subscribe")
-    public SseEmitter subscribe(@AuthenticationPrincipal User user, HttpSession session) {
+    public SseEmitter subscribe(@AuthenticationPrincipal User user, HttpSession session,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         if (user == null) {
             throw new IllegalArgumentException("인증이 필요합니다");
         }
@@ -55,12 +57,13 @@ public class NotificationController {
         validateSessionSecurity(session, user);
         
         log.info("SSE 구독 시작: userId={}, email={}", user.getId(), user.getEmail());
-        return ssePushService.subscribe(user.getId());
+        return ssePushService.subscribe(user.getId(), lastEventId);
     }
 
     @Operation(summary = "SSE 구독 (세션 기반 - 대안)", description = "HttpSession을 직접 사용하여 SSE를 구독합니다.")
     @GetMapping("/subscribe-session")
-    public SseEmitter subscribeWithSession(HttpSession session) {
+    public SseEmitter subscribeWithSession(HttpSession session,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         String userId = (String) session.getAttribute("userId");
         if (userId == null) {
             // 세션에 userId가 없으면 현재 인증된 사용자에서 추출
@@ -79,7 +82,7 @@ public class NotificationController {
         validateSessionSecurity(session, null);
         
         log.info("SSE 구독 시작 (세션): userId={}", userId);
-        return ssePushService.subscribe(userId);
+        return ssePushService.subscribe(userId, lastEventId);
     }
 
     @Operation(summary = "토큰 조회 (세션 기반)", description = "세션에서 토큰을 안전하게 조회합니다.")
@@ -211,7 +214,8 @@ public class NotificationController {
 
     @Operation(summary = "SSE 구독(쿼리 토큰)", description = "EventSource에서 Authorization 헤더 없이 토큰 쿼리로 구독합니다. (기존 호환성 유지)")
     @GetMapping("/subscribe-public")
-    public SseEmitter subscribeWithToken(@RequestParam("token") String token) {
+    public SseEmitter subscribeWithToken(@RequestParam("token") String token,
+                                         @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         if (!jwtTokenProvider.validateToken(token)) {
             throw new IllegalArgumentException("유효하지 않은 토큰입니다");
         }
@@ -220,14 +224,15 @@ public class NotificationController {
             new IllegalArgumentException("사용자를 찾을 수 없습니다"));
         
         log.info("SSE 구독 시작 (토큰): userId={}, email={}", user.getId(), user.getEmail());
-        return ssePushService.subscribe(user.getId());
+        return ssePushService.subscribe(user.getId(), lastEventId);
     }
 
     // 프론트 호환용 별칭: /api/notifications/stream?token=...
     @Operation(summary = "SSE 스트림(별칭)", description = "subscribe-public과 동일 동작. 프론트 호환용 경로")
     @GetMapping("/stream")
-    public SseEmitter stream(@RequestParam("token") String token) {
-        return subscribeWithToken(token);
+    public SseEmitter stream(@RequestParam("token") String token,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return subscribeWithToken(token, lastEventId);
     }
 
     @Operation(summary = "테스트 이벤트 발송", description = "클라이언트 연결 확인을 위한 테스트 SSE 이벤트를 발송합니다.")
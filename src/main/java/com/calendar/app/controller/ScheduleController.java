@@ -2,13 +2,20 @@ package com.calendar.app.controller;
 
 
 import com.calendar.app.dto.CommonResponse;
+import com.calendar.app.dto.schedule.ScheduleBatchRequest;
+import com.calendar.app.dto.schedule.ScheduleBatchResponse;
+import com.calendar.app.dto.schedule.ScheduleCursorPage;
+import com.calendar.app.dto.schedule.ScheduleDaySummaryResponse;
+import com.calendar.app.dto.schedule.ScheduleImportResponse;
 import com.calendar.app.dto.schedule.ScheduleRequest;
 import com.calendar.app.dto.schedule.ScheduleResponse;
 import com.calendar.app.dto.schedule.ReminderEnabledResponse;
 import com.calendar.app.entity.User;
 import com.calendar.app.exception.ScheduleNotFoundException;
 import com.calendar.app.exception.UnauthorizedAccessException;
+import com.calendar.app.service.ScheduleIcsService;
 import com.calendar.app.service.ScheduleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,11 +27,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -37,6 +54,13 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleIcsService scheduleIcsService;
+    private final ObjectMapper objectMapper;
+
+    // 목록 응답은 사용자별이므로 공유 캐시 금지, 클라이언트는 매번 ETag로 재검증
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
 
     // === CRUD 작업 ===
 
@@ -60,6 +84,30 @@ public class ScheduleController {
         return ResponseEntity.ok(new CommonResponse<>(true, "스케줄이 성공적으로 생성되었습니다.", response));
     }
 
+    @Operation(
+        summary = "스케줄 일괄 처리",
+        description = "여러 일정의 생성(CREATE)/수정(UPDATE)/삭제(DELETE)를 한 트랜잭션으로 처리합니다. (최대 500건) "
+                + "잘못된 항목은 건너뛰고 항목별 결과(status)로 알려줍니다."
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<CommonResponse<ScheduleBatchResponse>> applyBatch(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user,
+            @RequestBody ScheduleBatchRequest request
+    ) {
+        try {
+            ScheduleBatchResponse response = scheduleService.applyBatch(user, request.getOperations());
+            return ResponseEntity.ok(new CommonResponse<>(true, "일괄 처리 완료 (성공 " + response.getSucceeded()
+                    + "건, 실패 " + response.getFailed() + "건)", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "일괄 처리에 실패했습니다: " + e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("스케줄 일괄 처리 중 오류 발생", e);
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "일괄 처리에 실패했습니다: " + e.getMessage(), null));
+        }
+    }
+
     @Operation(
         summary = "스케줄 조회",
         description = "특정 일정의 상세 정보를 조회합니다."
@@ -160,6 +208,53 @@ public class ScheduleController {
         }
     }
 
+    // 반복 일정 회차 하나 취소 (date: 회차의 occurrenceDate)
+    @DeleteMapping("/{scheduleId}/occurrences/{date}")
+    public ResponseEntity<CommonResponse<Void>> cancelOccurrence(
+            @AuthenticationPrincipal User user,
+            @PathVariable String scheduleId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        try {
+            scheduleService.cancelOccurrence(user, scheduleId, date);
+            return ResponseEntity.ok(new CommonResponse<>(true, "반복 일정 회차가 취소되었습니다.", null));
+        } catch (ScheduleNotFoundException e) {
+            log.error("스케줄을 찾을 수 없음", e);
+            return ResponseEntity.notFound().build();
+        } catch (UnauthorizedAccessException e) {
+            log.error("권한 없음", e);
+            return ResponseEntity.status(403).build();
+        } catch (Exception e) {
+            log.error("반복 회차 취소 중 오류 발생", e);
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "반복 회차 취소에 실패했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    // 반복 일정 회차 하나 수정 (요청에서 비운 값은 원본 값 사용)
+    @PutMapping("/{scheduleId}/occurrences/{date}")
+    public ResponseEntity<CommonResponse<ScheduleResponse>> modifyOccurrence(
+            @AuthenticationPrincipal User user,
+            @PathVariable String scheduleId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestBody ScheduleRequest request
+    ) {
+        try {
+            ScheduleResponse response = scheduleService.modifyOccurrence(user, scheduleId, date, request);
+            return ResponseEntity.ok(new CommonResponse<>(true, "반복 일정 회차가 수정되었습니다.", response));
+        } catch (ScheduleNotFoundException e) {
+            log.error("스케줄을 찾을 수 없음", e);
+            return ResponseEntity.notFound().build();
+        } catch (UnauthorizedAccessException e) {
+            log.error("권한 없음", e);
+            return ResponseEntity.status(403).build();
+        } catch (Exception e) {
+            log.error("반복 회차 수정 중 오류 발생", e);
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "반복 회차 수정에 실패했습니다: " + e.getMessage(), null));
+        }
+    }
+
     // === 조회 작업 ===
 
     @Operation(
@@ -185,14 +280,114 @@ public class ScheduleController {
         }
     }
 
-    // 오늘의 스케줄 조회
+    @Operation(
+        summary = "전체 스케줄 커서 페이지 조회",
+        description = "전체 일정을 최신 날짜순으로 size개씩 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다."
+    )
+    @GetMapping("/page")
+    public ResponseEntity<CommonResponse<ScheduleCursorPage>> getSchedulePage(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)")
+            @RequestParam(required = false) Integer size
+    ) {
+        try {
+            ScheduleCursorPage page = scheduleService.getSchedulePage(user, cursor, size);
+            return ResponseEntity.ok(new CommonResponse<>(true, "스케줄 페이지 조회 성공", page));
+        } catch (Exception e) {
+            log.error("스케줄 페이지 조회 중 오류 발생", e);
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "스케줄 조회에 실패했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    @Operation(
+        summary = "전체 스케줄 스트리밍 조회",
+        description = "전체 일정을 한 줄에 하나씩 NDJSON(application/x-ndjson)으로 스트리밍합니다."
+    )
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllSchedules(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user
+    ) {
+        StreamingResponseBody body = out -> {
+            int count = scheduleService.streamAllSchedules(user, schedule -> writeLine(out, schedule));
+            out.flush();
+            log.debug("전체 스케줄 스트리밍 완료 - 사용자: {}, 건수: {}", user.getNickname(), count);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Operation(
+        summary = "iCalendar 내보내기",
+        description = "전체 일정을 RFC 5545 iCalendar(.ics) 파일로 스트리밍합니다. 시간 일정은 UTC, 알림은 VALARM으로 내보냅니다. "
+                + "반복 일정은 RRULE과 취소/수정된 회차의 EXDATE로, 수정된 회차는 별도 일정으로 내보냅니다."
+    )
+    @GetMapping(value = "/export.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> exportIcs(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user
+    ) {
+        StreamingResponseBody body = out -> {
+            int count = scheduleIcsService.exportIcs(user, out);
+            log.debug("iCalendar 내보내기 완료 - 사용자: {}, 건수: {}", user.getNickname(), count);
+        };
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("schedules.ics").build().toString())
+                .body(body);
+    }
+
+    @Operation(
+        summary = "iCalendar 가져오기",
+        description = "요청 본문의 iCalendar(.ics) 일정을 저장합니다. (최대 100,000건, 한 트랜잭션) "
+                + "형식이 잘못된 일정은 건너뜁니다. 반복 규칙(RRULE)은 반복 일정으로, EXDATE는 회차 취소로 저장하며 "
+                + "지원하지 않는 규칙(BYSETPOS 등)은 첫 회차만 가져옵니다."
+    )
+    @PostMapping(value = "/import", consumes = {"text/calendar", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<CommonResponse<ScheduleImportResponse>> importIcs(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user,
+            InputStream body
+    ) {
+        try {
+            ScheduleImportResponse response = scheduleIcsService.importIcs(user, body);
+            return ResponseEntity.ok(new CommonResponse<>(true, "가져오기 완료 (저장 " + response.getImported()
+                    + "건, 건너뜀 " + response.getSkipped() + "건)", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "가져오기에 실패했습니다: " + e.getMessage(), null));
+        } catch (Exception e) {
+            log.error("iCalendar 가져오기 중 오류 발생", e);
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "가져오기에 실패했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    // NDJSON 한 줄 쓰기 (writeValue(OutputStream)는 스트림을 닫으므로 바이트로 변환 후 기록)
+    private void writeLine(OutputStream out, ScheduleResponse schedule) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(schedule));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 오늘의 스케줄 조회 (목록용: description은 includeDescription=true일 때만, 날짜가 바뀌면 ETag도 바뀜)
     @GetMapping("/today")
     public ResponseEntity<CommonResponse<List<ScheduleResponse>>> getTodaySchedules(
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
-            List<ScheduleResponse> schedules = scheduleService.getTodaySchedules(user);
-            return ResponseEntity.ok(new CommonResponse<>(true, "오늘의 스케줄 조회 성공", schedules));
+            String version = scheduleService.getScheduleVersion(user);
+            String eTag = listETag(version, LocalDate.now().toString());
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            List<ScheduleResponse> schedules = scheduleService.getTodaySchedules(user, includeDescription, version);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL)
+                    .body(new CommonResponse<>(true, "오늘의 스케줄 조회 성공", schedules));
         } catch (Exception e) {
             log.error("오늘의 스케줄 조회 중 오류 발생", e);
             return ResponseEntity.badRequest()
@@ -200,15 +395,23 @@ public class ScheduleController {
         }
     }
 
-    // 특정 날짜 스케줄 조회
+    // 특정 날짜 스케줄 조회 (목록용: description은 includeDescription=true일 때만)
     @GetMapping("/date/{date}")
     public ResponseEntity<CommonResponse<List<ScheduleResponse>>> getSchedulesByDate(
             @AuthenticationPrincipal User user,
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
-            List<ScheduleResponse> schedules = scheduleService.getSchedulesByDate(user, date);
-            return ResponseEntity.ok(new CommonResponse<>(true, "특정 날짜 스케줄 조회 성공", schedules));
+            String version = scheduleService.getScheduleVersion(user);
+            String eTag = listETag(version, null);
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            List<ScheduleResponse> schedules = scheduleService.getSchedulesByDate(user, date, includeDescription, version);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL)
+                    .body(new CommonResponse<>(true, "특정 날짜 스케줄 조회 성공", schedules));
         } catch (Exception e) {
             log.error("특정 날짜 스케줄 조회 중 오류 발생", e);
             return ResponseEntity.badRequest()
@@ -216,16 +419,24 @@ public class ScheduleController {
         }
     }
 
-    // 날짜 범위 스케줄 조회
+    // 날짜 범위 스케줄 조회 (목록용: description은 includeDescription=true일 때만)
     @GetMapping("/range")
     public ResponseEntity<CommonResponse<List<ScheduleResponse>>> getSchedulesByDateRange(
             @AuthenticationPrincipal User user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean includeDescription,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         try {
-            List<ScheduleResponse> schedules = scheduleService.getSchedulesByDateRange(user, startDate, endDate);
-            return ResponseEntity.ok(new CommonResponse<>(true, "날짜 범위 스케줄 조회 성공", schedules));
+            String version = scheduleService.getScheduleVersion(user);
+            String eTag = listETag(version, null);
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            List<ScheduleResponse> schedules = scheduleService.getSchedulesByDateRange(user, startDate, endDate, includeDescription, version);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL)
+                    .body(new CommonResponse<>(true, "날짜 범위 스케줄 조회 성공", schedules));
         } catch (Exception e) {
             log.error("날짜 범위 스케줄 조회 중 오류 발생", e);
             return ResponseEntity.badRequest()
@@ -233,6 +444,65 @@ public class ScheduleController {
         }
     }
 
+    @Operation(
+        summary = "월간 요약 조회",
+        description = "기간 내 날짜별 일정 수, 가장 이른 시작 시간, 색상 목록을 조회합니다. 일정이 없는 날짜는 포함하지 않습니다."
+    )
+    @GetMapping("/summary")
+    public ResponseEntity<CommonResponse<List<ScheduleDaySummaryResponse>>> getDaySummaries(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        try {
+            String version = scheduleService.getScheduleVersion(user);
+            String eTag = listETag(version, null);
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+            List<ScheduleDaySummaryResponse> days = scheduleService.getDaySummaries(user, startDate, endDate, version);
+            return ResponseEntity.ok().eTag(eTag).cacheControl(LIST_CACHE_CONTROL)
+                    .body(new CommonResponse<>(true, "월간 요약 조회 성공", days));
+        } catch (Exception e) {
+            log.error("월간 요약 조회 중 오류 발생", e);
+            return ResponseEntity.badRequest()
+                    .body(new CommonResponse<>(false, "월간 요약 조회에 실패했습니다: " + e.getMessage(), null));
+        }
+    }
+
+    // 목록 ETag: 사용자 일정 버전(+ 구분값), 버전을 모르면 null (ETag 없이 응답)
+    // URL(날짜, 범위, includeDescription)마다 따로 캐시되므로 버전만으로 충분
+    // 같은 버전을 조회에도 넘겨 이전 버전에서 캐시된 목록이 새 ETag로 나가지 않게 함
+    private static String listETag(String version, String suffix) {
+        if (version == null) {
+            return null;
+        }
+        return "\"" + version + (suffix == null ? "" : "-" + suffix) + "\"";
+    }
+
+    // If-None-Match 비교 (여러 값, 약한 ETag W/ 허용)
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 304: 일정 조회/직렬화 없이 응답
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(LIST_CACHE_CONTROL).build();
+    }
+
     // 시작 시각 도달 시 수동 트리거 API
     @PostMapping("/{scheduleId}/trigger-start")
     public ResponseEntity<CommonResponse<ScheduleResponse>> triggerStartReminder(
@@ -0,0 +1,25 @@
+package com.calendar.app.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명/만료 검증을 마친 토큰 클레임 (요청당 한 번 파싱해 인증 필터 안에서 재사용)
+@Getter
+@Builder
+@AllArgsConstructor
+public class TokenClaims {
+    private final String subject; // 이메일 (sub)
+    private final String tokenId; // jti (도입 전 발급된 토큰은 null)
+    private final String id; // 사용자 id (액세스 토큰만)
+    private final String email; // 액세스 토큰만
+    private final String nickname; // 액세스 토큰만
+    private final Date expiration;
+
+    // 만료까지 남은 시간(초), 만료되었으면 0 이하
+    public long remainingSeconds(long nowMs) {
+        return (expiration.getTime() - nowMs) / 1000;
+    }
+}
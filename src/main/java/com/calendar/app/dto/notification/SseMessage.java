@@ -0,0 +1,18 @@
+package com.calendar.app.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 노드 간 SSE 전달 메시지 (사용자, 이벤트 이름, 이벤트 id, 인코딩된 SSE 프레임)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseMessage {
+    private String userId;
+    private String event;
+    private String id;
+    private byte[] frame;
+}
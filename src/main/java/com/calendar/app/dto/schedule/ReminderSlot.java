@@ -0,0 +1,32 @@
+package com.calendar.app.dto.schedule;
+
+import java.time.LocalDateTime;
+
+// 알림 휠 적재용 경량 프로젝션 (엔티티 전체 대신 id, 샤드 판별용 userId, 발송 시각만 조회)
+public interface ReminderSlot {
+    String getId();
+    String getUserId();
+    LocalDateTime getFireAt();
+
+    // 조회 없이 만든 슬롯 (가져오기처럼 엔티티를 이벤트에 싣지 않을 때)
+    static ReminderSlot of(String id, String userId, LocalDateTime fireAt) {
+        return new Value(id, userId, fireAt);
+    }
+
+    record Value(String id, String userId, LocalDateTime fireAt) implements ReminderSlot {
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getUserId() {
+            return userId;
+        }
+
+        @Override
+        public LocalDateTime getFireAt() {
+            return fireAt;
+        }
+    }
+}
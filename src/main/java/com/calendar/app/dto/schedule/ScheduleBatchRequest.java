@@ -0,0 +1,31 @@
+package com.calendar.app.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 일괄 생성/수정/삭제 요청 (한 트랜잭션, 순서대로 처리)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleBatchRequest {
+    private List<Operation> operations;
+
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+        private Type type;
+        private String scheduleId; // UPDATE, DELETE 대상
+        private ScheduleRequest schedule; // CREATE, UPDATE 내용
+    }
+}
@@ -0,0 +1,30 @@
+package com.calendar.app.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일괄 처리 결과 (요청 순서와 같은 항목별 결과, 실패 항목은 건너뛰고 나머지는 반영)
+@Getter
+@AllArgsConstructor
+public class ScheduleBatchResponse {
+    private List<Result> results;
+    private int succeeded;
+    private int failed;
+
+    public enum Status {
+        OK, INVALID, NOT_FOUND, FORBIDDEN
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private int index;
+        private ScheduleBatchRequest.Type type;
+        private String scheduleId;
+        private Status status;
+        private String message;
+        private ScheduleResponse schedule; // CREATE, UPDATE 성공 시
+    }
+}
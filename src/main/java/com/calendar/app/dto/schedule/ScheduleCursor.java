@@ -0,0 +1,36 @@
+package com.calendar.app.dto.schedule;
+
+import com.calendar.app.entity.Schedule;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 전체 목록 keyset 커서: 마지막으로 받은 일정의 (날짜, 시작 시간, id), 클라이언트에는 불투명 문자열로 전달
+public record ScheduleCursor(LocalDate scheduleDate, LocalTime startTime, String id) {
+
+    public static ScheduleCursor of(Schedule schedule) {
+        return new ScheduleCursor(schedule.getScheduleDate(), schedule.getStartTime(), schedule.getId());
+    }
+
+    public String encode() {
+        String raw = scheduleDate + "|" + (startTime != null ? startTime : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScheduleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || parts[2].isEmpty()) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalTime startTime = parts[1].isEmpty() ? null : LocalTime.parse(parts[1]);
+            return new ScheduleCursor(LocalDate.parse(parts[0]), startTime, parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.calendar.app.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 전체 목록 커서 페이지 (hasNext면 nextCursor로 다음 페이지 요청)
+@Getter
+@AllArgsConstructor
+public class ScheduleCursorPage {
+    private List<ScheduleResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,12 @@
+package com.calendar.app.dto.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 월간 요약 집계 행: (날짜, 색상)별 일정 수와 가장 이른 시작 시간 (GROUP BY 결과, 일정 행은 전송하지 않음)
+public interface ScheduleDayColorCount {
+    LocalDate getScheduleDate();
+    String getColor();
+    Long getCount();
+    LocalTime getEarliestStartTime();
+}
@@ -0,0 +1,18 @@
+package com.calendar.app.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 월간 그리드용 날짜별 요약 (일정 수, 가장 이른 시작 시간(종일 일정만 있으면 null), 표시 색상 목록)
+@Getter
+@AllArgsConstructor
+public class ScheduleDaySummaryResponse {
+    private LocalDate date;
+    private long count;
+    private LocalTime earliestStartTime;
+    private List<String> colors;
+}
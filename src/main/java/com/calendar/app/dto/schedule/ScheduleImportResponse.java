@@ -0,0 +1,15 @@
+package com.calendar.app.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// iCalendar 가져오기 결과 (형식이 잘못된 일정은 건너뛰고 나머지는 저장)
+@Getter
+@AllArgsConstructor
+public class ScheduleImportResponse {
+    private int imported;
+    private int skipped;
+    private List<String> errors; // 건너뛴 일정 사유 (최대 20개)
+}
@@ -23,6 +23,9 @@ public class ScheduleRequest {
     private LocalTime startTime; // 시작 시간
     private LocalTime endTime; // 종료 시간
 
+    // === 반복 설정 ===
+    private String recurrenceRule; // 반복 규칙 (RRULE, 예: "FREQ=WEEKLY;BYDAY=MO,WE", 없으면 단일 일정)
+
     // === 알림 설정 ===
     private Integer reminderMinutes; // 알림 시간 (분 전)
     private Boolean isReminderEnabled; // 알림 활성화 여부
@@ -26,6 +26,10 @@ public class ScheduleResponse {
     private LocalTime startTime;
     private LocalTime endTime;
 
+    // === 반복 정보 ===
+    private String recurrenceRule; // 반복 규칙 (반복 일정 원본/회차)
+    private LocalDate occurrenceDate; // 회차의 규칙상 날짜 (회차 취소/수정 API에 사용, 단일 일정/원본은 null)
+
     // === 알림 설정 ===
     private Integer reminderMinutes;
     private boolean isReminderEnabled;
@@ -45,10 +49,27 @@ public class ScheduleResponse {
                 .scheduleDate(schedule.getScheduleDate())
                 .startTime(schedule.getStartTime())
                 .endTime(schedule.getEndTime())
+                .recurrenceRule(schedule.getRecurrenceRule())
                 .reminderMinutes(schedule.getReminderMinutes())
                 .isReminderEnabled(schedule.isReminderEnabled())
                 .createdAt(schedule.getCreatedAt())
                 .updatedAt(schedule.getUpdatedAt())
                 .build();
     }
+
+    // 목록 프로젝션에서 변환 (description 없음)
+    public static ScheduleResponse from(ScheduleSummary summary) {
+        return ScheduleResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .color(summary.getColor())
+                .scheduleDate(summary.getScheduleDate())
+                .startTime(summary.getStartTime())
+                .endTime(summary.getEndTime())
+                .reminderMinutes(summary.getReminderMinutes())
+                .isReminderEnabled(Boolean.TRUE.equals(summary.getReminderEnabled()))
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.calendar.app.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 반복 일정 원본 + 회차 예외 (사용자 단위로 캐시, 조회 범위만큼 회차로 펼침)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSeries {
+    private ScheduleResponse schedule; // 원본 (scheduleDate = 첫 회차, recurrenceRule = 정규화된 규칙)
+    private LocalDate until; // 마지막 회차 날짜 (끝이 없으면 null)
+    private List<Modification> modifications; // 취소/수정된 회차 (occurrenceDate 순)
+
+    // 회차 예외 (null 필드는 원본 값 사용)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Modification {
+        private LocalDate occurrenceDate; // 규칙상 회차 날짜
+        private boolean cancelled;
+        private String title;
+        private String description;
+        private String color;
+        private LocalDate scheduleDate; // 옮긴 날짜
+        private LocalTime startTime;
+        private LocalTime endTime;
+    }
+}
@@ -0,0 +1,20 @@
+package com.calendar.app.dto.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 목록 조회용 프로젝션 (엔티티 대신 필요한 컬럼만, TEXT인 description 제외 → 영속성 컨텍스트/스냅샷 없음)
+public interface ScheduleSummary {
+    String getId();
+    String getTitle();
+    String getColor();
+    LocalDate getScheduleDate();
+    LocalTime getStartTime();
+    LocalTime getEndTime();
+    Integer getReminderMinutes();
+    Boolean getReminderEnabled();
+    Boolean getRecurring(); // 반복 일정 원본이면 true (목록에서는 제외하고 회차로 펼침)
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -14,9 +14,12 @@ import java.time.LocalTime;
 @NoArgsConstructor @AllArgsConstructor
 @Entity
 @Table(name = "schedules", indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_user_date_start", columnList = "user_id, schedule_date, start_time"),
         @Index(name = "idx_schedule_date", columnList = "schedule_date"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        @Index(name = "idx_created_at", columnList = "created_at"),
+        @Index(name = "idx_reminder_fire_at", columnList = "is_reminder_enabled, reminded, fire_at, user_id"),
+        @Index(name = "idx_user_recurring", columnList = "user_id, is_recurring"),
+        @Index(name = "idx_recurring_fire_at", columnList = "is_recurring, fire_at")
 })
 public class Schedule {
 
@@ -52,7 +55,16 @@ public class Schedule {
     @Column(name = "end_time")
     private LocalTime endTime; // 종료 시간 (null이면 종일 일정)
 
+    // === 반복 설정 ===
+    @Column(name = "is_recurring", nullable = false)
+    @Builder.Default
+    private boolean isRecurring = false; // 반복 일정 여부 (true면 이 행은 원본, 회차는 조회 범위만큼 펼침)
+
+    @Column(name = "recurrence_rule", length = 255)
+    private String recurrenceRule; // 반복 규칙 (RRULE, 예: "FREQ=WEEKLY;BYDAY=MO,WE")
 
+    @Column(name = "recurrence_until")
+    private LocalDate recurrenceUntil; // 마지막 회차 날짜 (끝이 없으면 null, COUNT 규칙은 저장 시 계산)
 
     // === 알림 설정 ===
     @Column(name = "reminder_minutes")
@@ -66,6 +78,9 @@ public class Schedule {
     @Builder.Default
     private boolean reminded = false; // 시작 시점 알림 발송 완료 여부 (알림 중복 방지)
 
+    @Column(name = "fire_at")
+    private LocalDateTime fireAt; // 알림 발송 시각 (일정 날짜 + 시작 시간 - reminderMinutes, 시작 시간 없으면 null, 반복 일정은 다음 회차 기준)
+
 
     // === 메타데이터 ===
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -74,6 +89,16 @@ public class Schedule {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 알림 발송 시각 재계산 (일정 날짜/시작 시간/알림 분 변경 시 호출)
+    public void refreshFireAt() {
+        if (this.scheduleDate == null || this.startTime == null) {
+            this.fireAt = null;
+            return;
+        }
+        int minutesBefore = this.reminderMinutes != null ? Math.max(this.reminderMinutes, 0) : 0;
+        this.fireAt = this.scheduleDate.atTime(this.startTime).minusMinutes(minutesBefore);
+    }
+
     @PrePersist
     public void prePersist() {
         if (this.id == null) {
@@ -98,7 +123,10 @@ public class Schedule {
     * User 엔티티와 다대일 관계 설정 (ManyToOne)
     * 일정의 기본 정보, 날짜/시간, 알림 설정, 메타데이터 필드 포함
     * @PrePersist, @PreUpdate 메서드를 통해 생성 및 수정 시간 자동 설정
-    * 인덱스를 통해 조회 성능 최적화 (user_id, schedule_date, created_at)
+    * 인덱스를 통해 조회 성능 최적화 ((user_id, schedule_date, start_time), schedule_date, created_at)
+    * 사용자 + 날짜 조건, 날짜/시작 시간 정렬 조회는 idx_user_date_start 한 번의 범위 스캔으로 처리 (index merge/filesort 없음, PK(id)는 인덱스에 포함)
+    * fire_at(알림 발송 시각)을 미리 계산해 저장하고 (is_reminder_enabled, reminded, fire_at) 인덱스로 범위 조회
+    * 반복 일정은 원본 한 행(is_recurring, recurrence_rule)만 저장, 회차 예외는 ScheduleRecurrenceException
     * @JsonIgnore를 사용하여 순환 참조 방지
     *
     * 개선사항:
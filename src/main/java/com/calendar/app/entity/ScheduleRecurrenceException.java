@@ -0,0 +1,87 @@
+package com.calendar.app.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.f4b6a3.ulid.UlidCreator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(name = "schedule_recurrence_exceptions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recurrence_exception_occurrence", columnNames = {"schedule_id", "occurrence_date"})
+})
+public class ScheduleRecurrenceException {
+
+    @Id
+    @Column(length = 26, updatable = false, nullable = false)
+    private String id;
+
+    @JsonIgnore // 순환 참조 방지
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE) // 원본 삭제 시 DB가 함께 삭제 (예외를 따로 조회/삭제하지 않음)
+    @ToString.Exclude
+    private Schedule schedule; // 반복 일정 원본
+
+    @Column(name = "occurrence_date", nullable = false, updatable = false)
+    private LocalDate occurrenceDate; // 규칙상 회차 날짜 (원래 날짜)
+
+    @Column(name = "cancelled", nullable = false)
+    @Builder.Default
+    private boolean cancelled = false; // 회차 취소 여부 (true면 아래 값은 무시)
+
+    // === 회차 수정 값 (null이면 원본 값 사용) ===
+    @Column(length = 255)
+    private String title;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(length = 7)
+    private String color;
+
+    @Column(name = "schedule_date")
+    private LocalDate scheduleDate; // 옮긴 날짜
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    // === 메타데이터 ===
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.id == null) {
+            this.id = UlidCreator.getUlid().toString();
+        }
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
+
+/*
+    * ScheduleRecurrenceException.java
+    * 반복 일정의 회차 예외 (RFC 5545의 EXDATE/RECURRENCE-ID에 해당)
+    * 회차 행을 미리 만들지 않으므로 특정 회차를 취소하거나 바꿀 때만 (schedule_id, occurrence_date)로 한 행 저장
+    * 원본 삭제 시 FK ON DELETE CASCADE, 규칙/시작 날짜가 바뀌면 기존 예외는 모두 삭제
+ */
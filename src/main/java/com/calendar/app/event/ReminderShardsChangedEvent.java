@@ -0,0 +1,19 @@
+package com.calendar.app.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+@Getter
+public class ReminderShardsChangedEvent extends ApplicationEvent {
+
+    private final Set<Integer> acquired;
+    private final Set<Integer> released;
+
+    public ReminderShardsChangedEvent(Object source, Set<Integer> acquired, Set<Integer> released) {
+        super(source);
+        this.acquired = acquired;
+        this.released = released;
+    }
+}
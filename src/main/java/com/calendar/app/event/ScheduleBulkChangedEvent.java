@@ -0,0 +1,58 @@
+package com.calendar.app.event;
+
+import com.calendar.app.dto.schedule.ReminderSlot;
+import com.calendar.app.entity.Schedule;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// 일괄 처리 결과를 한 번에 알리는 이벤트 (항목마다 생성/수정/삭제 이벤트를 발행하지 않음)
+@Getter
+public class ScheduleBulkChangedEvent extends ApplicationEvent {
+
+    private final String userId;
+    private final List<Schedule> created;
+    private final List<Schedule> updated;
+    private final List<Schedule> deleted;
+    private final Set<LocalDate> extraDates; // 목록 밖의 변경 날짜 (수정 전 날짜, 가져오기처럼 일정 목록을 싣지 않는 생성의 날짜)
+    private final boolean seriesChanged; // 반복 일정이 바뀌었는지 (수정 전 반복 일정 포함)
+    private final List<ReminderSlot> reminderSlots; // 엔티티 대신 싣는 알림 대기 슬롯 (가져오기처럼 대량 생성, 커밋까지 엔티티를 잡아 두지 않음)
+
+    public ScheduleBulkChangedEvent(Object source, String userId, List<Schedule> created, List<Schedule> updated,
+                                    List<Schedule> deleted, Set<LocalDate> extraDates) {
+        this(source, userId, created, updated, deleted, extraDates, false);
+    }
+
+    public ScheduleBulkChangedEvent(Object source, String userId, List<Schedule> created, List<Schedule> updated,
+                                    List<Schedule> deleted, Set<LocalDate> extraDates, boolean seriesChanged) {
+        this(source, userId, created, updated, deleted, extraDates, seriesChanged, List.of());
+    }
+
+    public ScheduleBulkChangedEvent(Object source, String userId, List<Schedule> created, List<Schedule> updated,
+                                    List<Schedule> deleted, Set<LocalDate> extraDates, boolean seriesChanged,
+                                    List<ReminderSlot> reminderSlots) {
+        super(source);
+        this.userId = userId;
+        this.created = created;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.extraDates = extraDates;
+        this.reminderSlots = reminderSlots;
+        this.seriesChanged = seriesChanged
+                || Stream.of(created, updated, deleted).flatMap(List::stream).anyMatch(Schedule::isRecurring);
+    }
+
+    // 변경된 일정의 날짜 전체 (extraDates 포함)
+    public Set<LocalDate> affectedDates() {
+        Set<LocalDate> dates = new LinkedHashSet<>(extraDates);
+        created.forEach(schedule -> dates.add(schedule.getScheduleDate()));
+        updated.forEach(schedule -> dates.add(schedule.getScheduleDate()));
+        deleted.forEach(schedule -> dates.add(schedule.getScheduleDate()));
+        return dates;
+    }
+}
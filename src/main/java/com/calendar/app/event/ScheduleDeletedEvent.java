@@ -0,0 +1,10 @@
+package com.calendar.app.event;
+
+import com.calendar.app.entity.Schedule;
+
+public class ScheduleDeletedEvent extends ScheduleEvent {
+    
+    public ScheduleDeletedEvent(Object source, Schedule schedule) {
+        super(source, schedule);
+    }
+}
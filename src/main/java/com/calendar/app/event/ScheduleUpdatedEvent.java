@@ -1,10 +1,44 @@
 package com.calendar.app.event;
 
 import com.calendar.app.entity.Schedule;
+import lombok.Getter;
 
+import java.time.LocalDate;
+
+@Getter
 public class ScheduleUpdatedEvent extends ScheduleEvent {
-    
+
+    // 수정 전 일정 날짜 (날짜가 바뀐 경우 이전 달 캐시 무효화용, 모르면 null)
+    private final LocalDate previousScheduleDate;
+
+    // 수정 전 반복 일정이었는지 (반복을 해제한 경우에도 반복 일정 캐시 무효화용)
+    private final boolean previousRecurring;
+
+    // 제목/날짜/시간 등 일정 내용이 바뀌었는지 (알림 설정이나 반복 회차 예외만 바뀐 경우 false → 수정 푸시 없음)
+    private final boolean contentChanged;
+
     public ScheduleUpdatedEvent(Object source, Schedule schedule) {
+        this(source, schedule, null);
+    }
+
+    public ScheduleUpdatedEvent(Object source, Schedule schedule, LocalDate previousScheduleDate) {
+        this(source, schedule, previousScheduleDate, schedule.isRecurring());
+    }
+
+    public ScheduleUpdatedEvent(Object source, Schedule schedule, LocalDate previousScheduleDate, boolean previousRecurring) {
+        this(source, schedule, previousScheduleDate, previousRecurring, true);
+    }
+
+    private ScheduleUpdatedEvent(Object source, Schedule schedule, LocalDate previousScheduleDate, boolean previousRecurring,
+                                 boolean contentChanged) {
         super(source, schedule);
+        this.previousScheduleDate = previousScheduleDate;
+        this.previousRecurring = previousRecurring;
+        this.contentChanged = contentChanged;
+    }
+
+    // 알림 설정/회차 예외만 바뀐 수정 (알림 휠, 캐시, ETag만 갱신하고 사용자에게 수정 푸시는 보내지 않음)
+    public static ScheduleUpdatedEvent stateChanged(Object source, Schedule schedule) {
+        return new ScheduleUpdatedEvent(source, schedule, null, schedule.isRecurring(), false);
     }
 }
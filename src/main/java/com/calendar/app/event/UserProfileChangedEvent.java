@@ -0,0 +1,15 @@
+package com.calendar.app.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class UserProfileChangedEvent extends ApplicationEvent {
+
+    private final String email;
+
+    public UserProfileChangedEvent(Object source, String email) {
+        super(source);
+        this.email = email;
+    }
+}
@@ -1,15 +1,21 @@
 package com.calendar.app.listener;
 
+import com.calendar.app.event.ScheduleBulkChangedEvent;
 import com.calendar.app.event.ScheduleCreatedEvent;
+import com.calendar.app.event.ScheduleDeletedEvent;
+import com.calendar.app.event.ScheduleEvent;
 import com.calendar.app.event.ScheduleUpdatedEvent;
 import com.calendar.app.event.ReminderTimeEvent;
 import com.calendar.app.service.SsePushService;
 import com.calendar.app.service.ReminderStatusService;
+import com.calendar.app.service.ScheduleMonthCache;
+import com.calendar.app.service.ScheduleVersionStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -18,6 +24,28 @@ public class ScheduleEventListener {
 
     private final SsePushService ssePushService;
     private final ReminderStatusService reminderStatusService;
+    private final ScheduleVersionStore scheduleVersionStore;
+    private final ScheduleMonthCache scheduleMonthCache;
+
+    /**
+     * 스케줄 생성/수정/삭제 커밋 후 월 캐시 무효화 → 사용자 일정 버전 증가 (목록 ETag 갱신)
+     * 별도 리스너로 두면 순서가 보장되지 않아 새 ETag로 무효화 전 목록이 나갈 수 있으므로 한 곳에서 순서대로 처리
+     */
+    @TransactionalEventListener(classes = {ScheduleCreatedEvent.class, ScheduleUpdatedEvent.class, ScheduleDeletedEvent.class},
+            fallbackExecution = true)
+    public void handleScheduleChanged(ScheduleEvent event) {
+        scheduleMonthCache.onScheduleChanged(event);
+        scheduleVersionStore.bump(event.getSchedule().getUser().getId());
+    }
+
+    /**
+     * 일괄 처리 커밋 후 월 캐시 무효화 → 사용자 일정 버전 한 번만 증가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleScheduleBulkChanged(ScheduleBulkChangedEvent event) {
+        scheduleMonthCache.onScheduleBulkChanged(event);
+        scheduleVersionStore.bump(event.getUserId());
+    }
 
     /**
      * 스케줄 생성 시 즉시 알림 처리
@@ -38,14 +66,14 @@ public class ScheduleEventListener {
     }
 
     /**
-     * 스케줄 수정 시 알림 처리
+     * 스케줄 수정 시 알림 처리 (알림 설정/회차 예외만 바뀐 수정은 제외)
      */
     @EventListener
     @Async
     public void handleScheduleUpdated(ScheduleUpdatedEvent event) {
         var schedule = event.getSchedule();
         
-        if (schedule.isReminderEnabled() && schedule.getStartTime() != null) {
+        if (event.isContentChanged() && schedule.isReminderEnabled() && schedule.getStartTime() != null) {
             log.info("스케줄 수정 알림 처리: scheduleId={}, title={}", 
                     schedule.getId(), schedule.getTitle());
             
@@ -66,24 +94,30 @@ public class ScheduleEventListener {
         log.info("알림 시간 도달: scheduleId={}, title={}, reminderTime={}", 
                 schedule.getId(), schedule.getTitle(), event.getReminderTime());
         
-        // 즉시 알림 전송
-        boolean delivered = ssePushService.pushScheduleReminder(schedule);
+        // 즉시 알림 전송 (구독자가 없으면 보관함에 넣어 다음 접속 때 전달)
+        boolean handled = ssePushService.pushOrStoreScheduleReminder(schedule);
         
-        if (delivered) {
-            log.info("알림 전송 성공: scheduleId={}", schedule.getId());
-            // 알림 전송 성공 시 reminded 상태를 true로 설정
-            reminderStatusService.markAsReminded(schedule.getId());
+        if (handled) {
+            log.info("알림 전송/보관 완료: scheduleId={}", schedule.getId());
+            // 전송 또는 보관 시 reminded 상태를 true로 설정 (배치로 모아 일괄 UPDATE)
+            // 반복 일정은 스케줄러가 fire_at을 다음 회차로 옮기므로 reminded를 쓰지 않음
+            if (!schedule.isRecurring()) {
+                reminderStatusService.markAsReminded(schedule.getId(), schedule.getFireAt());
+            }
         } else {
-            log.warn("알림 전송 실패 (구독자 없음): scheduleId={}", schedule.getId());
+            log.warn("알림 전송/보관 실패: scheduleId={}", schedule.getId());
         }
     }
 }
 
 /*
 스케줄 이벤트 리스너
-- 스케줄 생성, 수정, 알림 시간 도달 이벤트를 비동기로 처리
+- 스케줄 생성, 수정, 알림 시간 도달 이벤트를 비동기로 처리 (알림 토글/회차 취소·수정은 수정 푸시 없음)
 - SSE 푸시 서비스와 연동하여 사용자에게 실시간 알림 전송
-- 알림 전송 성공 시 DB에 reminded 상태 업데이트
+- 알림 전송 성공 시 DB에 reminded 상태 업데이트 (ReminderStatusService가 모아서 일괄 반영, 반복 일정은 제외)
+- 구독자가 없으면 SSE 보관함(SseOutbox)에 넣고 reminded 처리 → 다음 접속 시 전달, 미발송 알림 재조회 없음
+  (메모리 보관함은 재시작 시 사라지므로 reminded를 올리지 않음 → 재시작 후 따라잡기에서 다시 발송)
+- 생성/수정/삭제 커밋 후 월 캐시 무효화, 그다음 사용자 일정 버전(ScheduleVersionStore) 증가 → 목록 조회 ETag 변경
 - 비동기 처리로 메인 스레드 부하 최소화
 - 향후 알림 실패 재시도 로직 추가 가능
  */
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.calendar.app.repository;
+
+import com.calendar.app.entity.ScheduleRecurrenceException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScheduleRecurrenceExceptionRepository extends JpaRepository<ScheduleRecurrenceException, String> {
+
+    // 반복 일정 여러 개의 예외를 한 번에 조회 (uk_recurrence_exception_occurrence 범위 스캔)
+    @Query("SELECT e FROM ScheduleRecurrenceException e WHERE e.schedule.id IN :scheduleIds ORDER BY e.occurrenceDate")
+    List<ScheduleRecurrenceException> findByScheduleIds(@Param("scheduleIds") Collection<String> scheduleIds);
+
+    // 반복 일정 하나의 예외
+    @Query("SELECT e FROM ScheduleRecurrenceException e WHERE e.schedule.id = :scheduleId ORDER BY e.occurrenceDate")
+    List<ScheduleRecurrenceException> findByScheduleId(@Param("scheduleId") String scheduleId);
+
+    // 특정 회차 예외
+    @Query("SELECT e FROM ScheduleRecurrenceException e WHERE e.schedule.id = :scheduleId AND e.occurrenceDate = :occurrenceDate")
+    Optional<ScheduleRecurrenceException> findOccurrence(@Param("scheduleId") String scheduleId,
+                                                         @Param("occurrenceDate") LocalDate occurrenceDate);
+
+    // 예외 일괄 삭제: 규칙 변경, 원본 삭제 시 (엔티티 로드 없이 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM ScheduleRecurrenceException e WHERE e.schedule.id IN :scheduleIds")
+    int deleteByScheduleIds(@Param("scheduleIds") Collection<String> scheduleIds);
+}
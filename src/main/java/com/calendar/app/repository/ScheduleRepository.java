@@ -1,27 +1,61 @@
 package com.calendar.app.repository;
 
+import com.calendar.app.dto.schedule.ReminderSlot;
+import com.calendar.app.dto.schedule.ScheduleDayColorCount;
+import com.calendar.app.dto.schedule.ScheduleSummary;
 import com.calendar.app.entity.Schedule;
 import com.calendar.app.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
  public interface ScheduleRepository extends JpaRepository<Schedule, String> {
 
+    // 목록 프로젝션 select 절 (description 제외)
+    String SUMMARY_SELECT = "SELECT s.id AS id, s.title AS title, s.color AS color, s.scheduleDate AS scheduleDate, " +
+            "s.startTime AS startTime, s.endTime AS endTime, s.reminderMinutes AS reminderMinutes, " +
+            "s.isReminderEnabled AS reminderEnabled, s.isRecurring AS recurring, s.createdAt AS createdAt, s.updatedAt AS updatedAt FROM Schedule s ";
+
     // 사용자의 특정 날짜 범위 스케줄 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT s FROM Schedule s WHERE s.user = :user AND s.scheduleDate BETWEEN :startDate AND :endDate ORDER BY s.scheduleDate, s.startTime")
     List<Schedule> findByUserAndDateRange(@Param("user") User user,
                                           @Param("startDate") LocalDate startDate,
                                           @Param("endDate") LocalDate endDate);
 
+    // 사용자의 특정 날짜 범위 스케줄 목록 (프로젝션)
+    @Query(SUMMARY_SELECT + "WHERE s.user = :user AND s.scheduleDate BETWEEN :startDate AND :endDate ORDER BY s.scheduleDate, s.startTime")
+    List<ScheduleSummary> findSummariesByUserAndDateRange(@Param("user") User user,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
+    // 월간 요약: 날짜/색상별 일정 수와 가장 이른 시작 시간 (idx_user_date_start 범위 스캔, 날짜 순서로 그룹)
+    // 반복 일정 원본은 제외 (회차는 서비스에서 펼쳐 합산)
+    @Query("SELECT s.scheduleDate AS scheduleDate, s.color AS color, COUNT(s) AS count, MIN(s.startTime) AS earliestStartTime " +
+            "FROM Schedule s WHERE s.user = :user AND s.scheduleDate BETWEEN :startDate AND :endDate AND s.isRecurring = false " +
+            "GROUP BY s.scheduleDate, s.color ORDER BY s.scheduleDate")
+    List<ScheduleDayColorCount> countByUserAndDateRangeGroupByDayAndColor(@Param("user") User user,
+                                                                          @Param("startDate") LocalDate startDate,
+                                                                          @Param("endDate") LocalDate endDate);
+
     // 사용자의 특정 날짜 스케줄 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT s FROM Schedule s WHERE s.user = :user AND s.scheduleDate = :date ORDER BY s.startTime")
     List<Schedule> findByUserAndDate(@Param("user") User user, @Param("date") LocalDate date);
 
@@ -29,19 +63,74 @@ import java.util.List;
     // 사용자의 모든 스케줄 조회 (최신순)
     List<Schedule> findByUserOrderByScheduleDateDescStartTimeAsc(User user);
 
+    // 전체 목록 keyset 페이지 정렬: 날짜, 시작 시간, id (동률 방지) 모두 내림차순 → idx_user_date_start 역방향 스캔 (filesort 없음, id는 InnoDB PK 접미)
+    // 같은 날짜 안에서는 늦은 시간부터, 종일 일정(start_time NULL)은 MySQL에서 NULL이 가장 작으므로 마지막
+    String PAGE_ORDER = " ORDER BY s.scheduleDate DESC, s.startTime DESC, s.id DESC";
+
+    // 전체 목록 첫 페이지 (pageable은 LIMIT 용도)
+    @Query("SELECT s FROM Schedule s WHERE s.user = :user" + PAGE_ORDER)
+    List<Schedule> findPageByUser(@Param("user") User user, Pageable pageable);
+
+    // 커서(종일 일정) 다음 페이지: 같은 날짜의 id가 더 작은 종일 일정, 그리고 이전 날짜
+    @Query("SELECT s FROM Schedule s WHERE s.user = :user AND (s.scheduleDate < :date " +
+            "OR (s.scheduleDate = :date AND s.startTime IS NULL AND s.id < :id))" + PAGE_ORDER)
+    List<Schedule> findPageByUserAfterAllDay(@Param("user") User user,
+                                             @Param("date") LocalDate date,
+                                             @Param("id") String id,
+                                             Pageable pageable);
+
+    // 커서(시간 있는 일정) 다음 페이지: 같은 날짜의 더 이른 시간/종일 일정 또는 같은 시간의 id가 더 작은 일정, 그리고 이전 날짜
+    @Query("SELECT s FROM Schedule s WHERE s.user = :user AND (s.scheduleDate < :date " +
+            "OR (s.scheduleDate = :date AND (s.startTime < :startTime OR s.startTime IS NULL " +
+            "OR (s.startTime = :startTime AND s.id < :id))))" + PAGE_ORDER)
+    List<Schedule> findPageByUserAfter(@Param("user") User user,
+                                       @Param("date") LocalDate date,
+                                       @Param("startTime") LocalTime startTime,
+                                       @Param("id") String id,
+                                       Pageable pageable);
+
+    // 전체 목록 스트리밍 (NDJSON): 결과를 한 번에 올리지 않도록 fetch size 지정, 읽기 전용 (dirty checking 스냅샷 없음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Schedule s WHERE s.user = :user" + PAGE_ORDER)
+    Stream<Schedule> streamByUser(@Param("user") User user);
+
+    // 사용자의 반복 일정 원본 전체 (idx_user_recurring, 회차는 조회 범위만큼 서비스에서 펼침)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT s FROM Schedule s WHERE s.user = :user AND s.isRecurring = true")
+    List<Schedule> findRecurringByUser(@Param("user") User user);
+
+    // 알림 시각이 before 이전에 멈춘 반복 일정 (발송 중단/장애로 다음 회차로 넘어가지 못한 원본, idx_recurring_fire_at)
+    @Query("SELECT s FROM Schedule s WHERE s.isRecurring = true AND s.isReminderEnabled = true AND s.fireAt < :before")
+    List<Schedule> findStaleRecurringReminders(@Param("before") LocalDateTime before);
+
+    // 반복 일정 알림 시각을 다음 회차로 이동 (현재 값이 그대로일 때만 → 여러 노드/재시도가 겹쳐도 한 번만 이동)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Schedule s SET s.fireAt = :next WHERE s.id = :id AND s.isRecurring = true AND s.fireAt = :current")
+    int advanceFireAt(@Param("id") String id, @Param("current") LocalDateTime current, @Param("next") LocalDateTime next);
+
     // 오늘의 스케줄 조회
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT s FROM Schedule s WHERE s.user = :user AND s.scheduleDate = CURRENT_DATE ORDER BY s.startTime")
     List<Schedule> findTodaySchedules(@Param("user") User user);
 
-    // 알림 후보 스케줄 조회: 오늘 날짜, 시작시간 존재, 알림 활성, 미발송
-    @Query("SELECT s FROM Schedule s WHERE s.isReminderEnabled = true AND s.reminded = false AND s.scheduleDate = :today AND s.startTime IS NOT NULL")
-    List<Schedule> findPendingReminderCandidates(@Param("today") LocalDate today);
+    // 발송 시각이 [from, to) 구간인 미발송 알림 조회 (idx_reminder_fire_at 범위 스캔)
+    @Query("SELECT s FROM Schedule s WHERE s.isReminderEnabled = true AND s.reminded = false " +
+            "AND s.fireAt >= :from AND s.fireAt < :to ORDER BY s.fireAt")
+    List<Schedule> findDueReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    // 정확한 알림 시간에 도달한 스케줄 조회 (정확한 분 단위 매칭)
-    @Query("SELECT s FROM Schedule s WHERE s.isReminderEnabled = true AND s.reminded = false AND s.scheduleDate = :date AND s.startTime = :time AND s.startTime IS NOT NULL")
-    List<Schedule> findByReminderTimeAndNotReminded(@Param("date") LocalDate date, @Param("time") LocalTime time);
+    // 알림 휠 적재용: 발송 시각이 [from, to) 구간인 알림의 id/userId/발송 시각만 조회 (user_id는 FK 컬럼, 조인 없음)
+    @Query("SELECT s.id AS id, s.user.id AS userId, s.fireAt AS fireAt FROM Schedule s " +
+            "WHERE s.isReminderEnabled = true AND s.reminded = false AND s.fireAt >= :from AND s.fireAt < :to")
+    List<ReminderSlot> findReminderSlots(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    // 특정 날짜의 알림 상태 초기화
-    @Query("UPDATE Schedule s SET s.reminded = false WHERE s.scheduleDate = :date")
-    int resetRemindedStatus(@Param("date") LocalDate date);
+    // 발송 완료 일괄 반영: 엔티티 로드 없이 UPDATE 한 번 (ReminderStatusService 배치 flush, 같은 알림 시각끼리)
+    // 발송한 알림 시각이 그대로일 때만 → 반영 전에 시간을 바꾼 일정은 새 알림 시각이 reminded로 묻히지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE Schedule s SET s.reminded = true WHERE s.id IN :ids AND s.fireAt = :sentFireAt")
+    int markRemindedByIds(@Param("ids") Collection<String> ids, @Param("sentFireAt") LocalDateTime sentFireAt);
 }
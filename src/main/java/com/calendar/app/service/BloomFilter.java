@@ -0,0 +1,63 @@
+package com.calendar.app.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블룸 필터 (128비트 해시 입력, 삭제 없음)
+ * - 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = m/n·ln 2 (n: 예상 항목 수, p: 오탐률)
+ * - k개 위치는 해시 두 개(h1, h2)로 h1 + i·h2 (Kirsch-Mitzenmacher), 입력이 이미 균일한 해시라 다시 섞지 않음
+ * - 비트 설정은 AtomicLongArray CAS라 추가와 조회가 동시에 일어나도 안전 (락 없음)
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("잘못된 블룸 필터 설정입니다: n=" + expectedInsertions + ", p=" + falsePositiveRate);
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    void put(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h1, h2, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    // false면 확실히 없음, true면 있거나 오탐
+    boolean mightContain(long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h1, h2, i);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitCount);
+    }
+}
@@ -0,0 +1,398 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 5545 iCalendar 읽기 (VEVENT 한 건씩 ScheduleRequest로 변환, 파일 전체를 메모리에 올리지 않음)
+ * - 접힌 줄 펼치기, TEXT 언이스케이프, DTSTART/DTEND/DURATION (VALUE=DATE, UTC Z, TZID, floating)
+ * - 시간은 서버 시간대 기준으로 변환, 종료가 다음 날로 넘어가면 종료 시간 없음 (자정을 넘는 야간 일정은 유지)
+ * - 첫 VALARM의 상대 TRIGGER(-PT15M 등)를 알림 분으로 사용, VALARM이 없으면 알림 끔
+ * - RRULE은 RecurrenceRule이 지원하는 규칙만 반복 일정으로 가져옴 (그 외 규칙은 첫 회차만), EXDATE는 취소할 회차 날짜로 전달
+ * - RECURRENCE-ID로 바꾼 회차는 원본과 연결하지 않고 단일 일정으로 가져옴
+ * 형식이 잘못된 VEVENT는 건너뛰고 skipped/errors에 기록한다.
+ */
+class IcsReader {
+
+    static final String UNTITLED = "(제목 없음)";
+    static final int MAX_ERRORS = 20;
+
+    private static final int MAX_LINE_CHARS = 64 * 1024;
+    private static final int MAX_TITLE = 255;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final BufferedReader in;
+    private final ZoneId zone;
+    private final List<String> errors = new ArrayList<>();
+    private String lookahead;
+    private int lineNumber; // 마지막으로 읽은 물리 줄 번호
+    private int logicalLine; // 마지막으로 반환한 논리 줄의 시작 줄 번호
+    private int skipped;
+    private List<LocalDate> excluded = List.of();
+
+    IcsReader(Reader in, ZoneId zone) {
+        this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in, 64 * 1024);
+        this.zone = zone;
+    }
+
+    /**
+     * 다음 VEVENT (없으면 null)
+     */
+    ScheduleRequest next() throws IOException {
+        String line;
+        while ((line = unfolded()) != null) {
+            if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                int startLine = logicalLine;
+                try {
+                    ScheduleRequest request = event();
+                    if (request != null) {
+                        return request;
+                    }
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    skip(startLine, e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    // 마지막으로 반환한 반복 일정의 EXDATE 날짜 (서버 시간대 기준, 반복 일정이 아니면 빈 목록)
+    List<LocalDate> excludedDates() {
+        return excluded;
+    }
+
+    int skipped() {
+        return skipped;
+    }
+
+    // 건너뛴 일정 사유 (앞에서부터 MAX_ERRORS개)
+    List<String> errors() {
+        return errors;
+    }
+
+    // BEGIN:VEVENT 다음 줄부터 END:VEVENT까지 (취소된 일정은 null)
+    private ScheduleRequest event() throws IOException {
+        Map<String, Property> props = new HashMap<>();
+        List<Property> exdates = new ArrayList<>(0); // 여러 줄로 올 수 있음
+        Duration trigger = null;
+        boolean alarm = false;
+        int depth = 0; // VEVENT 안의 하위 컴포넌트 (VALARM 등)
+        boolean inAlarm = false;
+        String line;
+        while ((line = unfolded()) != null) {
+            Property property = Property.parse(line);
+            if (property.name.equals("BEGIN")) {
+                depth++;
+                inAlarm = depth == 1 && property.value.equalsIgnoreCase("VALARM");
+                continue;
+            }
+            if (property.name.equals("END")) {
+                if (depth == 0) {
+                    if (!property.value.equalsIgnoreCase("VEVENT")) {
+                        throw new IllegalArgumentException("END:VEVENT가 없습니다.");
+                    }
+                    if ("CANCELLED".equalsIgnoreCase(value(props, "STATUS"))) {
+                        skipped++;
+                        return null;
+                    }
+                    return toRequest(props, exdates, alarm, trigger);
+                }
+                depth--;
+                inAlarm = false;
+                continue;
+            }
+            if (depth == 0 && property.name.equals("EXDATE")) {
+                exdates.add(property);
+            } else if (depth == 0) {
+                props.putIfAbsent(property.name, property);
+            } else if (inAlarm && !alarm && property.name.equals("TRIGGER")) {
+                // 절대 시각(VALUE=DATE-TIME)이나 종료 기준(RELATED=END) 알림은 알림 분으로 바꿀 수 없어 기본값 사용
+                alarm = true;
+                if (!"DATE-TIME".equalsIgnoreCase(property.param("VALUE"))
+                        && !"END".equalsIgnoreCase(property.param("RELATED"))) {
+                    trigger = duration(property.value);
+                }
+            }
+        }
+        throw new IllegalArgumentException("END:VEVENT가 없습니다.");
+    }
+
+    private ScheduleRequest toRequest(Map<String, Property> props, List<Property> exdates, boolean alarm, Duration trigger) {
+        Property dtStart = props.get("DTSTART");
+        if (dtStart == null) {
+            throw new IllegalArgumentException("DTSTART가 없습니다.");
+        }
+        LocalDate date = isDate(dtStart) ? LocalDate.parse(dtStart.value, DATE) : dateTime(dtStart).toLocalDate();
+        String rule = recurrence(props.get("RRULE"), date);
+        excluded = rule == null ? List.of() : exdates(exdates);
+        String title = unescape(value(props, "SUMMARY"));
+        if (title == null || title.isBlank()) {
+            title = UNTITLED;
+        } else if (title.length() > MAX_TITLE) {
+            title = title.substring(0, MAX_TITLE);
+        }
+        ScheduleRequest.ScheduleRequestBuilder request = ScheduleRequest.builder()
+                .title(title)
+                .description(unescape(value(props, "DESCRIPTION")))
+                .color(color(props))
+                .recurrenceRule(rule);
+
+        if (isDate(dtStart)) {
+            // 종일 일정 (여러 날에 걸친 종일 일정은 시작 날짜에만 표시)
+            return request.scheduleDate(date)
+                    .isReminderEnabled(false)
+                    .build();
+        }
+
+        LocalDateTime start = dateTime(dtStart);
+        LocalDateTime end = null;
+        Property dtEnd = props.get("DTEND");
+        if (dtEnd != null && !isDate(dtEnd)) {
+            end = dateTime(dtEnd);
+        } else if (props.containsKey("DURATION")) {
+            end = start.plus(duration(props.get("DURATION").value));
+        }
+        request.scheduleDate(start.toLocalDate()).startTime(start.toLocalTime());
+        if (end != null && !end.isBefore(start)) {
+            boolean sameDay = end.toLocalDate().equals(start.toLocalDate());
+            boolean overnight = end.toLocalDate().equals(start.toLocalDate().plusDays(1))
+                    && end.toLocalTime().isBefore(start.toLocalTime());
+            if (sameDay || overnight) {
+                request.endTime(end.toLocalTime());
+            }
+        }
+        if (alarm) {
+            long minutes = trigger == null || !trigger.isNegative() ? 0 : trigger.negated().toMinutes();
+            request.isReminderEnabled(true).reminderMinutes((int) Math.min(minutes, Integer.MAX_VALUE));
+        } else {
+            request.isReminderEnabled(false);
+        }
+        return request.build();
+    }
+
+    // 지원하는 RRULE이면 정규화한 규칙, 아니면 null (첫 회차만 단일 일정으로)
+    // UTC/TZID 시각의 UNTIL은 서버 시간대 날짜로 바꿈 (RecurrenceRule은 날짜 단위)
+    private String recurrence(Property rrule, LocalDate start) {
+        if (rrule == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(rrule.value.length());
+        for (String part : rrule.value.split(";")) {
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            int eq = part.indexOf('=');
+            if (eq > 0 && part.substring(0, eq).equalsIgnoreCase("UNTIL") && part.length() > eq + 9) {
+                LocalDate until = dateTime(part.substring(eq + 1), rrule.param("TZID")).toLocalDate();
+                sb.append("UNTIL=").append(DATE.format(until));
+            } else {
+                sb.append(part);
+            }
+        }
+        try {
+            RecurrenceRule rule = RecurrenceRule.parse(sb.toString());
+            return rule.first(start) != null ? rule.format() : null;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+
+    // EXDATE 값 (쉼표로 여러 개, 날짜 또는 시각) → 서버 시간대 날짜
+    private List<LocalDate> exdates(List<Property> exdates) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (Property exdate : exdates) {
+            for (String value : exdate.value.split(",")) {
+                dates.add("DATE".equalsIgnoreCase(exdate.param("VALUE")) || value.length() == 8
+                        ? LocalDate.parse(value, DATE)
+                        : dateTime(value, exdate.param("TZID")).toLocalDate());
+            }
+        }
+        return dates;
+    }
+
+    // 시간 값: UTC(Z) → 서버 시간대, TZID → 서버 시간대 (알 수 없는 TZID는 floating), 그 외 floating
+    private LocalDateTime dateTime(Property property) {
+        return dateTime(property.value, property.param("TZID"));
+    }
+
+    private LocalDateTime dateTime(String value, String tzid) {
+        if (value.endsWith("Z") || value.endsWith("z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                    .atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime();
+        }
+        LocalDateTime local = LocalDateTime.parse(value, DATE_TIME);
+        if (tzid != null) {
+            try {
+                return local.atZone(ZoneId.of(tzid)).withZoneSameInstant(zone).toLocalDateTime();
+            } catch (DateTimeException e) {
+                return local;
+            }
+        }
+        return local;
+    }
+
+    private static boolean isDate(Property property) {
+        return "DATE".equalsIgnoreCase(property.param("VALUE")) || property.value.length() == 8;
+    }
+
+    // RFC 5545 DURATION (-P1W, -PT15M, P1DT2H 등), 주(W) 단위는 java.time이 지원하지 않아 일로 변환
+    static Duration duration(String value) {
+        String v = value.trim().toUpperCase(Locale.ROOT);
+        int week = v.indexOf('W');
+        if (week > 0) {
+            boolean negative = v.startsWith("-");
+            int from = v.indexOf('P') + 1;
+            Duration weeks = Duration.ofDays(7 * Long.parseLong(v.substring(from, week)));
+            return negative ? weeks.negated() : weeks;
+        }
+        try {
+            return Duration.parse(v);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 기간 값입니다: " + value);
+        }
+    }
+
+    // X-CALENDAR-COLOR(내보내기) 또는 COLOR(RFC 7986) 중 #RRGGBB 형식만 사용
+    private static String color(Map<String, Property> props) {
+        String color = unescape(value(props, "X-CALENDAR-COLOR"));
+        if (color == null) {
+            color = unescape(value(props, "COLOR"));
+        }
+        return color != null && color.matches("#[0-9A-Fa-f]{6}") ? color : null;
+    }
+
+    private static String value(Map<String, Property> props, String name) {
+        Property property = props.get(name);
+        return property == null ? null : property.value;
+    }
+
+    // TEXT 언이스케이프 (RFC 5545 3.3.11)
+    static String unescape(String value) {
+        if (value == null || value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                sb.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void skip(int line, String reason) {
+        skipped++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(line + "행 일정: " + reason);
+        }
+    }
+
+    // 접힌 줄(다음 줄이 공백/탭으로 시작)을 이어 붙인 논리 줄, 빈 줄은 건너뜀
+    private String unfolded() throws IOException {
+        int start = lookahead != null ? lineNumber - 1 : lineNumber;
+        String line = lookahead != null ? lookahead : read();
+        lookahead = null;
+        while (line != null && line.isEmpty()) {
+            start = lineNumber;
+            line = read();
+        }
+        if (line == null) {
+            return null;
+        }
+        logicalLine = start + 1;
+        StringBuilder sb = null;
+        String next;
+        while ((next = read()) != null && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (sb == null) {
+                sb = new StringBuilder(line);
+            }
+            sb.append(next, 1, next.length());
+            if (sb.length() > MAX_LINE_CHARS) {
+                throw new IllegalArgumentException(lineNumber + "행: 줄이 너무 깁니다.");
+            }
+        }
+        lookahead = next;
+        return sb == null ? line : sb.toString();
+    }
+
+    private String read() throws IOException {
+        String line = in.readLine();
+        if (line != null) {
+            lineNumber++;
+            if (line.length() > MAX_LINE_CHARS) {
+                throw new IllegalArgumentException(lineNumber + "행: 줄이 너무 깁니다.");
+            }
+        }
+        return line;
+    }
+
+    // 내용 줄: NAME;PARAM=VALUE;...:VALUE (따옴표 안의 ; : 는 구분자가 아님)
+    private record Property(String name, Map<String, String> params, String value) {
+
+        static Property parse(String line) {
+            int colon = -1;
+            boolean quoted = false;
+            List<Integer> semicolons = new ArrayList<>(2);
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && c == ';') {
+                    semicolons.add(i);
+                } else if (!quoted && c == ':') {
+                    colon = i;
+                    break;
+                }
+            }
+            if (colon < 0) {
+                throw new IllegalArgumentException("잘못된 줄입니다: " + abbreviate(line));
+            }
+            int nameEnd = semicolons.isEmpty() ? colon : semicolons.get(0);
+            Map<String, String> params = Map.of();
+            if (!semicolons.isEmpty()) {
+                params = new HashMap<>();
+                for (int i = 0; i < semicolons.size(); i++) {
+                    int end = i + 1 < semicolons.size() ? semicolons.get(i + 1) : colon;
+                    String param = line.substring(semicolons.get(i) + 1, end);
+                    int eq = param.indexOf('=');
+                    if (eq > 0) {
+                        String paramValue = param.substring(eq + 1);
+                        if (paramValue.length() >= 2 && paramValue.startsWith("\"") && paramValue.endsWith("\"")) {
+                            paramValue = paramValue.substring(1, paramValue.length() - 1);
+                        }
+                        params.put(param.substring(0, eq).toUpperCase(Locale.ROOT), paramValue);
+                    }
+                }
+            }
+            return new Property(line.substring(0, nameEnd).toUpperCase(Locale.ROOT), params, line.substring(colon + 1));
+        }
+
+        String param(String key) {
+            return params.get(key);
+        }
+
+        private static String abbreviate(String line) {
+            return line.length() > 40 ? line.substring(0, 40) + "..." : line;
+        }
+    }
+}
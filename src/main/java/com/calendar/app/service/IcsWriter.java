@@ -0,0 +1,183 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * RFC 5545 iCalendar 쓰기 (일정 한 건씩 바로 출력, 내부 버퍼 없음)
+ * - 줄 끝 CRLF, 75옥텟 넘는 줄은 접기(CRLF + 공백), TEXT 값 이스케이프(\ ; , 줄바꿈)
+ * - 종일 일정: DTSTART;VALUE=DATE ~ 다음 날, 시간 일정: 서버 시간대 기준 시각을 UTC(Z)로 변환 (VTIMEZONE 불필요)
+ * - 알림: VALARM(TRIGGER:-PT{n}M)
+ * - 반복 일정: 원본 VEVENT에 RRULE + 취소/수정된 회차 EXDATE, 수정된 회차는 별도 VEVENT(UID {원본 id}-{회차 날짜})
+ *   요일/날짜 규칙이 서버 시간대 기준이라 시간 일정 원본은 TZID(IANA 이름) 로컬 시각으로 출력 (UTC면 회차 요일이 바뀔 수 있음)
+ */
+class IcsWriter {
+
+    static final String PRODUCT_ID = "-//calendar-app//schedule export//KO";
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final OutputStream out;
+    private final ZoneId zone;
+    private final String stamp;
+
+    IcsWriter(OutputStream out, ZoneId zone) {
+        this.out = out;
+        this.zone = zone;
+        this.stamp = UTC_DATE_TIME.format(LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    void begin() throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:" + PRODUCT_ID);
+        line("CALSCALE:GREGORIAN");
+    }
+
+    void event(ScheduleResponse schedule) throws IOException {
+        event(schedule, schedule.getId(), null, List.of());
+    }
+
+    // 반복 일정 원본 (바뀐 회차는 EXDATE로 빼고 수정된 회차는 단일 일정으로 이어서 출력)
+    void series(ScheduleSeries series) throws IOException {
+        ScheduleResponse master = series.getSchedule();
+        List<LocalDate> excluded = series.getModifications().stream()
+                .map(ScheduleSeries.Modification::getOccurrenceDate)
+                .toList();
+        event(master, master.getId(), master.getRecurrenceRule(), excluded);
+        for (ScheduleResponse occurrence : ScheduleSeriesService.modifiedOccurrences(series)) {
+            event(occurrence, master.getId() + "-" + DATE.format(occurrence.getOccurrenceDate()), null, List.of());
+        }
+    }
+
+    private void event(ScheduleResponse schedule, String id, String rule, List<LocalDate> excluded) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + id + "@calendar-app");
+        line("DTSTAMP:" + (schedule.getUpdatedAt() != null ? utc(schedule.getUpdatedAt()) : stamp));
+        if (schedule.getStartTime() == null) {
+            line("DTSTART;VALUE=DATE:" + DATE.format(schedule.getScheduleDate()));
+            line("DTEND;VALUE=DATE:" + DATE.format(schedule.getScheduleDate().plusDays(1)));
+        } else {
+            LocalDateTime start = schedule.getScheduleDate().atTime(schedule.getStartTime());
+            line("DTSTART" + dateTime(start, rule != null));
+            if (schedule.getEndTime() != null) {
+                // 종료 시간이 시작보다 이르면 다음 날 종료로 봄
+                LocalDateTime end = schedule.getScheduleDate().atTime(schedule.getEndTime());
+                line("DTEND" + dateTime(end.isBefore(start) ? end.plusDays(1) : end, rule != null));
+            }
+        }
+        if (rule != null) {
+            line("RRULE:" + rrule(rule, schedule));
+            for (LocalDate date : excluded) {
+                // EXDATE는 DTSTART와 같은 값 형식 (종일이면 날짜, 시간 일정이면 회차 시작 시각)
+                line(schedule.getStartTime() == null
+                        ? "EXDATE;VALUE=DATE:" + DATE.format(date)
+                        : "EXDATE" + dateTime(date.atTime(schedule.getStartTime()), true));
+            }
+        }
+        line("SUMMARY:" + text(schedule.getTitle()));
+        if (schedule.getDescription() != null && !schedule.getDescription().isEmpty()) {
+            line("DESCRIPTION:" + text(schedule.getDescription()));
+        }
+        if (schedule.getColor() != null) {
+            line("X-CALENDAR-COLOR:" + text(schedule.getColor()));
+        }
+        if (schedule.isReminderEnabled() && schedule.getStartTime() != null && schedule.getReminderMinutes() != null) {
+            line("BEGIN:VALARM");
+            line("ACTION:DISPLAY");
+            line("DESCRIPTION:" + text(schedule.getTitle()));
+            line("TRIGGER:-PT" + Math.max(schedule.getReminderMinutes(), 0) + "M");
+            line("END:VALARM");
+        }
+        line("END:VEVENT");
+    }
+
+    void end() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    // 값 앞의 ';TZID=...:' 또는 ':' 포함 (local이면 서버 시간대 로컬 시각, 아니면 UTC)
+    private String dateTime(LocalDateTime value, boolean local) {
+        return local ? ";TZID=" + zone.getId() + ":" + LOCAL_DATE_TIME.format(value) : ":" + utc(value);
+    }
+
+    // 시간 일정의 UNTIL은 UTC 시각이어야 함 (RFC 5545 3.3.10) → 마지막 회차 시작 시각으로 바꿈
+    private String rrule(String rule, ScheduleResponse schedule) {
+        if (schedule.getStartTime() == null) {
+            return rule;
+        }
+        StringBuilder sb = new StringBuilder(rule.length() + 8);
+        for (String part : rule.split(";")) {
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            if (part.startsWith("UNTIL=") && part.length() == "UNTIL=".length() + 8) {
+                LocalDate until = LocalDate.parse(part.substring("UNTIL=".length()), DATE);
+                sb.append("UNTIL=").append(utc(until.atTime(schedule.getStartTime())));
+            } else {
+                sb.append(part);
+            }
+        }
+        return sb.toString();
+    }
+
+    private String utc(LocalDateTime local) {
+        return UTC_DATE_TIME.format(local.atZone(zone).withZoneSameInstant(ZoneOffset.UTC));
+    }
+
+    // TEXT 이스케이프 (RFC 5545 3.3.11)
+    static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 75옥텟 단위로 접어서 출력 (UTF-8 멀티바이트 문자는 자르지 않음)
+    private void line(String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+        int limit = MAX_LINE_OCTETS;
+        while (bytes.length - start > limit) {
+            int cut = start + limit;
+            while ((bytes[cut] & 0xC0) == 0x80) {
+                cut--; // UTF-8 연속 바이트 앞에서 자름
+            }
+            out.write(bytes, start, cut - start);
+            out.write('\r');
+            out.write('\n');
+            out.write(' ');
+            start = cut;
+            limit = MAX_LINE_OCTETS - 1; // 접힌 줄은 앞 공백 1옥텟 포함
+        }
+        out.write(bytes, start, bytes.length - start);
+        out.write('\r');
+        out.write('\n');
+    }
+}
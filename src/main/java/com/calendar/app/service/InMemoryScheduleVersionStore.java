@@ -0,0 +1,29 @@
+package com.calendar.app.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 메모리 일정 버전 (schedule.version.store=memory, 기본값 / 단일 노드용)
+ * 일정을 바꾼 적 없는 사용자는 기동 시각을 버전으로 쓰므로, 바꾼 사용자만 항목을 가진다.
+ */
+@Component
+@ConditionalOnProperty(name = "schedule.version.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryScheduleVersionStore implements ScheduleVersionStore {
+
+    private final long baseVersion = System.currentTimeMillis();
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public String current(String userId) {
+        return String.valueOf(versions.getOrDefault(userId, baseVersion));
+    }
+
+    @Override
+    public void bump(String userId) {
+        versions.compute(userId, (key, version) -> (version == null ? baseVersion : version) + 1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.calendar.app.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 보관함 (sse.outbox.store=memory)
+ * 노드 재시작 시 사라지고 다른 노드로 접속하면 받지 못하므로 durable이 아님:
+ * 보관해도 reminded를 올리지 않아, 보관 중 재시작되면 따라잡기에서 다시 발송된다 (중복 가능, 유실 없음).
+ */
+@Component
+@ConditionalOnProperty(name = "sse.outbox.store", havingValue = "memory")
+public class InMemorySseOutbox implements SseOutbox {
+
+    private final Map<String, Deque<Entry>> outboxes = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final long ttlMs;
+
+    public InMemorySseOutbox(@Value("${sse.outbox.capacity:100}") int capacity,
+                             @Value("${sse.outbox.ttl-ms:86400000}") long ttlMs) {
+        this.capacity = capacity;
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public boolean put(String userId, byte[] frame) {
+        Entry entry = new Entry(System.currentTimeMillis() + ttlMs, frame);
+        outboxes.compute(userId, (k, frames) -> {
+            if (frames == null) {
+                frames = new ArrayDeque<>();
+            }
+            frames.addLast(entry);
+            while (frames.size() > capacity) {
+                frames.pollFirst();
+            }
+            return frames;
+        });
+        return true;
+    }
+
+    @Override
+    public List<byte[]> drain(String userId) {
+        Deque<Entry> frames = outboxes.remove(userId);
+        if (frames == null) {
+            return List.of();
+        }
+        long now = System.currentTimeMillis();
+        List<byte[]> result = new ArrayList<>(frames.size());
+        for (Entry entry : frames) {
+            if (entry.expiresAtMs() > now) {
+                result.add(entry.frame());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean durable() {
+        return false;
+    }
+
+    // 만료된 프레임과 빈 사용자 항목 정리
+    @Scheduled(fixedDelayString = "${sse.outbox.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        for (String userId : outboxes.keySet()) {
+            outboxes.computeIfPresent(userId, (k, frames) -> {
+                frames.removeIf(entry -> entry.expiresAtMs() <= now);
+                return frames.isEmpty() ? null : frames;
+            });
+        }
+    }
+
+    private record Entry(long expiresAtMs, byte[] frame) { }
+}
+
+/*
+    * InMemorySseOutbox.java
+    * 사용자별 최대 sse.outbox.capacity(기본 100)개 프레임을 sse.outbox.ttl-ms(기본 24시간) 동안 보관
+    * 모든 변경은 ConcurrentHashMap.compute/remove 안에서 수행 (구독 시 drain과 보관이 겹쳐도 유실 없음)
+ */
@@ -0,0 +1,131 @@
+package com.calendar.app.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 재생 로그 (sse.replay.store=memory, 기본값)
+ * 사용자마다 최근 capacity개 이벤트를 retention 동안 보관한다. 노드별 로그이므로 다중 노드에서는 redis 저장소를 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "sse.replay.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySseReplayLog implements SseReplayLog {
+
+    private final Map<String, Deque<Entry>> logs = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final long retentionMs;
+
+    // Redis Streams와 같은 "ms-seq" 형식 id 생성 상태 (재시작 후에도 id가 작아지지 않도록 시각 기반)
+    private long lastIdMs;
+    private long lastIdSeq;
+
+    public InMemorySseReplayLog(@Value("${sse.replay.capacity:50}") int capacity,
+                                @Value("${sse.replay.retention-ms:3600000}") long retentionMs) {
+        this.capacity = capacity;
+        this.retentionMs = retentionMs;
+    }
+
+    @Override
+    public String append(String userId, byte[] frameBody) {
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(nextId(now), now, frameBody);
+        // purgeExpired가 빈 항목을 지우는 것과 겹치지 않도록 compute 안에서 추가
+        logs.compute(userId, (k, events) -> {
+            if (events == null) {
+                events = new ArrayDeque<>();
+            }
+            synchronized (events) {
+                events.addLast(entry);
+                while (events.size() > capacity) {
+                    events.pollFirst();
+                }
+            }
+            return events;
+        });
+        return entry.id();
+    }
+
+    @Override
+    public List<byte[]> since(String userId, String lastEventId) {
+        long[] last = parseId(lastEventId);
+        Deque<Entry> events = logs.get(userId);
+        if (last == null || events == null) {
+            return List.of();
+        }
+        long expiredBefore = System.currentTimeMillis() - retentionMs;
+        List<byte[]> frames = new ArrayList<>();
+        synchronized (events) {
+            for (Entry entry : events) {
+                if (entry.createdAtMs() >= expiredBefore && compare(parseId(entry.id()), last) > 0) {
+                    frames.add(SseConnection.Frame.withId(entry.id(), entry.frameBody()));
+                }
+            }
+        }
+        return frames;
+    }
+
+    // 보관 기간이 지난 이벤트와 빈 사용자 항목 정리
+    @Scheduled(fixedDelayString = "${sse.replay.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long expiredBefore = System.currentTimeMillis() - retentionMs;
+        for (String userId : logs.keySet()) {
+            logs.computeIfPresent(userId, (k, events) -> {
+                synchronized (events) {
+                    while (!events.isEmpty() && events.peekFirst().createdAtMs() < expiredBefore) {
+                        events.pollFirst();
+                    }
+                    return events.isEmpty() ? null : events;
+                }
+            });
+        }
+    }
+
+    private synchronized String nextId(long nowMs) {
+        if (nowMs > lastIdMs) {
+            lastIdMs = nowMs;
+            lastIdSeq = 0;
+        } else {
+            lastIdSeq++;
+        }
+        return lastIdMs + "-" + lastIdSeq;
+    }
+
+    // "ms-seq" 형식이 아니면 null (예: 이전 버전의 scheduleId 기반 id)
+    static long[] parseId(String id) {
+        if (id == null) {
+            return null;
+        }
+        int dash = id.indexOf('-');
+        if (dash <= 0 || dash == id.length() - 1) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseLong(id.substring(0, dash)), Long.parseLong(id.substring(dash + 1))};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int compare(long[] a, long[] b) {
+        int byMs = Long.compare(a[0], b[0]);
+        return byMs != 0 ? byMs : Long.compare(a[1], b[1]);
+    }
+
+    private record Entry(String id, long createdAtMs, byte[] frameBody) { }
+}
+
+/*
+    * InMemorySseReplayLog.java
+    * 사용자별 최근 이벤트(sse.replay.capacity, 기본 50개)를 sse.replay.retention-ms(기본 1시간 = emitter 타임아웃) 동안 보관
+    * 이벤트 id는 Redis Streams와 같은 "ms-seq" 형식이라 저장소를 바꿔도 클라이언트의 Last-Event-ID 비교 방식이 같음
+    * 만료 항목은 조회 시 건너뛰고 주기적으로(sse.replay.purge-interval-ms) 제거
+ */
@@ -0,0 +1,60 @@
+package com.calendar.app.service;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 묶음 (kid → HMAC 키)
+ * - 서명은 현재 키 하나로, 검증은 헤더의 kid로 키를 찾음 (kid 없는 토큰은 kid 없이 설정된 키)
+ * - 키 교체는 재시작으로: 새 키를 현재 키로, 이전 키를 검증 전용 키로 설정 (그 키로 발급된 토큰이 모두 만료되면 설정에서 제거)
+ * - 시작 시 한 번 만들고 이후에는 읽기만 함 (스레드 간 공유)
+ */
+final class JwtKeyRing {
+
+    // kid 없이 서명/발급된 토큰의 키 자리
+    private static final String NO_KID = "";
+
+    record Entry(String kid, Key key) {
+
+        // JWT 헤더에 넣을 kid (kid 없이 서명하는 키면 null)
+        String headerKid() {
+            return kid.isEmpty() ? null : kid;
+        }
+    }
+
+    private final Entry current;
+    private final Map<String, Entry> keys = new HashMap<>();
+
+    JwtKeyRing(String kid, Key key) {
+        this.current = new Entry(normalize(kid), key);
+        keys.put(current.kid(), current);
+    }
+
+    // 서명 키
+    Entry current() {
+        return current;
+    }
+
+    // 검증 키 조회, 모르는 kid면 null
+    Key resolve(String kid) {
+        Entry entry = keys.get(normalize(kid));
+        return entry == null ? null : entry.key();
+    }
+
+    // 검증 전용 키 추가 (설정에 남겨 둔 이전 키, 현재 키의 kid는 덮어쓰지 않음, 시작 시에만 호출)
+    void addVerificationKey(String kid, Key key) {
+        String normalized = normalize(kid);
+        if (!normalized.equals(current.kid())) {
+            keys.put(normalized, new Entry(normalized, key));
+        }
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    private static String normalize(String kid) {
+        return kid == null || kid.isBlank() ? NO_KID : kid;
+    }
+}
@@ -1,21 +1,28 @@
 package com.calendar.app.service;
 
 import com.calendar.app.config.JwtProperties;
+import com.calendar.app.dto.auth.TokenClaims;
 import com.calendar.app.entity.User;
+import com.calendar.app.event.UserProfileChangedEvent;
 import com.calendar.app.repository.UserRepository;
 import jakarta.annotation.PostConstruct;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 
 @Slf4j
@@ -23,9 +30,18 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    // 설정의 previous-keys에서 kid 없이 발급하던 키를 가리키는 이름
+    private static final String DEFAULT_KID = "default";
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom();
+
     private final JwtProperties jwtProperties;
     private final UserRepository userRepository;
 
+    // 서명/검증 키와 파서는 시작 시 한 번만 만듦 (파서는 불변이라 스레드 간 공유, 키는 kid로 조회)
+    private JwtKeyRing keyRing;
+    private JwtParser parser;
+    private UserPrincipalCache userCache;
+
     @PostConstruct
     public void init() {
         log.debug("JWT Properties loaded - Secret Key length: {}",
@@ -36,11 +52,52 @@ public class JwtTokenProvider {
         if (jwtProperties.getSecretKey() == null) {
             throw new IllegalStateException("JWT secret key is not configured properly");
         }
+
+        keyRing = new JwtKeyRing(jwtProperties.getKeyId(), hmacKey(jwtProperties.getSecretKey()));
+        jwtProperties.getPreviousKeys().forEach((kid, secret) ->
+                keyRing.addVerificationKey(DEFAULT_KID.equals(kid) ? null : kid, hmacKey(secret)));
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.resolve(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 서명 키입니다: kid=" + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        log.debug("JWT 서명 키 준비 완료: kid={}, 검증 키 {}개", keyRing.current().headerKid(), keyRing.size());
+
+        userCache = new UserPrincipalCache(jwtProperties.getUserCacheTtlSeconds() * 1000, jwtProperties.getUserCacheSize());
+        log.debug("Stateless principal: {}, 사용자 캐시 TTL: {} seconds",
+                jwtProperties.isStatelessPrincipal(), jwtProperties.getUserCacheTtlSeconds());
+    }
+
+    private static Key hmacKey(String secretKey) {
+        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 현재 키로 서명 (kid가 있으면 헤더에 포함)
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing.Entry signingKey = keyRing.current();
+        if (signingKey.headerKid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.headerKid());
+        }
+        return builder.signWith(signingKey.key(), SignatureAlgorithm.HS256).compact();
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecretKey().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 토큰 식별자 (jti): 128비트 난수, 32자리 hex - 블랙리스트 키로 토큰 전체 대신 사용
+    private static String newTokenId() {
+        byte[] id = new byte[16];
+        TOKEN_ID_RANDOM.nextBytes(id);
+        return HexFormat.of().formatHex(id);
+    }
+
+    // 서명/만료 검증 후 클레임 반환 (실패 시 JwtException/IllegalArgumentException)
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String createAccessToken(String email) {
@@ -64,13 +121,12 @@ public class JwtTokenProvider {
             Date now = new Date();
             Date validity = new Date(now.getTime() + jwtProperties.getAccessTokenValidityInSeconds() * 1000);
 
-            String token = Jwts.builder()
+            String token = sign(Jwts.builder()
                     .setClaims(claims)
                     .setSubject(email)
+                    .setId(newTokenId())
                     .setIssuedAt(now)
-                    .setExpiration(validity)
-                    .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                    .compact();
+                    .setExpiration(validity));
 
             log.debug("Access Token 생성 완료: email={}, tokenLength={}", email, token.length());
             return token;
@@ -88,12 +144,11 @@ public class JwtTokenProvider {
             Date now = new Date();
             Date validity = new Date(now.getTime() + jwtProperties.getRefreshTokenValidityInSeconds() * 1000);
 
-            String token = Jwts.builder()
+            String token = sign(Jwts.builder()
                     .setSubject(email)
+                    .setId(newTokenId())
                     .setIssuedAt(now)
-                    .setExpiration(validity)
-                    .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                    .compact();
+                    .setExpiration(validity));
 
             log.debug("Refresh Token 생성 완료: email={}, tokenLength={}", email, token.length());
             return token;
@@ -105,27 +160,71 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        String email = getUsername(token);
-        User user = userRepository.findByEmail(email)
+        return authenticationFor(getUsername(token));
+    }
+
+    /**
+     * 이미 검증한 클레임으로 인증 객체 생성 (토큰을 다시 파싱하지 않음)
+     * stateless-principal이면 클레임(id, email, nickname)으로 principal을 만들어 DB를 조회하지 않음
+     * (영속 상태가 아닌 User, createdAt/updatedAt 없음 - 일정 조회/저장처럼 id만 쓰는 곳에서 사용)
+     * 클레임이 없는 토큰(리프레시 토큰 등)이나 비활성 시에는 TTL 캐시를 거쳐 엔티티 조회
+     */
+    public Authentication getAuthentication(TokenClaims claims) {
+        if (jwtProperties.isStatelessPrincipal() && claims.getId() != null && claims.getNickname() != null) {
+            User principal = User.builder()
+                    .id(claims.getId())
+                    .email(claims.getSubject())
+                    .nickname(claims.getNickname())
+                    .build();
+            return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+        }
+        return authenticationFor(claims.getSubject());
+    }
+
+    private Authentication authenticationFor(String email) {
+        User user = userCache.get(email, userRepository::findByEmail, System.currentTimeMillis())
                 .orElseThrow(() -> new IllegalArgumentException("User not found with email: " + email));
         return new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
     }
 
+    // 사용자 정보가 바뀌면 인증용 캐시에서 제거 (다음 요청에서 다시 조회)
+    public void evictUser(String email) {
+        userCache.evict(email);
+    }
+
+    // 사용자 정보 변경 커밋 후 캐시 제거 (커밋 전 제거하면 이전 값이 다시 캐시될 수 있음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        evictUser(event.getEmail());
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/서명 검증해 클레임 반환 (서명 오류, 만료, 형식 오류면 null)
+     * 인증 필터처럼 검증 → 인증 객체 생성 → 만료 임박 확인을 이어서 하는 곳에서 사용
+     */
+    public TokenClaims verify(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            return TokenClaims.builder()
+                    .subject(claims.getSubject())
+                    .tokenId(claims.getId())
+                    .id(claims.get("id", String.class))
+                    .email(claims.get("email", String.class))
+                    .nickname(claims.get("nickname", String.class))
+                    .expiration(claims.getExpiration())
+                    .build();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -139,11 +238,7 @@ public class JwtTokenProvider {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parseClaims(token);
             
             return claims.getExpiration().before(new Date());
         } catch (JwtException | IllegalArgumentException e) {
@@ -158,11 +253,7 @@ public class JwtTokenProvider {
      */
     public long getTokenExpirationTime(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parseClaims(token);
             
             Date expiration = claims.getExpiration();
             Date now = new Date();
@@ -181,11 +272,7 @@ public class JwtTokenProvider {
     }
 
     public Map<String, Object> getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token);
     }
 
     public String getEmailFromToken(String token) {
@@ -223,16 +310,22 @@ public class JwtTokenProvider {
         return isTokenExpiringSoon(token, 5); // 기본값: 5분 전
     }
 
+    /**
+     * 검증된 클레임의 만료 시각으로 만료 임박 여부 확인 (5분 전, 토큰을 다시 파싱하지 않음)
+     * @param claims verify()로 얻은 클레임
+     * @return 곧 만료될 예정이면 true
+     */
+    public boolean isTokenExpiringSoon(TokenClaims claims) {
+        long remainingTime = claims.remainingSeconds(System.currentTimeMillis());
+        return remainingTime > 0 && remainingTime <= 5 * 60;
+    }
+
     /**
      * JWT 토큰에서 만료 시간을 추출합니다.
      */
     public long getExpirationTimeFromToken(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parseClaims(token);
             
             return claims.getExpiration().getTime();
         } catch (Exception e) {
@@ -0,0 +1,30 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.notification.SseMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+// 단일 노드용 (sse.cluster.enabled=false, 기본값): 다른 노드가 없으므로 전달하지 않음
+@Component
+@ConditionalOnProperty(name = "sse.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalSseDeliveryBus implements SseDeliveryBus {
+
+    @Override
+    public void join(String userId) {
+    }
+
+    @Override
+    public void leave(String userId) {
+    }
+
+    @Override
+    public int route(SseMessage message) {
+        return 0;
+    }
+
+    @Override
+    public void setHandler(Consumer<SseMessage> handler) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.calendar.app.service;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+// 클러스터 내 이 인스턴스의 식별자 (호스트명 + 기동마다 새로 만드는 접미사, 재기동한 노드는 새 노드로 취급)
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
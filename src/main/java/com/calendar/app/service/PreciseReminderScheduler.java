@@ -1,113 +1,402 @@
 package com.calendar.app.service;
 
+import com.calendar.app.dto.schedule.ReminderSlot;
 import com.calendar.app.entity.Schedule;
+import com.calendar.app.event.ReminderShardsChangedEvent;
 import com.calendar.app.event.ReminderTimeEvent;
+import com.calendar.app.event.ScheduleBulkChangedEvent;
+import com.calendar.app.event.ScheduleCreatedEvent;
+import com.calendar.app.event.ScheduleDeletedEvent;
+import com.calendar.app.event.ScheduleUpdatedEvent;
 import com.calendar.app.repository.ScheduleRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.time.LocalDate;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PreciseReminderScheduler {
 
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4; // 64^4초 ≈ 194일
+    private static final int FETCH_CHUNK_SIZE = 500;
+    private static final long RETRY_DELAY_MS = 5000;
+    private static final long CHECKPOINT_INTERVAL_MS = 5000;
+
     private final ScheduleRepository scheduleRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final RedisService redisService;
+    private final ReminderShardCoordinator shardCoordinator;
+    private final ScheduleSeriesService seriesService;
+
+    // 알림 마감 시각을 메모리에 보관 (id만 저장, 발송 시점에 한 번에 조회)
+    private final ReminderTimingWheel wheel =
+            new ReminderTimingWheel(TICK_MS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+    @Value("${reminder.wheel.window-hours:24}")
+    private long windowHours;
+
+    // 재시작/장애 후 따라잡기 최대 범위 (이보다 오래된 미발송 알림은 포기)
+    @Value("${reminder.catch-up.max-lookback-minutes:60}")
+    private long maxLookbackMinutes;
+
+    // 휠에 적재된 구간의 끝 (이 시각 이후 알림은 다음 리필에서 적재)
+    private volatile LocalDateTime loadedUntil = LocalDateTime.MIN;
+    private volatile LocalDateTime lastFiredAt;
+
+    // 체크포인트(high-water mark): 이 시각 미만의 알림은 처리 완료. Redis에 주기적으로 저장
+    private volatile long lastCheckpointSavedMs;
+    // 재시도 대기 중인 알림이 있으면 이 시각까지 체크포인트 전진 보류
+    private volatile long checkpointHoldUntilMs;
 
     /**
-     * 매분 정각에 정확한 알림 시간이 된 일정들을 찾아서 이벤트 발행
-     * 타임아웃 설정: 30초 내에 완료되지 않으면 작업 중단
+     * 애플리케이션 시작 시 마지막 체크포인트 ~ 현재 + window 구간의 알림을 휠에 적재
+     * 중단된 동안 놓친 알림(체크포인트 이후, 최대 lookback 이내)은 다음 tick에 바로 발송됨
+     * 클러스터 모드에서는 샤드 rebalance(@Scheduled)가 이보다 먼저 돌아 넘겨받은 샤드를 onShardsChanged가 건너뛰므로
+     * 넘겨받은 샤드와 같은 lease 2배 구간부터 적재 (다른 노드의 체크포인트가 앞서 있어도 인수 공백을 놓치지 않음)
      */
-    @Scheduled(cron = "0 * * * * *") // 매분 정각
-    @Transactional(readOnly = true, timeout = 30) // 30초 타임아웃
-    public void checkReminderTimes() {
-        long startTime = System.currentTimeMillis();
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadInitialWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = catchUpStart(now);
+        if (shardCoordinator.isClusterEnabled()) {
+            from = earlier(from, takeoverStart(now));
+        }
+        advanceStaleSeries(from, now);
+        int loaded = loadWindow(from, now.plusHours(windowHours));
+        log.info("알림 휠 초기 적재: {}건, 적재 구간 {} ~ {}", loaded, from, loadedUntil);
+    }
+
+    /**
+     * 매시 정각에 적재 구간을 window 만큼 앞으로 연장
+     * 구간 내 변경은 이벤트로 반영되므로 새로 열린 구간만 조회
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public synchronized void refillWindow() {
         try {
+            LocalDateTime from = loadedUntil;
             LocalDateTime now = LocalDateTime.now();
-            LocalDate today = now.toLocalDate();
-            
-            // 현재 시간을 분 단위로 정확히 맞춤 (초는 제거)
-            LocalTime currentTime = LocalTime.of(now.getHour(), now.getMinute());
-            
-            log.debug("알림 시간 체크: {} {}", today, currentTime);
-            
-            // 현재 시간에 알림이 필요한 일정들 조회
-            List<Schedule> dueSchedules = scheduleRepository
-                    .findByReminderTimeAndNotReminded(today, currentTime);
-            
-            if (!dueSchedules.isEmpty()) {
-                log.info("알림 시간 도달: {}건의 일정", dueSchedules.size());
-                
-                for (Schedule schedule : dueSchedules) {
-                    try {
-                        // 이벤트 발행 (비동기 처리)
-                        ReminderTimeEvent event = new ReminderTimeEvent(
-                                this, schedule, now);
-                        eventPublisher.publishEvent(event);
-                        
-                        log.debug("알림 이벤트 발행: scheduleId={}, title={}, startTime={}", 
-                                schedule.getId(), schedule.getTitle(), schedule.getStartTime());
-                    } catch (Exception e) {
-                        log.error("알림 이벤트 발행 실패: scheduleId={}, error={}", 
-                                schedule.getId(), e.getMessage(), e);
-                    }
-                }
-            }
-            
-            long executionTime = System.currentTimeMillis() - startTime;
-            if (executionTime > 5000) { // 5초 이상 걸리면 경고
-                log.warn("알림 시간 체크 작업이 오래 걸림: {}ms", executionTime);
+            // 리필이 밀렸으면 빈 구간부터 이어서 적재 (최대 lookback까지)
+            LocalDateTime lookbackLimit = now.minusMinutes(maxLookbackMinutes);
+            if (from.isBefore(lookbackLimit)) {
+                from = lookbackLimit;
             }
-            
+            advanceStaleSeries(lookbackLimit, now);
+            int loaded = loadWindow(from, now.plusHours(windowHours));
+            log.debug("알림 휠 리필: {}건, 적재 구간 ~ {}", loaded, loadedUntil);
         } catch (Exception e) {
-            log.error("알림 시간 체크 작업 실패: {}", e.getMessage(), e);
+            log.error("알림 휠 리필 실패: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * 매일 자정에 전날 알림 상태 초기화
-     * 타임아웃 설정: 60초 내에 완료되지 않으면 작업 중단
+     * 매초 휠을 전진시키고 마감에 도달한 일정들의 알림 이벤트 발행
+     * 만료 항목이 없으면 DB 조회 없음
+     * tick이 늦어져도(GC 멈춤 등) 휠이 밀린 tick을 모두 순회하므로 누락 없음
      */
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정
-    @Transactional(timeout = 60) // 60초 타임아웃
-    public void resetDailyReminders() {
+    @Scheduled(fixedRate = TICK_MS)
+    public void tick() {
+        List<String> dueIds = wheel.advanceTo(System.currentTimeMillis());
+        if (!dueIds.isEmpty()) {
+            fireDueIds(dueIds);
+        }
+        saveCheckpoint(!dueIds.isEmpty());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        saveCheckpoint(true);
+    }
+
+    private void fireDueIds(List<String> dueIds) {
+
         long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        log.info("알림 시간 도달: {}건의 일정", dueIds.size());
+
+        for (int from = 0; from < dueIds.size(); from += FETCH_CHUNK_SIZE) {
+            List<String> chunk = dueIds.subList(from, Math.min(from + FETCH_CHUNK_SIZE, dueIds.size()));
+            try {
+                fireDue(scheduleRepository.findAllById(chunk), now);
+            } catch (Exception e) {
+                // 조회 실패 시 휠에서 빠진 항목을 잠시 후 재시도
+                log.error("알림 대상 조회 실패, {}ms 후 재시도: {}건, error={}", RETRY_DELAY_MS, chunk.size(), e.getMessage(), e);
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+                chunk.forEach(id -> wheel.schedule(id, retryAt));
+                checkpointHoldUntilMs = retryAt;
+            }
+        }
+        lastFiredAt = now;
+
+        long executionTime = System.currentTimeMillis() - startTime;
+        if (executionTime > 5000) { // 5초 이상 걸리면 경고
+            log.warn("알림 발송 작업이 오래 걸림: {}ms", executionTime);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleCreated(ScheduleCreatedEvent event) {
+        track(event.getSchedule());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleUpdated(ScheduleUpdatedEvent event) {
+        track(event.getSchedule());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleDeleted(ScheduleDeletedEvent event) {
+        wheel.cancel(event.getSchedule().getId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleBulkChanged(ScheduleBulkChangedEvent event) {
+        event.getCreated().forEach(this::track);
+        event.getUpdated().forEach(this::track);
+        event.getDeleted().forEach(schedule -> wheel.cancel(schedule.getId()));
+        event.getReminderSlots().forEach(slot -> track(slot.getId(), slot.getUserId(), slot.getFireAt()));
+    }
+
+    /**
+     * 클러스터 모드에서 샤드 소유권이 바뀌면 해당 샤드 알림을 적재/제거
+     * 넘겨받은 샤드는 이전 노드가 멈춘 뒤 lease가 풀리기까지의 공백도 따라잡도록 lease 2배 구간부터 적재
+     */
+    @EventListener
+    public synchronized void onShardsChanged(ReminderShardsChangedEvent event) {
+        if (loadedUntil == LocalDateTime.MIN) {
+            return; // 초기 적재 전: loadInitialWindow가 소유 샤드만 적재
+        }
         try {
-            LocalDate yesterday = LocalDate.now().minusDays(1);
-            int resetCount = scheduleRepository.resetRemindedStatus(yesterday);
-            
-            if (resetCount > 0) {
-                log.info("전날 알림 상태 초기화: {}건", resetCount);
+            LocalDateTime now = LocalDateTime.now();
+            if (!event.getReleased().isEmpty()) {
+                int unloaded = 0;
+                for (ReminderSlot slot : scheduleRepository.findReminderSlots(
+                        now.minusMinutes(maxLookbackMinutes), loadedUntil)) {
+                    if (event.getReleased().contains(ReminderShardCoordinator.shardOf(slot.getUserId()))
+                            && wheel.cancel(slot.getId())) {
+                        unloaded++;
+                    }
+                }
+                log.info("알림 샤드 해제: {}개 샤드, 휠에서 {}건 제거", event.getReleased().size(), unloaded);
             }
-            
-            long executionTime = System.currentTimeMillis() - startTime;
-            if (executionTime > 10000) { // 10초 이상 걸리면 경고
-                log.warn("알림 상태 초기화 작업이 오래 걸림: {}ms", executionTime);
+            if (!event.getAcquired().isEmpty()) {
+                LocalDateTime from = earlier(catchUpStart(now), takeoverStart(now));
+                int loaded = loadSlots(from, loadedUntil, event.getAcquired());
+                log.info("알림 샤드 획득: {}개 샤드, {}건 적재 ({} ~ {})", event.getAcquired().size(), loaded, from, loadedUntil);
             }
-            
         } catch (Exception e) {
-            log.error("알림 상태 초기화 작업 실패: {}", e.getMessage(), e);
+            log.error("알림 샤드 변경 반영 실패: {}", e.getMessage(), e);
         }
     }
-    
+
     /**
      * 스케줄러 상태 모니터링
      */
     public Map<String, Object> getSchedulerStats() {
-        return Map.of(
-            "lastCheckTime", LocalDateTime.now().format(java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-            "status", "RUNNING"
-        );
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("status", "RUNNING");
+        stats.put("pendingReminders", wheel.size());
+        stats.put("loadedUntil", loadedUntil.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        stats.put("lastFiredAt", lastFiredAt != null ? lastFiredAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null);
+        stats.put("processedBefore", toLocalDateTime(wheel.processedBeforeMs()).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        stats.put("shards", shardCoordinator.getShardStats());
+        return stats;
+    }
+
+    // 따라잡기 시작 시각: 저장된 체크포인트, 단 최대 lookback 이전으로는 가지 않음
+    private LocalDateTime catchUpStart(LocalDateTime now) {
+        LocalDateTime lookbackLimit = now.minusMinutes(maxLookbackMinutes);
+        try {
+            Long checkpoint = redisService.getReminderCheckpoint();
+            if (checkpoint == null) {
+                return now; // 최초 기동: 과거 알림은 재발송하지 않음
+            }
+            LocalDateTime processedBefore = toLocalDateTime(checkpoint);
+            return processedBefore.isBefore(lookbackLimit) ? lookbackLimit : processedBefore;
+        } catch (Exception e) {
+            log.warn("알림 체크포인트 조회 실패, 최대 lookback 구간부터 복구: {}", e.getMessage());
+            return lookbackLimit;
+        }
+    }
+
+    // 넘겨받은 샤드의 따라잡기 시작 시각: 이전 노드가 멈춘 뒤 lease가 풀리기까지의 공백을 덮도록 lease 2배 전
+    private LocalDateTime takeoverStart(LocalDateTime now) {
+        return now.minusNanos(shardCoordinator.getLeaseMs() * 2 * 1_000_000L);
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // 처리 완료 시각을 Redis에 저장 (평소엔 CHECKPOINT_INTERVAL_MS 간격, 발송이 있었으면 즉시)
+    // 여러 노드가 같은 키를 쓰므로 저장된 값보다 클 때만 갱신 (뒤처진 노드가 체크포인트를 되돌리지 않음)
+    private void saveCheckpoint(boolean force) {
+        long nowMs = System.currentTimeMillis();
+        if (!force && nowMs - lastCheckpointSavedMs < CHECKPOINT_INTERVAL_MS) {
+            return;
+        }
+        long processedBefore = wheel.processedBeforeMs();
+        if (processedBefore <= checkpointHoldUntilMs) {
+            return;
+        }
+        try {
+            if (!redisService.saveReminderCheckpoint(processedBefore)) {
+                log.debug("알림 체크포인트 유지: 저장된 값이 더 최근 ({} 이상)", processedBefore);
+            }
+            lastCheckpointSavedMs = nowMs;
+        } catch (Exception e) {
+            log.warn("알림 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // [from, to) 구간의 알림을 휠에 적재
+    private int loadWindow(LocalDateTime from, LocalDateTime to) {
+        // 적재 구간을 먼저 넓혀서, 조회 도중 들어온 변경 이벤트도 휠에 반영되도록 함
+        LocalDateTime previous = loadedUntil;
+        loadedUntil = to;
+        try {
+            return loadSlots(from, to, null);
+        } catch (RuntimeException e) {
+            // 조회 실패 시 적재 구간을 되돌려 다음 리필에서 같은 구간을 다시 조회 (안 되돌리면 그 구간 알림이 빠짐)
+            loadedUntil = previous;
+            throw e;
+        }
+    }
+
+    // [from, to) 구간에서 이 노드가 소유한 샤드(shards가 있으면 그중에서만)의 알림을 휠에 적재
+    private int loadSlots(LocalDateTime from, LocalDateTime to, Set<Integer> shards) {
+        List<ReminderSlot> slots = scheduleRepository.findReminderSlots(from, to);
+        int loaded = 0;
+        for (ReminderSlot slot : slots) {
+            int shard = ReminderShardCoordinator.shardOf(slot.getUserId());
+            if ((shards != null && !shards.contains(shard)) || !shardCoordinator.ownsShard(shard)) {
+                continue;
+            }
+            if (wheel.schedule(slot.getId(), toEpochMillis(slot.getFireAt()))) {
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private void fireDue(List<Schedule> schedules, LocalDateTime now) {
+        for (Schedule schedule : schedules) {
+            // 휠 등록 이후 상태가 바뀌었을 수 있으므로 재검증
+            LocalDateTime deadline = schedule.getFireAt();
+            if (!schedule.isReminderEnabled() || schedule.isReminded() || deadline == null) {
+                continue;
+            }
+            // 휠 등록 이후 샤드를 넘겨줬으면 새 담당 노드가 발송
+            if (!shardCoordinator.ownsUser(schedule.getUser().getId())) {
+                continue;
+            }
+            if (deadline.isAfter(now)) {
+                wheel.schedule(schedule.getId(), toEpochMillis(deadline));
+                continue;
+            }
+            try {
+                // 이벤트 발행 (비동기 처리)
+                eventPublisher.publishEvent(new ReminderTimeEvent(this, schedule, now));
+
+                log.debug("알림 이벤트 발행: scheduleId={}, title={}, startTime={}, fireAt={}",
+                        schedule.getId(), schedule.getTitle(), schedule.getStartTime(), deadline);
+            } catch (Exception e) {
+                log.error("알림 이벤트 발행 실패: scheduleId={}, error={}",
+                        schedule.getId(), e.getMessage(), e);
+            }
+            if (schedule.isRecurring()) {
+                advanceSeries(schedule, now);
+            }
+        }
+    }
+
+    // 반복 일정: 발송한 회차 다음 회차로 fire_at을 옮기고 휠에 다시 등록 (발송 이벤트의 일정 객체는 그대로 둠)
+    private void advanceSeries(Schedule schedule, LocalDateTime now) {
+        try {
+            LocalDateTime next = seriesService.advanceReminder(schedule, now);
+            if (next != null) {
+                track(schedule.getId(), schedule.getUser().getId(), next);
+            }
+        } catch (Exception e) {
+            // 옮기지 못한 회차는 따라잡기 범위를 지나면 리필 때 정리됨
+            log.error("반복 일정 다음 회차 알림 등록 실패: scheduleId={}, error={}", schedule.getId(), e.getMessage(), e);
+        }
+    }
+
+    // 따라잡기 범위 이전에 멈춘 반복 일정 알림을 다음 회차로 이동 (휠 적재 전, 이동한 회차는 이어지는 적재에서 포함)
+    private void advanceStaleSeries(LocalDateTime before, LocalDateTime now) {
+        try {
+            int advanced = seriesService.advanceStaleReminders(before, now);
+            if (advanced > 0) {
+                log.info("밀린 반복 일정 알림 이동: {}건", advanced);
+            }
+        } catch (Exception e) {
+            log.warn("밀린 반복 일정 알림 이동 실패: {}", e.getMessage());
+        }
+    }
+
+    // 생성/수정된 일정을 휠에 반영 (적재 구간 밖이면 리필 때 적재)
+    private void track(Schedule schedule) {
+        if (!schedule.isReminderEnabled() || schedule.isReminded()) {
+            wheel.cancel(schedule.getId());
+            return;
+        }
+        track(schedule.getId(), schedule.getUser().getId(), schedule.getFireAt());
+    }
+
+    private void track(String id, String userId, LocalDateTime deadline) {
+        if (deadline == null
+                || !shardCoordinator.ownsUser(userId)
+                || deadline.isAfter(loadedUntil)
+                || toEpochMillis(deadline) < wheel.currentTimeMs()) {
+            wheel.cancel(id);
+            return;
+        }
+        wheel.schedule(id, toEpochMillis(deadline));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 }
+
+/*
+    * PreciseReminderScheduler.java
+    * 타이밍 휠 기반 알림 스케줄러
+    * - 시작 시 현재 ~ window(기본 24시간) 구간의 알림 대상을 휠에 적재
+    * - 매시 정각 새로 열린 구간만 조회하여 적재 구간 연장
+    * - 일정 생성/수정/삭제 이벤트로 휠을 최신 상태로 유지 (커밋 이후 반영)
+    * - 매초 휠을 전진시키고, 만료된 일정만 id로 일괄 조회하여 ReminderTimeEvent 발행
+    * - 처리 완료 시각(체크포인트)을 Redis에 저장하고, 재시작 시 그 시각부터 적재하여 놓친 알림을 따라잡음
+      (체크포인트는 앞으로만 이동, 조회 실패로 재시도 대기 중이면 그 시각까지 전진 보류)
+      (reminder.catch-up.max-lookback-minutes 이전 알림은 포기)
+    * - 평상시에는 매분 DB 조회가 발생하지 않음
+    * - 반복 일정은 원본 fire_at에 다음 회차 알림 시각만 있음: 발송 후 다음 회차로 옮겨 다시 휠에 등록,
+      따라잡기 범위 이전에 멈춘 원본은 적재 전에 현재 이후 회차로 이동
+    * - reminded는 발송한 알림 시각에만 붙고 일정/알림 시각이 바뀌면 수정 시 초기화되므로 날짜 단위 일괄 초기화는 하지 않음
+      (초기화하면 이미 보낸 알림이 다음 적재에서 다시 잡혀 중복 발송됨)
+    * - 클러스터 모드(reminder.cluster.enabled=true)에서는 ReminderShardCoordinator가 배정한 샤드(사용자 id 해시 구간)의 알림만 적재/발송
+      샤드 소유권이 바뀌면 ReminderShardsChangedEvent로 해당 샤드 알림을 적재/제거
+ */
@@ -0,0 +1,389 @@
+package com.calendar.app.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE의 일정 단위 부분집합)
+ * - FREQ=DAILY|WEEKLY|MONTHLY|YEARLY, INTERVAL, COUNT 또는 UNTIL(날짜)
+ * - WEEKLY: BYDAY=MO,WE (주 시작은 월요일)
+ * - MONTHLY: BYMONTHDAY=1,15,-1 또는 BYDAY=2TU,-1FR (서수 없는 요일은 그 달의 해당 요일 전체)
+ * 회차는 시작 날짜(일정 날짜) 이후에서만 만들고, 없는 날짜(2월 30일 등)는 건너뛴다.
+ * 회차 계산은 조회 구간이 속한 주기부터 시작하므로 시리즈가 오래될수록 느려지지 않는다. (COUNT는 끝 날짜 계산에 한 번 순회)
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    static final int MAX_COUNT = 1000;
+    // 회차가 하나도 없는 주기가 이만큼 이어지면 규칙에 맞는 날짜가 없다고 보고 중단 (예: 2월에만 도는 BYMONTHDAY=30)
+    private static final int MAX_EMPTY_PERIODS = 1000;
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDate until;
+    private final List<DayOfWeek> byDay;       // WEEKLY 요일, MONTHLY 서수 없는 요일
+    private final List<int[]> byOrdinalDay;    // MONTHLY 서수 요일 {서수, 요일(1~7)}
+    private final List<Integer> byMonthDay;    // MONTHLY 날짜 (음수는 말일 기준)
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDate until,
+                           List<DayOfWeek> byDay, List<int[]> byOrdinalDay, List<Integer> byMonthDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+        this.byOrdinalDay = byOrdinalDay;
+        this.byMonthDay = byMonthDay;
+    }
+
+    /**
+     * RRULE 문자열 파싱 ("RRULE:" 접두어 허용), 지원하지 않는 규칙이면 IllegalArgumentException
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        String value = rule.trim().toUpperCase(Locale.ROOT);
+        if (value.startsWith("RRULE:")) {
+            value = value.substring("RRULE:".length());
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDate until = null;
+        List<DayOfWeek> byDay = new ArrayList<>();
+        List<int[]> byOrdinalDay = new ArrayList<>();
+        List<Integer> byMonthDay = new ArrayList<>();
+        for (String part : value.split(";")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("잘못된 반복 규칙입니다: " + part);
+            }
+            String key = part.substring(0, eq);
+            String v = part.substring(eq + 1);
+            try {
+                switch (key) {
+                    case "FREQ" -> frequency = Frequency.valueOf(v);
+                    case "INTERVAL" -> interval = Integer.parseInt(v);
+                    case "COUNT" -> count = Integer.parseInt(v);
+                    // UNTIL=20251231 또는 20251231T235959Z (일정 단위이므로 날짜만 사용)
+                    case "UNTIL" -> until = LocalDate.parse(v.length() > 8 ? v.substring(0, 8) : v, UNTIL_DATE);
+                    case "BYDAY" -> {
+                        for (String day : v.split(",")) {
+                            String code = day.substring(day.length() - 2);
+                            DayOfWeek dow = dayOfWeek(code);
+                            if (day.length() == 2) {
+                                byDay.add(dow);
+                            } else {
+                                int ordinal = Integer.parseInt(day.substring(0, day.length() - 2));
+                                if (ordinal == 0 || Math.abs(ordinal) > 5) {
+                                    throw new IllegalArgumentException("잘못된 BYDAY 서수입니다: " + day);
+                                }
+                                byOrdinalDay.add(new int[]{ordinal, dow.getValue()});
+                            }
+                        }
+                    }
+                    case "BYMONTHDAY" -> {
+                        for (String day : v.split(",")) {
+                            int d = Integer.parseInt(day);
+                            if (d == 0 || Math.abs(d) > 31) {
+                                throw new IllegalArgumentException("잘못된 BYMONTHDAY입니다: " + day);
+                            }
+                            byMonthDay.add(d);
+                        }
+                    }
+                    case "WKST" -> {
+                        if (!v.equals("MO")) {
+                            throw new IllegalArgumentException("WKST는 MO만 지원합니다.");
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙입니다: " + key);
+                }
+            } catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 반복 규칙입니다: " + part);
+            } catch (IllegalArgumentException e) {
+                if (e.getMessage() != null && e.getMessage().startsWith("No enum constant")) {
+                    throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + v);
+                }
+                throw e;
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 주기(FREQ)가 없습니다.");
+        }
+        if (interval < 1 || interval > 999) {
+            throw new IllegalArgumentException("INTERVAL은 1~999 사이여야 합니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 쓸 수 없습니다.");
+        }
+        if (count != null && (count < 1 || count > MAX_COUNT)) {
+            throw new IllegalArgumentException("COUNT는 1~" + MAX_COUNT + " 사이여야 합니다.");
+        }
+        boolean weekly = frequency == Frequency.WEEKLY;
+        boolean monthly = frequency == Frequency.MONTHLY;
+        if ((!weekly && !monthly && !byDay.isEmpty()) || (!monthly && (!byOrdinalDay.isEmpty() || !byMonthDay.isEmpty()))) {
+            throw new IllegalArgumentException(frequency + " 반복에서 지원하지 않는 BY 규칙입니다.");
+        }
+        if (monthly && !byMonthDay.isEmpty() && (!byDay.isEmpty() || !byOrdinalDay.isEmpty())) {
+            throw new IllegalArgumentException("BYMONTHDAY와 BYDAY는 함께 쓸 수 없습니다.");
+        }
+        return new RecurrenceRule(frequency, interval, count, until,
+                List.copyOf(new TreeSet<>(byDay)), List.copyOf(byOrdinalDay), List.copyOf(new TreeSet<>(byMonthDay)));
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * 정규화된 RRULE 문자열 (저장용)
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            sb.append(";INTERVAL=").append(interval);
+        }
+        if (count != null) {
+            sb.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            sb.append(";UNTIL=").append(UNTIL_DATE.format(until));
+        }
+        if (!byDay.isEmpty() || !byOrdinalDay.isEmpty()) {
+            List<String> days = new ArrayList<>();
+            byOrdinalDay.forEach(d -> days.add(d[0] + code(DayOfWeek.of(d[1]))));
+            byDay.forEach(d -> days.add(code(d)));
+            sb.append(";BYDAY=").append(String.join(",", days));
+        }
+        if (!byMonthDay.isEmpty()) {
+            sb.append(";BYMONTHDAY=").append(String.join(",", byMonthDay.stream().map(String::valueOf).toList()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 시작 날짜 이후 첫 회차 (없으면 null)
+     */
+    public LocalDate first(LocalDate start) {
+        Iterator<LocalDate> it = iterator(start, start, null);
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * 마지막 회차 날짜 상한 (UNTIL 또는 COUNT번째 회차, 끝이 없으면 null)
+     */
+    public LocalDate lastDate(LocalDate start) {
+        if (count == null) {
+            return until;
+        }
+        Iterator<LocalDate> it = iterator(start, start, null);
+        LocalDate last = null;
+        for (int i = 0; i < count && it.hasNext(); i++) {
+            last = it.next();
+        }
+        return last;
+    }
+
+    /**
+     * [from, to] 구간의 회차 (날짜순)
+     * @param last lastDate(start) 결과 (COUNT 규칙도 순회 없이 끝을 알 수 있도록 호출자가 저장해 둔 값)
+     */
+    public List<LocalDate> between(LocalDate start, LocalDate last, LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        Iterator<LocalDate> it = iterator(start, from, last);
+        while (it.hasNext()) {
+            LocalDate date = it.next();
+            if (date.isAfter(to)) {
+                break;
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    /**
+     * from(포함) 이후 회차를 차례로 (last 이후는 없음)
+     */
+    public Iterator<LocalDate> iterator(LocalDate start, LocalDate from, LocalDate last) {
+        LocalDate lower = from.isBefore(start) ? start : from;
+        return new Iterator<>() {
+            private long period = periodOf(start, lower);
+            private List<LocalDate> candidates = List.of();
+            private int index;
+            private LocalDate next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public LocalDate next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                LocalDate current = next;
+                next = advance();
+                return current;
+            }
+
+            private LocalDate advance() {
+                int empty = 0;
+                while (true) {
+                    while (index < candidates.size()) {
+                        LocalDate date = candidates.get(index++);
+                        if (last != null && date.isAfter(last)) {
+                            return null;
+                        }
+                        if (!date.isBefore(lower)) {
+                            return date;
+                        }
+                    }
+                    if (empty++ > MAX_EMPTY_PERIODS) {
+                        return null;
+                    }
+                    LocalDate periodStart = periodStart(start, period);
+                    if (last != null && periodStart.isAfter(last)) {
+                        return null;
+                    }
+                    candidates = candidates(start, periodStart);
+                    index = 0;
+                    period++;
+                    if (!candidates.isEmpty()) {
+                        empty = 0;
+                    }
+                }
+            }
+        };
+    }
+
+    // from이 속한 주기 번호 (시작 주기 = 0, INTERVAL 단위로 내림)
+    private long periodOf(LocalDate start, LocalDate from) {
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(from));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from));
+            case YEARLY -> from.getYear() - start.getYear();
+        };
+        return Math.max(units / interval, 0);
+    }
+
+    // 주기의 첫 날짜
+    private LocalDate periodStart(LocalDate start, long period) {
+        long units = period * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(units);
+            case WEEKLY -> weekStart(start).plusWeeks(units);
+            case MONTHLY -> YearMonth.from(start).plusMonths(units).atDay(1);
+            case YEARLY -> LocalDate.of(start.getYear(), 1, 1).plusYears(units);
+        };
+    }
+
+    // 주기 안의 회차 후보 (날짜순, 시작 날짜 이전/끝 이후 필터는 호출자가)
+    private List<LocalDate> candidates(LocalDate start, LocalDate periodStart) {
+        return switch (frequency) {
+            case DAILY -> List.of(periodStart);
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    yield List.of(periodStart.with(TemporalAdjusters.nextOrSame(start.getDayOfWeek())));
+                }
+                List<LocalDate> days = new ArrayList<>(byDay.size());
+                byDay.forEach(dow -> days.add(periodStart.with(TemporalAdjusters.nextOrSame(dow))));
+                yield days;
+            }
+            case MONTHLY -> monthCandidates(start, YearMonth.from(periodStart));
+            case YEARLY -> {
+                int year = periodStart.getYear();
+                YearMonth month = YearMonth.of(year, start.getMonth());
+                // 2월 29일 시작은 윤년에만
+                yield month.isValidDay(start.getDayOfMonth()) ? List.of(month.atDay(start.getDayOfMonth())) : List.of();
+            }
+        };
+    }
+
+    private List<LocalDate> monthCandidates(LocalDate start, YearMonth month) {
+        TreeSet<LocalDate> days = new TreeSet<>();
+        if (byDay.isEmpty() && byOrdinalDay.isEmpty()) {
+            List<Integer> monthDays = byMonthDay.isEmpty() ? List.of(start.getDayOfMonth()) : byMonthDay;
+            for (int d : monthDays) {
+                int day = d > 0 ? d : month.lengthOfMonth() + 1 + d;
+                if (day >= 1 && month.isValidDay(day)) {
+                    days.add(month.atDay(day));
+                }
+            }
+            return List.copyOf(days);
+        }
+        for (DayOfWeek dow : byDay) {
+            for (LocalDate d = month.atDay(1).with(TemporalAdjusters.nextOrSame(dow));
+                 !d.isAfter(month.atEndOfMonth()); d = d.plusWeeks(1)) {
+                days.add(d);
+            }
+        }
+        for (int[] ordinal : byOrdinalDay) {
+            DayOfWeek dow = DayOfWeek.of(ordinal[1]);
+            LocalDate d = ordinal[0] > 0
+                    ? month.atDay(1).with(TemporalAdjusters.dayOfWeekInMonth(ordinal[0], dow))
+                    : month.atEndOfMonth().with(TemporalAdjusters.lastInMonth(dow)).minusWeeks(-ordinal[0] - 1);
+            // 5번째 요일이 없는 달은 다음 달로 넘어가므로 제외
+            if (YearMonth.from(d).equals(month)) {
+                days.add(d);
+            }
+        }
+        return List.copyOf(days);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static DayOfWeek dayOfWeek(String code) {
+        return switch (code) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("잘못된 요일입니다: " + code);
+        };
+    }
+
+    private static String code(DayOfWeek dow) {
+        return dow.name().substring(0, 2);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RecurrenceRule other && format().equals(other.format());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(format());
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
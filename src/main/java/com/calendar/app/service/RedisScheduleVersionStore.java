@@ -0,0 +1,42 @@
+package com.calendar.app.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 일정 버전 (schedule.version.store=redis, 다중 노드용)
+ * SCH:VER:{userId} 카운터를 모든 노드가 공유하므로 어느 노드에서 수정해도 모든 노드의 ETag가 바뀐다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "schedule.version.store", havingValue = "redis")
+public class RedisScheduleVersionStore implements ScheduleVersionStore {
+
+    private final RedisService redisService;
+
+    @Value("${schedule.version.ttl-ms:604800000}")
+    private long ttlMs;
+
+    @Override
+    public String current(String userId) {
+        try {
+            return redisService.getScheduleVersion(userId, System.currentTimeMillis(), ttlMs);
+        } catch (Exception e) {
+            log.warn("[VERSION] read fail user={} error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void bump(String userId) {
+        try {
+            redisService.bumpScheduleVersion(userId, System.currentTimeMillis(), ttlMs);
+        } catch (Exception e) {
+            log.warn("[VERSION] bump fail user={} error={}", userId, e.getMessage());
+        }
+    }
+}
@@ -1,9 +1,25 @@
 package com.calendar.app.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -12,6 +28,86 @@ public class RedisService {
     private final StringRedisTemplate redisTemplate;
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
     private static final String BLACKLIST_PREFIX = "BL:";
+    private static final String BLACKLIST_INDEX_KEY = "BL:INDEX";
+    private static final String REMINDER_CHECKPOINT_KEY = "RM:CHECKPOINT";
+    private static final String REMINDER_NODES_KEY = "RM:NODES";
+    private static final String REMINDER_SHARD_PREFIX = "RM:SHARD:";
+    private static final String SSE_REPLAY_PREFIX = "SSE:REPLAY:";
+    private static final String SSE_REPLAY_FIELD = "f";
+    private static final String SSE_OUTBOX_PREFIX = "SSE:OUTBOX:";
+    private static final String SCHEDULE_MONTH_PREFIX = "SCH:MONTH:";
+    private static final String SCHEDULE_MONTH_VERSION_FIELD = "v";
+    private static final String SCHEDULE_MONTH_DATA_FIELD = "d";
+    private static final String SCHEDULE_VERSION_PREFIX = "SCH:VER:";
+
+    // 비어 있거나 내 소유면 lease 설정/연장
+    private static final RedisScript<Long> ACQUIRE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end " +
+            "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end " +
+            "return 0", Long.class);
+
+    // 내 소유일 때만 lease 해제
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    // 알림 체크포인트는 앞으로만 이동: 저장된 값보다 클 때만 갱신 (뒤처진 노드가 되돌리지 않도록)
+    private static final RedisScript<Long> ADVANCE_CHECKPOINT_SCRIPT = new DefaultRedisScript<>(
+            "local v = tonumber(redis.call('GET', KEYS[1])) " +
+            "if v and v >= tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 재생 로그 추가: 최근 ARGV[1]개 정도만 유지(~), 마지막 추가 후 ARGV[3]ms 뒤 만료
+    private static final RedisScript<String> APPEND_REPLAY_SCRIPT = new DefaultRedisScript<>(
+            "local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', '" + SSE_REPLAY_FIELD + "', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return id", String.class);
+
+    // 보관함 추가: 최근 ARGV[2]개만 유지, 마지막 추가 후 ARGV[3]ms 뒤 키 만료
+    private static final RedisScript<Long> PUSH_OUTBOX_SCRIPT = new DefaultRedisScript<>(
+            "local size = redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+            "redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return size", Long.class);
+
+    // 보관함 전체 조회 후 삭제 (원자적으로 한 번만 전달)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_OUTBOX_SCRIPT = new DefaultRedisScript<>(
+            "local items = redis.call('LRANGE', KEYS[1], 0, -1) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return items", List.class);
+
+    // 월 캐시 저장: 조회 전에 읽은 버전(ARGV[1], 없으면 빈 문자열)이 그대로일 때만 저장 (그 사이 무효화되었으면 버림)
+    private static final RedisScript<Long> PUT_MONTH_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HGET', KEYS[1], '" + SCHEDULE_MONTH_VERSION_FIELD + "') or '' " +
+            "if v ~= ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], '" + SCHEDULE_MONTH_DATA_FIELD + "', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1", Long.class);
+
+    // 월 캐시 무효화: 데이터 삭제 + 버전 증가 (진행 중인 조회의 저장을 막음)
+    private static final RedisScript<Long> INVALIDATE_MONTH_SCRIPT = new DefaultRedisScript<>(
+            "for i, key in ipairs(KEYS) do " +
+            "redis.call('HDEL', key, '" + SCHEDULE_MONTH_DATA_FIELD + "') " +
+            "redis.call('HINCRBY', key, '" + SCHEDULE_MONTH_VERSION_FIELD + "', 1) " +
+            "redis.call('PEXPIRE', key, ARGV[1]) " +
+            "end " +
+            "return #KEYS", Long.class);
+
+    // 일정 버전 조회: 없으면 현재 시각(ARGV[1])으로 시작
+    private static final RedisScript<String> GET_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if not v then v = ARGV[1] redis.call('SET', KEYS[1], v, 'PX', ARGV[2]) end " +
+            "return v", String.class);
+
+    // 일정 버전 증가: 없으면 현재 시각(ARGV[1])에서 시작해 +1, 만료 연장
+    private static final RedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "local v = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return v", Long.class);
 
     public void saveRefreshToken(String email, String refreshToken, long expirationTime) {
         String key = REFRESH_TOKEN_PREFIX + email;
@@ -29,26 +125,230 @@ public class RedisService {
     }
 
     /**
-     * JWT 토큰을 블랙리스트에 추가합니다.
+     * 폐기 토큰 id(jti 또는 토큰 해시, 32자리 hex)를 블랙리스트에 추가하고, 폐기 토큰 인덱스(id → 만료 시각)에 기록한 뒤 channel로 id를 알립니다.
+     * 인덱스 기록 후 발행하므로 발행을 놓친 노드도 다음 인덱스 조회 때 반영됩니다.
      */
-    public void addToBlacklist(String token, long timeToLive) {
-        String key = BLACKLIST_PREFIX + token;
+    public void addToBlacklist(String revocationId, long timeToLive, String channel) {
+        String key = BLACKLIST_PREFIX + revocationId;
         redisTemplate.opsForValue().set(key, "revoked", timeToLive, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, revocationId, System.currentTimeMillis() + timeToLive);
+        redisTemplate.convertAndSend(channel, revocationId);
     }
 
     /**
-     * JWT 토큰이 블랙리스트에 있는지 확인합니다.
+     * 만료된 항목을 정리한 뒤 폐기 토큰 id 전체를 조회합니다. (블룸 필터 재구성용)
      */
-    public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public Set<String> readRevokedTokenIds(long nowMs) {
+        redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX_KEY, Double.NEGATIVE_INFINITY, nowMs);
+        Set<String> ids = redisTemplate.opsForZSet().range(BLACKLIST_INDEX_KEY, 0, -1);
+        return ids != null ? ids : Set.of();
     }
 
     /**
-     * 블랙리스트에서 토큰을 제거합니다.
+     * 폐기 토큰 인덱스에 id를 기록합니다. (id → 만료 시각 epoch ms)
      */
-    public void removeFromBlacklist(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        redisTemplate.delete(key);
+    public void indexRevokedTokens(Map<String, Long> expiresAtById) {
+        if (expiresAtById.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        expiresAtById.forEach((id, expiresAt) -> tuples.add(ZSetOperations.TypedTuple.of(id, expiresAt.doubleValue())));
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, tuples);
+    }
+
+    /**
+     * 토큰 전체를 키로 저장하던 이전 블랙리스트 항목(BL:<JWT>)을 SCAN으로 조회합니다. (토큰 → 남은 TTL ms, 인덱스 이관용)
+     * JWT는 '.'을 포함하므로 id 키(BL:<hex>)와 인덱스 키는 건너뜀
+     */
+    public Map<String, Long> scanBlacklistedTokens() {
+        Map<String, Long> tokens = new HashMap<>();
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*.*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl != null && ttl > 0) {
+                    tokens.put(key.substring(BLACKLIST_PREFIX.length()), ttl);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 폐기 토큰 id가 블랙리스트에 있는지 확인합니다. (요청마다 고정 길이 키만 전송)
+     */
+    public boolean isBlacklisted(String revocationId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + revocationId));
+    }
+
+    /**
+     * 폐기 토큰 id 또는 이전 형식 키(BL:<JWT>)가 있는지 한 번의 EXISTS로 확인합니다.
+     * jti 도입 전에 발급된 토큰과 이관 기간의 모든 토큰용 - 이전 버전 노드가 기록한 항목도 만료될 때까지 인정
+     */
+    public boolean isBlacklisted(String revocationId, String legacyToken) {
+        Long count = redisTemplate.countExistingKeys(List.of(BLACKLIST_PREFIX + revocationId, BLACKLIST_PREFIX + legacyToken));
+        return count != null && count > 0;
+    }
+
+    /**
+     * 블랙리스트와 폐기 토큰 인덱스에서 id를 제거합니다.
+     */
+    public void removeFromBlacklist(String revocationId) {
+        redisTemplate.delete(BLACKLIST_PREFIX + revocationId);
+        redisTemplate.opsForZSet().remove(BLACKLIST_INDEX_KEY, revocationId);
+    }
+
+    /**
+     * 알림 스케줄러가 처리 완료한 시각(epoch ms, 미포함 경계)을 저장합니다.
+     * 저장된 값보다 클 때만 갱신하며, 갱신했으면 true
+     */
+    public boolean saveReminderCheckpoint(long processedBeforeMs) {
+        Long advanced = redisTemplate.execute(ADVANCE_CHECKPOINT_SCRIPT, List.of(REMINDER_CHECKPOINT_KEY),
+                String.valueOf(processedBeforeMs));
+        return advanced != null && advanced == 1L;
+    }
+
+    /**
+     * 알림 스케줄러의 마지막 처리 시각을 조회합니다. 없으면 null
+     */
+    public Long getReminderCheckpoint() {
+        String value = redisTemplate.opsForValue().get(REMINDER_CHECKPOINT_KEY);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    /**
+     * 알림 노드 생존 신호를 기록하고, lease가 만료된 노드를 정리한 뒤 살아 있는 노드 목록을 반환합니다.
+     */
+    public Set<String> heartbeatReminderNode(String nodeId, long nowMs, long leaseMs) {
+        redisTemplate.opsForZSet().add(REMINDER_NODES_KEY, nodeId, nowMs);
+        redisTemplate.opsForZSet().removeRangeByScore(REMINDER_NODES_KEY, Double.NEGATIVE_INFINITY, nowMs - leaseMs);
+        Set<String> nodes = redisTemplate.opsForZSet().range(REMINDER_NODES_KEY, 0, -1);
+        return nodes != null ? nodes : Collections.emptySet();
+    }
+
+    /**
+     * 알림 노드 목록에서 제거합니다. (정상 종료 시)
+     */
+    public void removeReminderNode(String nodeId) {
+        redisTemplate.opsForZSet().remove(REMINDER_NODES_KEY, nodeId);
+    }
+
+    /**
+     * 알림 샤드 lease를 획득하거나 연장합니다. 다른 노드가 보유 중이면 false
+     */
+    public boolean acquireReminderShard(int shard, String nodeId, long leaseMs) {
+        Long result = redisTemplate.execute(ACQUIRE_LEASE_SCRIPT,
+                List.of(REMINDER_SHARD_PREFIX + shard), nodeId, String.valueOf(leaseMs));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 보유 중인 알림 샤드 lease를 해제합니다.
+     */
+    public void releaseReminderShard(int shard, String nodeId) {
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(REMINDER_SHARD_PREFIX + shard), nodeId);
+    }
+
+    /**
+     * 사용자 SSE 재생 스트림에 이벤트 프레임을 추가하고 스트림 id를 반환합니다.
+     */
+    public String appendSseReplay(String userId, byte[] frameBody, int maxLen, long retentionMs) {
+        return redisTemplate.execute(APPEND_REPLAY_SCRIPT, List.of(SSE_REPLAY_PREFIX + userId),
+                String.valueOf(maxLen), new String(frameBody, StandardCharsets.UTF_8), String.valueOf(retentionMs));
+    }
+
+    /**
+     * 사용자 SSE 재생 스트림에서 lastEventId 이후 이벤트를 (스트림 id, 프레임) 순서대로 조회합니다.
+     */
+    public List<Map.Entry<String, byte[]>> readSseReplay(String userId, String lastEventId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(SSE_REPLAY_PREFIX + userId, Range.rightUnbounded(Range.Bound.exclusive(lastEventId)));
+        if (records == null) {
+            return List.of();
+        }
+        List<Map.Entry<String, byte[]>> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object frame = record.getValue().get(SSE_REPLAY_FIELD);
+            if (frame != null) {
+                entries.add(Map.entry(record.getId().getValue(), frame.toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 오프라인 사용자 보관함에 프레임을 추가합니다. (항목마다 만료 시각 기록)
+     */
+    public void pushSseOutbox(String userId, byte[] frame, int capacity, long ttlMs) {
+        String entry = (System.currentTimeMillis() + ttlMs) + "|" + new String(frame, StandardCharsets.UTF_8);
+        redisTemplate.execute(PUSH_OUTBOX_SCRIPT, List.of(SSE_OUTBOX_PREFIX + userId),
+                entry, String.valueOf(capacity), String.valueOf(ttlMs));
+    }
+
+    /**
+     * 오프라인 사용자 보관함을 비우고, 만료되지 않은 프레임을 오래된 순으로 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<byte[]> drainSseOutbox(String userId, long nowMs) {
+        List<Object> entries = redisTemplate.execute(DRAIN_OUTBOX_SCRIPT, List.of(SSE_OUTBOX_PREFIX + userId));
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+        List<byte[]> frames = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            String value = entry.toString();
+            int sep = value.indexOf('|');
+            if (sep > 0 && Long.parseLong(value.substring(0, sep)) > nowMs) {
+                frames.add(value.substring(sep + 1).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * 사용자 월 캐시를 조회합니다.
+     * @return [버전(없으면 빈 문자열), 직렬화된 월 목록(없으면 null)]
+     */
+    public String[] readScheduleMonth(String cacheKey) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(SCHEDULE_MONTH_PREFIX + cacheKey,
+                List.of(SCHEDULE_MONTH_VERSION_FIELD, SCHEDULE_MONTH_DATA_FIELD));
+        Object version = values.get(0);
+        Object data = values.get(1);
+        return new String[]{version == null ? "" : version.toString(), data == null ? null : data.toString()};
+    }
+
+    /**
+     * 조회 시점의 버전이 유지된 경우에만 사용자 월 캐시를 저장합니다.
+     */
+    public boolean putScheduleMonth(String cacheKey, String version, String data, long ttlMs) {
+        Long stored = redisTemplate.execute(PUT_MONTH_SCRIPT, List.of(SCHEDULE_MONTH_PREFIX + cacheKey),
+                version, data, String.valueOf(ttlMs));
+        return stored != null && stored == 1;
+    }
+
+    /**
+     * 사용자 월 캐시를 무효화하고 다른 노드에 알립니다. (메시지: 캐시 키를 쉼표로 연결)
+     */
+    public void invalidateScheduleMonths(Collection<String> cacheKeys, long ttlMs, String channel) {
+        List<String> keys = cacheKeys.stream().map(key -> SCHEDULE_MONTH_PREFIX + key).toList();
+        redisTemplate.execute(INVALIDATE_MONTH_SCRIPT, keys, String.valueOf(ttlMs));
+        redisTemplate.convertAndSend(channel, String.join(",", cacheKeys));
+    }
+
+    /**
+     * 사용자 일정 버전을 조회합니다. (없으면 nowMs로 시작)
+     */
+    public String getScheduleVersion(String userId, long nowMs, long ttlMs) {
+        return redisTemplate.execute(GET_VERSION_SCRIPT, List.of(SCHEDULE_VERSION_PREFIX + userId),
+                String.valueOf(nowMs), String.valueOf(ttlMs));
+    }
+
+    /**
+     * 사용자 일정 버전을 올립니다.
+     */
+    public void bumpScheduleVersion(String userId, long nowMs, long ttlMs) {
+        redisTemplate.execute(BUMP_VERSION_SCRIPT, List.of(SCHEDULE_VERSION_PREFIX + userId),
+                String.valueOf(nowMs), String.valueOf(ttlMs));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.notification.SseMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 노드 간 SSE 전달 (sse.cluster.enabled=true)
+ * - presence: SSE:PRESENCE:{userId} 집합에 emitter를 가진 노드 id 기록
+ * - 전달: 대상 노드마다 전용 채널 SSE:NODE:{nodeId}로 PUBLISH (사용자와 무관한 노드는 메시지를 받지 않음)
+ * - PUBLISH 수신자가 0이면 그 노드는 죽은 것으로 보고 presence에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sse.cluster.enabled", havingValue = "true")
+public class RedisSseDeliveryBus implements SseDeliveryBus {
+
+    private static final String PRESENCE_PREFIX = "SSE:PRESENCE:";
+    private static final String NODE_CHANNEL_PREFIX = "SSE:NODE:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final NodeIdentity nodeIdentity;
+
+    private volatile Consumer<SseMessage> handler = message -> { };
+
+    @PostConstruct
+    public void listen() {
+        listenerContainer.addMessageListener((message, pattern) -> receive(message.getBody()),
+                new ChannelTopic(NODE_CHANNEL_PREFIX + nodeIdentity.getNodeId()));
+        log.info("[SSE] cluster bus listening nodeId={}", nodeIdentity.getNodeId());
+    }
+
+    @Override
+    public void join(String userId) {
+        try {
+            redisTemplate.opsForSet().add(PRESENCE_PREFIX + userId, nodeIdentity.getNodeId());
+        } catch (Exception e) {
+            log.warn("[SSE] presence join fail user={} error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void leave(String userId) {
+        try {
+            redisTemplate.opsForSet().remove(PRESENCE_PREFIX + userId, nodeIdentity.getNodeId());
+        } catch (Exception e) {
+            log.warn("[SSE] presence leave fail user={} error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public int route(SseMessage message) {
+        String presenceKey = PRESENCE_PREFIX + message.getUserId();
+        try {
+            Set<String> nodes = redisTemplate.opsForSet().members(presenceKey);
+            if (nodes == null || nodes.isEmpty()) {
+                return 0;
+            }
+            String body = null;
+            int received = 0;
+            for (String node : nodes) {
+                if (node.equals(nodeIdentity.getNodeId())) {
+                    continue;
+                }
+                if (body == null) {
+                    body = objectMapper.writeValueAsString(message);
+                }
+                Long receivers = redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + node, body);
+                if (receivers != null && receivers > 0) {
+                    received++;
+                } else {
+                    log.debug("[SSE] stale presence(remove) user={} node={}", message.getUserId(), node);
+                    redisTemplate.opsForSet().remove(presenceKey, node);
+                }
+            }
+            return received;
+        } catch (Exception e) {
+            log.warn("[SSE] route fail user={} event={} error={}", message.getUserId(), message.getEvent(), e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void setHandler(Consumer<SseMessage> handler) {
+        this.handler = handler;
+    }
+
+    private void receive(byte[] body) {
+        try {
+            SseMessage message = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), SseMessage.class);
+            handler.accept(message);
+        } catch (Exception e) {
+            log.warn("[SSE] receive fail error={}", e.getMessage());
+        }
+    }
+}
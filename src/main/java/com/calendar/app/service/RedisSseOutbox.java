@@ -0,0 +1,55 @@
+package com.calendar.app.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 리스트 보관함 (sse.outbox.store=redis, 기본값)
+ * SSE:OUTBOX:{userId} 리스트에 만료 시각과 함께 프레임을 쌓고, 구독 시 스크립트 한 번으로 전체 조회 + 삭제한다.
+ * 키 자체에도 TTL을 걸어 접속하지 않는 사용자의 보관함은 Redis가 지운다 (주기적 스캔 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sse.outbox.store", havingValue = "redis", matchIfMissing = true)
+public class RedisSseOutbox implements SseOutbox {
+
+    private final RedisService redisService;
+
+    @Value("${sse.outbox.capacity:100}")
+    private int capacity;
+
+    @Value("${sse.outbox.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Override
+    public boolean put(String userId, byte[] frame) {
+        try {
+            redisService.pushSseOutbox(userId, frame, capacity, ttlMs);
+            return true;
+        } catch (Exception e) {
+            log.warn("[SSE] outbox put fail user={} error={}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean durable() {
+        return true;
+    }
+
+    @Override
+    public List<byte[]> drain(String userId) {
+        try {
+            return redisService.drainSseOutbox(userId, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("[SSE] outbox drain fail user={} error={}", userId, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.calendar.app.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis Streams 재생 로그 (sse.replay.store=redis)
+ * 모든 노드가 같은 스트림(SSE:REPLAY:{userId})을 쓰므로 다른 노드로 재연결해도 놓친 이벤트를 받을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sse.replay.store", havingValue = "redis")
+public class RedisSseReplayLog implements SseReplayLog {
+
+    private final RedisService redisService;
+
+    @Value("${sse.replay.capacity:50}")
+    private int capacity;
+
+    @Value("${sse.replay.retention-ms:3600000}")
+    private long retentionMs;
+
+    @Override
+    public String append(String userId, byte[] frameBody) {
+        try {
+            return redisService.appendSseReplay(userId, frameBody, capacity, retentionMs);
+        } catch (Exception e) {
+            // 기록 실패는 전송을 막지 않음 (id 없는 이벤트로 전송)
+            log.warn("[SSE] replay append fail user={} error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public List<byte[]> since(String userId, String lastEventId) {
+        if (InMemorySseReplayLog.parseId(lastEventId) == null) {
+            return List.of();
+        }
+        try {
+            return redisService.readSseReplay(userId, lastEventId).stream()
+                    .map(entry -> SseConnection.Frame.withId(entry.getKey(), entry.getValue()))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("[SSE] replay read fail user={} error={}", userId, e.getMessage());
+            return List.of();
+        }
+    }
+}
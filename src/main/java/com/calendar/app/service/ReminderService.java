@@ -9,7 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
@@ -19,13 +19,15 @@ public class ReminderService {
 
     private final ScheduleRepository scheduleRepository;
     private final SsePushService ssePushService;
+    private final ScheduleSeriesService seriesService;
 
     @Transactional
     public int sendDueReminders(LocalDateTime now) {
         LocalDate today = now.toLocalDate();
-        LocalTime nowTime = now.toLocalTime();
 
-        List<Schedule> candidates = scheduleRepository.findPendingReminderCandidates(today);
+        // fire_at 인덱스 범위 조회: 오늘 0시 ~ 현재 분까지 발송 시각이 지난 미발송 알림
+        List<Schedule> candidates = scheduleRepository.findDueReminders(
+                today.atStartOfDay(), now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1));
         int sent = 0;
         for (Schedule schedule : candidates) {
             // 수위 보호: 필드/상태 2중 검증 (리포지토리 조건 누락/변경 대비)
@@ -38,37 +40,41 @@ public class ReminderService {
                 continue;
             }
 
-            LocalTime startTime = schedule.getStartTime();
-            if (startTime == null) {
-                log.debug("skip: no startTime scheduleId={}", schedule.getId());
+            // 기준 시각: fire_at (시작 시간 - reminderMinutes)
+            LocalDateTime fireAt = schedule.getFireAt();
+            if (fireAt == null) {
+                log.debug("skip: no fireAt scheduleId={}", schedule.getId());
                 continue;
             }
 
-            // 기준 시각: startTime (요청에 따라 reminderMinutes 무시)
-            LocalTime triggerTime = startTime;
-
-            // 트리거 시각이 nowTime 이전/같으면 발송
-            if (!nowTime.isBefore(triggerTime)) {
+            // 발송 시각이 now 이전/같으면 발송
+            if (!now.isBefore(fireAt)) {
                 try {
-                    log.info("reminder due: scheduleId={} nowTime={} startTime={} title={}",
-                            schedule.getId(), nowTime, triggerTime, schedule.getTitle());
-                    boolean delivered = ssePushService.pushScheduleReminder(schedule);
-                    if (delivered) {
-                        schedule.setReminded(true);
+                    log.info("reminder due: scheduleId={} now={} fireAt={} title={}",
+                            schedule.getId(), now, fireAt, schedule.getTitle());
+                    // 구독자가 없으면 보관함에 넣고 reminded 처리 (다음 접속 시 전달, 같은 알림을 다시 조회하지 않음)
+                    boolean handled = ssePushService.pushOrStoreScheduleReminder(schedule);
+                    if (handled) {
+                        // 반복 일정은 reminded 대신 다음 회차로 fire_at 이동
+                        if (schedule.isRecurring()) {
+                            seriesService.advanceReminder(schedule, now);
+                        } else {
+                            schedule.setReminded(true);
+                        }
                         sent++;
                     } else {
-                        log.debug("deliver pending: no active SSE subscriber scheduleId={} userId={}",
+                        log.debug("deliver pending: outbox unavailable scheduleId={} userId={}",
                                 schedule.getId(), schedule.getUser().getId());
                     }
                 } catch (Exception e) {
                     log.error("푸시 알림 전송 실패 scheduleId={}", schedule.getId(), e);
                 }
             } else {
-                log.debug("not yet: scheduleId={} nowTime={} triggerTime={} title={}",
-                        schedule.getId(), nowTime, triggerTime, schedule.getTitle());
+                log.debug("not yet: scheduleId={} now={} fireAt={} title={}",
+                        schedule.getId(), now, fireAt, schedule.getTitle());
             }
         }
-        log.debug("sendDueReminders finished today={} nowTime={} sent={}", today, nowTime, sent);
+        log.debug("sendDueReminders finished today={} now={} sent={}", today, now, sent);
         return sent;
     }
 }
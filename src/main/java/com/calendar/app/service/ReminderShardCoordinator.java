@@ -0,0 +1,188 @@
+package com.calendar.app.service;
+
+import com.calendar.app.event.ReminderShardsChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 다중 노드 환경의 알림 샤드 소유권 관리
+ * 사용자 id 해시를 SHARD_COUNT개 구간으로 나누고, 노드마다 Redis lease로 일부 구간을 맡아 그 사용자들의 알림만 처리한다.
+ * - 살아 있는 노드 목록(RM:NODES)으로 rendezvous hashing 배정 → 노드 합류/이탈 시 바뀌는 샤드만 이동
+ * - 샤드별 lease(RM:SHARD:n)는 보유 노드만 연장/해제, 죽은 노드의 lease는 만료 후 새 담당 노드가 획득
+ * - Redis 장애로 연장하지 못하면 로컬 lease 만료 시각이 지난 샤드는 처리 중단 (중복 발송 방지)
+ * reminder.cluster.enabled=false(기본)면 단일 노드로 보고 모든 샤드를 소유한다.
+ */
+@Slf4j
+@Component
+public class ReminderShardCoordinator {
+
+    public static final int SHARD_COUNT = 64;
+
+    private final RedisService redisService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Getter
+    private final String nodeId;
+
+    private final boolean clusterEnabled;
+    @Getter
+    private final long leaseMs;
+
+    // 샤드별 로컬 lease 만료 시각 (epoch ms), 이 시각 전까지만 소유로 간주
+    private final long[] ownedUntilMs = new long[SHARD_COUNT];
+
+    public ReminderShardCoordinator(RedisService redisService,
+                                    ApplicationEventPublisher eventPublisher,
+                                    NodeIdentity nodeIdentity,
+                                    @Value("${reminder.cluster.enabled:false}") boolean clusterEnabled,
+                                    @Value("${reminder.cluster.lease-ms:15000}") long leaseMs) {
+        this.redisService = redisService;
+        this.eventPublisher = eventPublisher;
+        this.clusterEnabled = clusterEnabled;
+        this.leaseMs = leaseMs;
+        this.nodeId = nodeIdentity.getNodeId();
+    }
+
+    public static int shardOf(String userId) {
+        return Math.floorMod(userId.hashCode(), SHARD_COUNT);
+    }
+
+    public boolean isClusterEnabled() {
+        return clusterEnabled;
+    }
+
+    public boolean ownsUser(String userId) {
+        return ownsShard(shardOf(userId));
+    }
+
+    public synchronized boolean ownsShard(int shard) {
+        return !clusterEnabled || ownedUntilMs[shard] > System.currentTimeMillis();
+    }
+
+    public synchronized Set<Integer> ownedShards() {
+        Set<Integer> owned = new TreeSet<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            if (ownsShard(shard)) {
+                owned.add(shard);
+            }
+        }
+        return owned;
+    }
+
+    // lease 주기(leaseMs)의 1/3마다 생존 신호, 배정 재계산, lease 획득/연장/해제
+    @Scheduled(fixedDelayString = "#{${reminder.cluster.lease-ms:15000} / 3}")
+    public void rebalance() {
+        if (!clusterEnabled) {
+            return;
+        }
+        Set<Integer> before = ownedShards();
+        try {
+            long nowMs = System.currentTimeMillis();
+            Set<String> liveNodes = redisService.heartbeatReminderNode(nodeId, nowMs, leaseMs);
+            List<String> nodes = new ArrayList<>(liveNodes);
+            if (!nodes.contains(nodeId)) {
+                nodes.add(nodeId);
+            }
+            for (int shard = 0; shard < SHARD_COUNT; shard++) {
+                if (nodeId.equals(assignedNode(shard, nodes))) {
+                    if (redisService.acquireReminderShard(shard, nodeId, leaseMs)) {
+                        setOwnedUntil(shard, nowMs + leaseMs);
+                    }
+                } else if (ownsShard(shard)) {
+                    setOwnedUntil(shard, 0);
+                    redisService.releaseReminderShard(shard, nodeId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("알림 샤드 lease 갱신 실패, 로컬 lease 만료 시 처리 중단: {}", e.getMessage());
+        }
+        publishChanges(before, ownedShards());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!clusterEnabled) {
+            return;
+        }
+        try {
+            for (int shard = 0; shard < SHARD_COUNT; shard++) {
+                if (ownsShard(shard)) {
+                    redisService.releaseReminderShard(shard, nodeId);
+                }
+            }
+            redisService.removeReminderNode(nodeId);
+            log.info("알림 샤드 반납: nodeId={}", nodeId);
+        } catch (Exception e) {
+            log.warn("알림 샤드 반납 실패 (lease 만료 후 재배정): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드 소유 상태 모니터링
+     */
+    public Map<String, Object> getShardStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("clusterEnabled", clusterEnabled);
+        stats.put("nodeId", nodeId);
+        stats.put("ownedShards", ownedShards().size());
+        stats.put("totalShards", SHARD_COUNT);
+        return stats;
+    }
+
+    // rendezvous hashing: (샤드, 노드) 점수가 가장 높은 노드가 담당
+    static String assignedNode(int shard, List<String> nodes) {
+        String best = null;
+        long bestScore = Long.MIN_VALUE;
+        for (String node : nodes) {
+            long score = mix(((long) node.hashCode() << 32) ^ shard);
+            if (best == null || score > bestScore || (score == bestScore && node.compareTo(best) < 0)) {
+                best = node;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private synchronized void setOwnedUntil(int shard, long untilMs) {
+        ownedUntilMs[shard] = untilMs;
+    }
+
+    private void publishChanges(Set<Integer> before, Set<Integer> after) {
+        Set<Integer> acquired = new TreeSet<>(after);
+        acquired.removeAll(before);
+        Set<Integer> released = new TreeSet<>(before);
+        released.removeAll(after);
+        if (acquired.isEmpty() && released.isEmpty()) {
+            return;
+        }
+        log.info("알림 샤드 변경: nodeId={}, 획득={}, 해제={}, 보유 {}개", nodeId, acquired, released, after.size());
+        eventPublisher.publishEvent(new ReminderShardsChangedEvent(this, acquired, released));
+    }
+}
+
+/*
+    * ReminderShardCoordinator.java
+    * Redis lease 기반 알림 샤드 소유권 관리 (reminder.cluster.enabled=true일 때)
+    * - shardOf(userId): 사용자 id 해시 → 0 ~ SHARD_COUNT-1
+    * - rebalance(): lease-ms/3 주기로 노드 생존 신호 기록, rendezvous hashing으로 배정 계산, 담당 샤드 lease 획득/연장, 넘겨줄 샤드 해제
+    * - 소유 샤드가 바뀌면 ReminderShardsChangedEvent 발행 → PreciseReminderScheduler가 해당 샤드 알림을 적재/제거
+    * - 노드가 죽으면 lease 만료(기본 15초) 후 다른 노드가 이어받음
+ */
@@ -1,40 +1,157 @@
 package com.calendar.app.service;
 
-import com.calendar.app.entity.Schedule;
 import com.calendar.app.repository.ScheduleRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReminderStatusService {
 
     private final ScheduleRepository scheduleRepository;
 
+    // 발송 완료된 (일정 id, 발송한 알림 시각)을 모아 두었다가 알림 시각별 UPDATE ... WHERE id IN (...)으로 반영 (write-behind)
+    private final Queue<Sent> pendingReminded = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+
+    // UPDATE 한 번에 담을 최대 id 수 (IN 절 크기 제한), 이만큼 쌓이면 주기를 기다리지 않고 즉시 반영
+    @Value("${reminder.status.batch-size:500}")
+    private int batchSize;
+
+    public ReminderStatusService(ScheduleRepository scheduleRepository, MeterRegistry meterRegistry) {
+        this.scheduleRepository = scheduleRepository;
+        this.batchSizeSummary = DistributionSummary.builder("reminder.status.flush.batch.size")
+                .description("한 번의 UPDATE로 reminded 처리한 일정 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("reminder.status.flush.latency")
+                .description("reminded 일괄 UPDATE 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("reminder.status.pending", pendingCount);
+    }
+
     /**
-     * 알림 전송 완료 후 상태 업데이트
+     * 알림 전송 완료 후 상태 업데이트 (즉시 DB에 쓰지 않고 다음 flush에 일괄 반영)
+     * @param fireAt 발송한 알림 시각 (반영 시점에 fire_at이 달라졌으면 반영하지 않음)
      */
-    @Transactional
-    public void markAsReminded(String scheduleId) {
-        scheduleRepository.findById(scheduleId).ifPresent(schedule -> {
-            schedule.setReminded(true);
-            scheduleRepository.save(schedule);
-            log.debug("알림 상태 업데이트: scheduleId={}, reminded=true", scheduleId);
-        });
+    public void markAsReminded(String scheduleId, LocalDateTime fireAt) {
+        if (fireAt == null) {
+            log.debug("알림 시각 없는 일정은 reminded 처리하지 않음: scheduleId={}", scheduleId);
+            return;
+        }
+        pendingReminded.add(new Sent(scheduleId, fireAt));
+        if (pendingCount.incrementAndGet() >= batchSize) {
+            flush();
+        }
     }
 
     /**
      * 알림 상태 초기화 (스케줄 수정 시)
+     * 아직 반영되지 않은 발송 완료 표시가 초기화를 덮어쓰지 않도록 대기열에서도 제거
      */
     @Transactional
     public void resetReminderStatus(String scheduleId) {
+        for (Sent sent : pendingReminded) {
+            if (sent.scheduleId().equals(scheduleId) && pendingReminded.remove(sent)) {
+                pendingCount.decrementAndGet();
+            }
+        }
         scheduleRepository.findById(scheduleId).ifPresent(schedule -> {
             schedule.setReminded(false);
             scheduleRepository.save(schedule);
             log.debug("알림 상태 초기화: scheduleId={}, reminded=false", scheduleId);
         });
     }
+
+    /**
+     * 대기 중인 발송 완료 id를 batchSize 단위로 나누어 일괄 UPDATE
+     * 주기 실행과 batchSize 도달 시 실행이 겹치면 먼저 잡은 쪽이 모두 처리
+     */
+    @Scheduled(fixedDelayString = "${reminder.status.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingCount.get() == 0 || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            while (true) {
+                List<Sent> batch = new ArrayList<>(batchSize);
+                Sent sent;
+                while (batch.size() < batchSize && (sent = pendingReminded.poll()) != null) {
+                    batch.add(sent);
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                pendingCount.addAndGet(-batch.size());
+                if (!flushBatch(batch)) {
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean flushBatch(List<Sent> batch) {
+        long startTime = System.nanoTime();
+        try {
+            // 같은 시각에 발송된 알림이 대부분이라 알림 시각별로 묶어도 UPDATE 수는 거의 늘지 않음
+            Map<LocalDateTime, List<String>> byFireAt = new LinkedHashMap<>();
+            batch.forEach(sent -> byFireAt.computeIfAbsent(sent.fireAt(), fireAt -> new ArrayList<>()).add(sent.scheduleId()));
+            int updated = 0;
+            for (Map.Entry<LocalDateTime, List<String>> entry : byFireAt.entrySet()) {
+                updated += scheduleRepository.markRemindedByIds(entry.getValue(), entry.getKey());
+            }
+            batchSizeSummary.record(batch.size());
+            log.debug("알림 상태 일괄 업데이트: 요청 {}건, 반영 {}건", batch.size(), updated);
+            return true;
+        } catch (Exception e) {
+            // 실패한 배치는 다음 flush에서 재시도 (중복 발송 방지 플래그이므로 유실보다 재시도가 안전, 이미 반영된 행은 다시 써도 같음)
+            log.error("알림 상태 일괄 업데이트 실패, 재시도 대기: {}건, error={}", batch.size(), e.getMessage(), e);
+            pendingReminded.addAll(batch);
+            pendingCount.addAndGet(batch.size());
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record Sent(String scheduleId, LocalDateTime fireAt) {
+    }
 }
+
+/*
+    * ReminderStatusService.java
+    * 알림 발송 완료(reminded) 상태의 write-behind 배치 반영
+    * - markAsReminded(): (id, 발송한 fire_at)을 대기열에 넣기만 함 (DB 접근 없음)
+    * - flush(): 200ms 주기 또는 batchSize 도달 시 UPDATE schedules SET reminded = true WHERE id IN (...) AND fire_at = ?로 반영
+      (알림 시각별 한 번, 반영 전에 일정 시간을 바꿨으면 새 알림을 reminded로 덮지 않음)
+    * - 실패한 배치는 대기열로 되돌려 다음 주기에 재시도, 종료 시 남은 항목 반영
+    * - 메트릭: reminder.status.flush.batch.size, reminder.status.flush.latency, reminder.status.pending (/actuator/metrics)
+ */
@@ -0,0 +1,237 @@
+package com.calendar.app.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ * 알림 마감 시각을 메모리에 보관하고, 시계가 tick 단위로 전진할 때 만료된 항목을 꺼낸다.
+ * - 등록/취소 O(1): 슬롯마다 이중 연결 리스트, id → 노드 맵
+ * - 상위 레벨 슬롯은 담당 구간이 시작되는 tick에 하위 레벨로 재배치(cascade)
+ * - 스레드 안전: 모든 공개 메서드는 synchronized
+ */
+public class ReminderTimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Bucket[][] levels;
+
+    // levelTicks[i] = 레벨 i 슬롯 하나가 담당하는 tick 수 (wheelSize^i), levelTicks[levelCount] = 휠 전체 범위
+    private final long[] levelTicks;
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private long currentTick;
+
+    public ReminderTimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("잘못된 타이밍 휠 설정입니다: tickMs=" + tickMs
+                    + ", wheelSize=" + wheelSize + ", levelCount=" + levelCount);
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levels = new Bucket[levelCount][wheelSize];
+        this.levelTicks = new long[levelCount + 1];
+
+        long ticks = 1;
+        for (int level = 0; level <= levelCount; level++) {
+            levelTicks[level] = ticks;
+            if (level < levelCount) {
+                ticks = Math.multiplyExact(ticks, wheelSize);
+                for (int slot = 0; slot < wheelSize; slot++) {
+                    levels[level][slot] = new Bucket();
+                }
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * 마감 시각 등록 (이미 등록된 id면 새 마감 시각으로 교체)
+     * 이미 지난 마감 시각은 다음 tick에 만료된다.
+     * @return 휠 범위를 벗어나 등록하지 못하면 false
+     */
+    public synchronized boolean schedule(String id, long deadlineMs) {
+        // 올림 처리: 마감 시각 이전에 꺼내지지 않도록
+        long deadlineTick = Math.max(Math.floorDiv(deadlineMs + tickMs - 1, tickMs), currentTick + 1);
+        if (deadlineTick - currentTick >= levelTicks[levels.length]) {
+            cancel(id);
+            return false;
+        }
+
+        Node node = nodes.get(id);
+        if (node != null) {
+            node.unlink();
+        } else {
+            node = new Node(id);
+            nodes.put(id, node);
+        }
+        node.deadlineTick = deadlineTick;
+        place(node);
+        return true;
+    }
+
+    /**
+     * 등록 취소
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean cancel(String id) {
+        Node node = nodes.remove(id);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    /**
+     * 시계를 nowMs까지 전진시키고 그 사이 만료된 id 목록을 반환 (마감 시각 순)
+     */
+    public synchronized List<String> advanceTo(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        if (targetTick <= currentTick) {
+            return Collections.emptyList();
+        }
+        if (nodes.isEmpty()) {
+            // 비어 있으면 tick을 하나씩 돌 필요 없음
+            currentTick = targetTick;
+            return Collections.emptyList();
+        }
+
+        List<String> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Node node = levels[0][slotOf(currentTick, 0)].detachAll();
+            while (node != null) {
+                Node next = node.next;
+                node.clearLinks();
+                nodes.remove(node.id);
+                expired.add(node.id);
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized boolean contains(String id) {
+        return nodes.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    // 휠이 처리 완료한 시각 (이 시각까지의 마감은 모두 꺼내짐)
+    public synchronized long currentTimeMs() {
+        return currentTick * tickMs;
+    }
+
+    // 반열린 구간 경계: 이 시각(ms) 미만의 마감은 모두 꺼내짐
+    public synchronized long processedBeforeMs() {
+        return currentTick * tickMs + 1;
+    }
+
+    // 등록 가능한 최대 지연 (현재 시각 기준)
+    public long maxDelayMs() {
+        return (levelTicks[levels.length] - 1) * tickMs;
+    }
+
+    private void place(Node node) {
+        long delay = node.deadlineTick - currentTick;
+        int level = 0;
+        while (delay >= levelTicks[level + 1]) {
+            level++;
+        }
+        levels[level][slotOf(node.deadlineTick, level)].append(node);
+    }
+
+    // 현재 tick이 상위 레벨 슬롯의 구간 시작이면 해당 슬롯 항목을 하위 레벨로 재배치 (높은 레벨부터)
+    private void cascade() {
+        for (int level = levels.length - 1; level >= 1; level--) {
+            if (currentTick % levelTicks[level] != 0) {
+                continue;
+            }
+            Node node = levels[level][slotOf(currentTick, level)].detachAll();
+            while (node != null) {
+                Node next = node.next;
+                node.clearLinks();
+                place(node);
+                node = next;
+            }
+        }
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) ((tick / levelTicks[level]) % wheelSize);
+    }
+
+    private static final class Node {
+        private final String id;
+        private long deadlineTick;
+        private Bucket bucket;
+        private Node prev;
+        private Node next;
+
+        private Node(String id) {
+            this.id = id;
+        }
+
+        private void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            prev.next = next;
+            next.prev = prev;
+            clearLinks();
+        }
+
+        private void clearLinks() {
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+
+    // 센티널 기반 원형 이중 연결 리스트
+    private static final class Bucket {
+        private final Node head = new Node(null);
+
+        private Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void append(Node node) {
+            node.bucket = this;
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+
+        // 모든 노드를 떼어내고 첫 노드를 반환 (마지막 노드의 next는 null)
+        private Node detachAll() {
+            if (head.next == head) {
+                return null;
+            }
+            Node first = head.next;
+            head.prev.next = null;
+            head.next = head;
+            head.prev = head;
+            return first;
+        }
+    }
+}
+
+/*
+    * ReminderTimingWheel.java
+    * 알림 마감 시각을 메모리에 보관하는 계층형 타이밍 휠
+    * 레벨 i의 슬롯 하나는 wheelSize^i tick을 담당하며, 전체 범위는 wheelSize^levelCount tick
+    * schedule(): 마감 시각까지 남은 tick 수로 레벨을 고르고 해당 슬롯 리스트 끝에 연결
+    * cancel(): id → 노드 맵으로 찾아 리스트에서 분리
+    * advanceTo(): tick을 하나씩 전진하며 상위 레벨 슬롯을 cascade 하고 레벨 0 슬롯의 항목을 만료 처리
+    * 항목이 하나도 없으면 tick 순회 없이 바로 시계를 맞춤
+ */
@@ -0,0 +1,174 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ReminderSlot;
+import com.calendar.app.dto.schedule.ScheduleImportResponse;
+import com.calendar.app.dto.schedule.ScheduleRequest;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.ScheduleRecurrenceException;
+import com.calendar.app.entity.User;
+import com.calendar.app.event.ScheduleBulkChangedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleIcsService {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleSeriesService seriesService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 가져오기: 이 건수마다 flush + clear (JDBC 배치 크기도 같게 설정)
+    @Value("${schedule.import.batch-size:1000}")
+    private int batchSize;
+
+    // 가져오기 최대 일정 수 (초과 시 전체 롤백)
+    @Value("${schedule.import.max-events:100000}")
+    private int maxEvents;
+
+    // 내보내기: DB 커서에서 한 건씩 읽어 바로 VEVENT로 출력 (전체 목록을 메모리에 올리지 않음)
+    // 반복 일정 원본은 미리 읽어 둔 회차 예외와 함께 RRULE/EXDATE로 출력
+    public int exportIcs(User user, OutputStream out) throws IOException {
+        log.debug("iCalendar 내보내기 요청 - 사용자: {}", user.getNickname());
+
+        Map<String, ScheduleSeries> series = seriesService.loadSeries(user).stream()
+                .collect(Collectors.toMap(item -> item.getSchedule().getId(), Function.identity()));
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 16 * 1024);
+        IcsWriter writer = new IcsWriter(buffered, ZoneId.systemDefault());
+        writer.begin();
+        int count;
+        try {
+            count = scheduleService.streamAllSchedules(user, schedule -> {
+                try {
+                    ScheduleSeries item = series.get(schedule.getId());
+                    if (item != null) {
+                        writer.series(item);
+                    } else {
+                        writer.event(schedule);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.end();
+        return count;
+    }
+
+    // 가져오기: VEVENT를 한 건씩 읽어 persist, batchSize건마다 flush(JDBC 배치 INSERT) 후 영속성 컨텍스트 비움
+    // 한 트랜잭션으로 처리 (DB 오류, 업로드 중단 시 전체 롤백), 형식이 잘못된 일정만 건너뜀
+    @Transactional(rollbackFor = IOException.class)
+    public ScheduleImportResponse importIcs(User user, InputStream in) throws IOException {
+        log.debug("iCalendar 가져오기 요청 - 사용자: {}", user.getNickname());
+
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+
+        IcsReader reader = new IcsReader(new InputStreamReader(in, StandardCharsets.UTF_8), ZoneId.systemDefault());
+        LocalDateTime now = LocalDateTime.now();
+        Set<LocalDate> dates = new HashSet<>();
+        List<ReminderSlot> reminders = new ArrayList<>(); // 알림 대기 중인 일정의 (id, userId, fire_at)만 (알림 휠 등록용, 엔티티는 clear로 해제)
+        boolean seriesChanged = false; // 반복 일정을 가져왔으면 반복 일정 캐시도 무효화
+        int imported = 0;
+        try {
+            ScheduleRequest request;
+            while ((request = reader.next()) != null) {
+                if (imported >= maxEvents) {
+                    throw new IllegalArgumentException("한 번에 가져올 수 있는 일정은 최대 " + maxEvents + "건입니다.");
+                }
+                Schedule schedule = ScheduleService.newSchedule(user, request);
+                List<ScheduleRecurrenceException> cancelled = cancelledOccurrences(schedule, reader.excludedDates());
+                if (!cancelled.isEmpty()) {
+                    // 취소된 회차를 건너뛴 다음 회차로 알림 시각 재계산
+                    List<ScheduleSeries.Modification> modifications = cancelled.stream()
+                            .map(exception -> ScheduleSeries.Modification.builder()
+                                    .occurrenceDate(exception.getOccurrenceDate()).cancelled(true).build())
+                            .toList();
+                    schedule.setFireAt(ScheduleSeriesService.nextFireAt(schedule, modifications, now));
+                }
+                entityManager.persist(schedule);
+                cancelled.forEach(entityManager::persist);
+                dates.add(schedule.getScheduleDate());
+                seriesChanged |= schedule.isRecurring();
+                if (schedule.isReminderEnabled() && schedule.getFireAt() != null && schedule.getFireAt().isAfter(now)) {
+                    reminders.add(ReminderSlot.of(schedule.getId(), user.getId(), schedule.getFireAt()));
+                }
+                if (++imported % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+
+        if (imported > 0) {
+            // 일정은 날짜와 알림 슬롯으로만 전달 (월 캐시 무효화, 일정 버전 증가는 한 번)
+            eventPublisher.publishEvent(new ScheduleBulkChangedEvent(this, user.getId(), List.of(), List.of(), List.of(), dates,
+                    seriesChanged, reminders));
+        }
+        log.debug("iCalendar 가져오기 완료 - 저장: {}, 건너뜀: {}", imported, reader.skipped());
+        return new ScheduleImportResponse(imported, reader.skipped(), List.copyOf(reader.errors()));
+    }
+
+    // EXDATE → 회차 취소 예외 (규칙상 회차가 아닌 날짜, 중복 날짜는 무시)
+    private static List<ScheduleRecurrenceException> cancelledOccurrences(Schedule schedule, List<LocalDate> excluded) {
+        if (!schedule.isRecurring() || excluded.isEmpty()) {
+            return List.of();
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+        List<ScheduleRecurrenceException> cancelled = new ArrayList<>(excluded.size());
+        for (LocalDate date : new HashSet<>(excluded)) {
+            if (!rule.between(schedule.getScheduleDate(), schedule.getRecurrenceUntil(), date, date).isEmpty()) {
+                cancelled.add(ScheduleRecurrenceException.builder()
+                        .schedule(schedule)
+                        .occurrenceDate(date)
+                        .cancelled(true)
+                        .build());
+            }
+        }
+        return cancelled;
+    }
+}
+
+/*
+    * ScheduleIcsService.java
+    * RFC 5545 iCalendar(.ics) 내보내기/가져오기
+    * 내보내기: streamAllSchedules(읽기 전용 커서, 건마다 detach) → IcsWriter로 바로 출력, 일정 수와 무관하게 메모리 일정
+    * 가져오기: IcsReader로 VEVENT 단위 파싱 → persist, 1,000건마다 flush/clear로 JDBC 배치 INSERT (ULID 키라 IDENTITY 제약 없음)
+    * 이벤트는 ScheduleBulkChangedEvent 한 번 (알림 대기 슬롯(id, userId, fire_at) + 영향받은 날짜, 엔티티는 싣지 않음)
+    * 반복 일정: 내보내기는 원본 RRULE + 취소/수정 회차 EXDATE, 수정 회차는 별도 VEVENT → 다시 가져오면 원본(반복) + 취소 회차 + 단일 일정
+      가져오기는 지원하는 RRULE만 반복 일정으로 저장, EXDATE는 회차 취소 예외로 저장 (지원하지 않는 규칙은 첫 회차만)
+ */
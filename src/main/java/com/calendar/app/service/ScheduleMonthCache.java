@@ -0,0 +1,332 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.event.ScheduleBulkChangedEvent;
+import com.calendar.app.event.ScheduleEvent;
+import com.calendar.app.event.ScheduleUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 월 단위 일정 목록 캐시 (로컬 LRU + 선택적 Redis)
+ * 키는 (userId, yyyy-MM)이고 값은 그 달의 목록용 일정(description 제외)이다. 범위/날짜 조회는 월 목록을 잘라서 응답한다.
+ * - 일정 생성/수정/삭제 커밋 후 해당 달(날짜가 바뀌면 이전 달도)만 무효화 (ScheduleEventListener가 버전 증가 전에 호출)
+ * - 로컬 항목은 조회 때 넘긴 사용자 일정 버전(ETag)과 함께 저장하고, 다른 버전으로 조회하면 쓰지 않음
+ *   (다른 노드의 무효화 메시지가 늦게 와도 새 ETag로 이전 목록을 응답하지 않음)
+ * - Redis 사용 시(schedule.cache.redis.enabled=true) 노드 간 공유 + pub/sub로 다른 노드의 로컬 캐시도 무효화
+ * - 조회 도중 무효화되면 읽은 결과를 저장하지 않음 (로컬: 무효화 세대, Redis: 키별 버전)
+ * 반복 일정 원본/회차 예외는 월과 무관하므로 (userId, series) 키 하나에 저장하고, 반복 일정이 바뀔 때만 무효화한다.
+ * 캐시된 ScheduleResponse는 여러 요청이 공유하므로 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class ScheduleMonthCache {
+
+    static final String INVALIDATION_CHANNEL = "SCH:MONTH:INVALIDATE";
+
+    private static final TypeReference<List<ScheduleResponse>> MONTH_TYPE = new TypeReference<>() { };
+    private static final TypeReference<List<ScheduleSeries>> SERIES_TYPE = new TypeReference<>() { };
+
+    private final ObjectMapper objectMapper;
+    private final RedisService redisService;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final long localTtlMs;
+    private final long redisTtlMs;
+
+    // accessOrder=true LRU, 무효화 세대와 함께 synchronized로 보호
+    private final Map<String, Entry> local;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter invalidated;
+
+    // 로컬 전용 (테스트/단일 노드)
+    ScheduleMonthCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, int localSize, long localTtlMs) {
+        this(objectMapper, null, null, meterRegistry, true, localSize, localTtlMs, false, 0);
+    }
+
+    @Autowired
+    public ScheduleMonthCache(ObjectMapper objectMapper,
+                              RedisService redisService,
+                              ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${schedule.cache.enabled:true}") boolean enabled,
+                              @Value("${schedule.cache.local.size:10000}") int localSize,
+                              @Value("${schedule.cache.local.ttl-ms:300000}") long localTtlMs,
+                              @Value("${schedule.cache.redis.enabled:false}") boolean redisEnabled,
+                              @Value("${schedule.cache.redis.ttl-ms:3600000}") long redisTtlMs) {
+        this.objectMapper = objectMapper;
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.redisEnabled = enabled && redisEnabled;
+        this.localTtlMs = localTtlMs;
+        this.redisTtlMs = redisTtlMs;
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localSize;
+            }
+        };
+
+        this.localHits = requests(meterRegistry, "local", "hit");
+        this.localMisses = requests(meterRegistry, "local", "miss");
+        this.redisHits = requests(meterRegistry, "redis", "hit");
+        this.redisMisses = requests(meterRegistry, "redis", "miss");
+        this.invalidated = Counter.builder("schedule.cache.invalidations")
+                .description("무효화된 (사용자, 월) 캐시 항목 수")
+                .register(meterRegistry);
+        hitRatio(meterRegistry, "local", localHits, localMisses);
+        hitRatio(meterRegistry, "redis", redisHits, redisMisses);
+        Gauge.builder("schedule.cache.local.size", this, ScheduleMonthCache::localSize)
+                .description("로컬 월 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void listen() {
+        if (!redisEnabled) {
+            return;
+        }
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container == null) {
+            log.warn("[CACHE] redis listener container 없음 - 다른 노드의 무효화를 받지 못합니다.");
+            return;
+        }
+        container.addMessageListener((message, pattern) ->
+                        evictLocal(Set.of(new String(message.getBody(), StandardCharsets.UTF_8).split(","))),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자 월 목록 조회 (로컬 → Redis → loader 순서, loader 결과는 두 계층에 저장)
+     * version은 응답 ETag를 만든 사용자 일정 버전 (로컬 항목이 다른 버전으로 저장됐으면 다시 조회, null이면 확인 없음)
+     */
+    public List<ScheduleResponse> getMonth(String userId, YearMonth month, String version,
+                                           Supplier<List<ScheduleResponse>> loader) {
+        return get(key(userId, month), version, MONTH_TYPE, loader);
+    }
+
+    /**
+     * 사용자 반복 일정 원본/회차 예외 조회 (월 목록과 같은 계층/무효화/버전 확인 방식)
+     */
+    public List<ScheduleSeries> getSeries(String userId, String version, Supplier<List<ScheduleSeries>> loader) {
+        return get(seriesKey(userId), version, SERIES_TYPE, loader);
+    }
+
+    private <T> List<T> get(String key, String version, TypeReference<List<T>> type, Supplier<List<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long now = System.currentTimeMillis();
+        List<T> cached = localGet(key, version, now);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        // 조회 전 세대/버전: 조회 중 무효화되면 저장하지 않음
+        // Redis 항목은 무효화가 버전 증가보다 먼저 반영되므로 키별 버전만 확인
+        long generation = invalidations.get();
+        String keyVersion = null;
+        if (redisEnabled) {
+            try {
+                String[] row = redisService.readScheduleMonth(key);
+                keyVersion = row[0];
+                if (row[1] != null) {
+                    List<T> shared = List.copyOf(objectMapper.readValue(row[1], type));
+                    redisHits.increment();
+                    localPut(key, version, shared, generation, now);
+                    return shared;
+                }
+                redisMisses.increment();
+            } catch (Exception e) {
+                log.warn("[CACHE] redis read fail key={} error={}", key, e.getMessage());
+                keyVersion = null;
+            }
+        }
+
+        List<T> loaded = List.copyOf(loader.get());
+        localPut(key, version, loaded, generation, now);
+        if (keyVersion != null) {
+            try {
+                redisService.putScheduleMonth(key, keyVersion, objectMapper.writeValueAsString(loaded), redisTtlMs);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("월 캐시 직렬화에 실패했습니다.", e);
+            } catch (Exception e) {
+                log.warn("[CACHE] redis put fail key={} error={}", key, e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자 월 캐시 무효화 (로컬 + Redis + 다른 노드)
+     */
+    public void invalidate(String userId, Set<YearMonth> months) {
+        invalidate(userId, months, false);
+    }
+
+    /**
+     * 사용자 월 캐시 무효화, series=true면 반복 일정 캐시도 함께
+     */
+    public void invalidate(String userId, Set<YearMonth> months, boolean series) {
+        if (!enabled || (months.isEmpty() && !series)) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (YearMonth month : months) {
+            keys.add(key(userId, month));
+        }
+        if (series) {
+            keys.add(seriesKey(userId));
+        }
+        evictLocal(keys);
+        if (redisEnabled) {
+            try {
+                redisService.invalidateScheduleMonths(keys, redisTtlMs, INVALIDATION_CHANNEL);
+            } catch (Exception e) {
+                log.warn("[CACHE] redis invalidate fail keys={} error={}", keys, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 일정 생성/수정/삭제 커밋 후 무효화 (ScheduleEventListener가 버전 증가 전에 호출)
+     */
+    public void onScheduleChanged(ScheduleEvent event) {
+        if (event instanceof ScheduleUpdatedEvent updated) {
+            invalidate(updated.getSchedule(), updated.getPreviousScheduleDate(), updated.isPreviousRecurring());
+        } else {
+            invalidate(event.getSchedule(), null, false);
+        }
+    }
+
+    /**
+     * 일괄 처리 커밋 후 무효화 (ScheduleEventListener가 버전 증가 전에 호출)
+     */
+    public void onScheduleBulkChanged(ScheduleBulkChangedEvent event) {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        event.affectedDates().forEach(date -> months.add(YearMonth.from(date)));
+        invalidate(event.getUserId(), months, event.isSeriesChanged());
+    }
+
+    int localSize() {
+        synchronized (local) {
+            return local.size();
+        }
+    }
+
+    static String key(String userId, YearMonth month) {
+        return userId + ":" + month;
+    }
+
+    static String seriesKey(String userId) {
+        return userId + ":series";
+    }
+
+    // 반복 일정(수정 전 포함)은 월 목록에 없으므로 반복 일정 캐시만 무효화
+    private void invalidate(Schedule schedule, LocalDate previousDate, boolean previousRecurring) {
+        Set<YearMonth> months = new LinkedHashSet<>();
+        if (!schedule.isRecurring()) {
+            months.add(YearMonth.from(schedule.getScheduleDate()));
+        }
+        if (previousDate != null && !previousRecurring) {
+            months.add(YearMonth.from(previousDate));
+        }
+        invalidate(schedule.getUser().getId(), months, schedule.isRecurring() || previousRecurring);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> localGet(String key, String version, long now) {
+        synchronized (local) {
+            Entry entry = local.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now || (version != null && !version.equals(entry.version()))) {
+                local.remove(key);
+                return null;
+            }
+            return (List<T>) entry.items();
+        }
+    }
+
+    private void localPut(String key, String version, List<?> items, long generation, long now) {
+        synchronized (local) {
+            if (invalidations.get() == generation) {
+                local.put(key, new Entry(items, version, now + localTtlMs));
+            }
+        }
+    }
+
+    private void evictLocal(Set<String> keys) {
+        synchronized (local) {
+            invalidations.incrementAndGet();
+            keys.forEach(local::remove);
+        }
+        invalidated.increment(keys.size());
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("schedule.cache.requests")
+                .description("월 캐시 조회 수")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void hitRatio(MeterRegistry meterRegistry, String tier, Counter hits, Counter misses) {
+        Gauge.builder("schedule.cache.hit.ratio", () -> {
+                    double total = hits.count() + misses.count();
+                    return total == 0 ? 0 : hits.count() / total;
+                })
+                .description("월 캐시 적중률 (누적)")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    // version: 조회 때 넘긴 사용자 일정 버전 (이 버전의 ETag로만 응답에 사용)
+    private record Entry(List<?> items, String version, long expiresAt) { }
+}
+
+/*
+    * ScheduleMonthCache.java
+    * 범위/날짜/오늘 목록 조회를 (사용자, 월) 단위 캐시로 처리 → 달력 이동마다 DB 조회하던 부분 제거
+    * 로컬 LRU(기본 10,000개, 5분) + Redis 해시(SCH:MONTH:{userId}:{yyyy-MM}, v=버전, d=JSON, 1시간)
+    * 무효화: 생성/수정/삭제 이벤트 커밋 후 해당 달만, Redis 사용 시 SCH:MONTH:INVALIDATE 채널로 다른 노드에 전파
+      무효화 후 버전 증가(한 리스너에서 순서대로), 로컬 항목은 저장 당시 버전과 조회 버전이 같을 때만 사용
+    * 반복 일정: 월 목록에는 단일 일정만 두고 원본/회차 예외는 {userId}:series 키 하나에 캐시 (반복 일정 변경 시에만 무효화)
+    * 메트릭: schedule.cache.requests(tier, result), schedule.cache.hit.ratio(tier), schedule.cache.invalidations, schedule.cache.local.size
+ */
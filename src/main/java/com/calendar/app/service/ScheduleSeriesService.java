@@ -0,0 +1,329 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleRequest;
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.ScheduleRecurrenceException;
+import com.calendar.app.entity.User;
+import com.calendar.app.repository.ScheduleRecurrenceExceptionRepository;
+import com.calendar.app.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleSeriesService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleRecurrenceExceptionRepository exceptionRepository;
+
+    // 사용자의 반복 일정 원본과 회차 예외 (쿼리 2번, 반복 일정이 없으면 1번)
+    @Transactional(readOnly = true)
+    public List<ScheduleSeries> loadSeries(User user) {
+        List<Schedule> masters = scheduleRepository.findRecurringByUser(user);
+        if (masters.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<ScheduleSeries.Modification>> modifications = exceptionRepository
+                .findByScheduleIds(masters.stream().map(Schedule::getId).toList()).stream()
+                .collect(Collectors.groupingBy(exception -> exception.getSchedule().getId(),
+                        Collectors.mapping(ScheduleSeriesService::modification, Collectors.toList())));
+        List<ScheduleSeries> series = new ArrayList<>(masters.size());
+        for (Schedule master : masters) {
+            series.add(new ScheduleSeries(ScheduleResponse.from(master), master.getRecurrenceUntil(),
+                    modifications.getOrDefault(master.getId(), List.of())));
+        }
+        return series;
+    }
+
+    /**
+     * [from, to] 구간의 회차 (날짜순 아님, 호출자가 단일 일정과 합쳐 정렬)
+     * 규칙상 날짜 중 취소/수정된 회차는 건너뛰고, 수정된 회차는 옮긴 날짜가 구간 안일 때 포함
+     */
+    static List<ScheduleResponse> expand(List<ScheduleSeries> series, LocalDate from, LocalDate to, boolean includeDescription) {
+        List<ScheduleResponse> occurrences = new ArrayList<>();
+        for (ScheduleSeries item : series) {
+            ScheduleResponse master = item.getSchedule();
+            RecurrenceRule rule = RecurrenceRule.parse(master.getRecurrenceRule());
+            Set<LocalDate> modified = item.getModifications().stream()
+                    .map(ScheduleSeries.Modification::getOccurrenceDate)
+                    .collect(Collectors.toSet());
+            for (LocalDate date : rule.between(master.getScheduleDate(), item.getUntil(), from, to)) {
+                if (!modified.contains(date)) {
+                    occurrences.add(occurrence(master, date, null, includeDescription));
+                }
+            }
+            for (ScheduleSeries.Modification modification : item.getModifications()) {
+                LocalDate date = dateOf(modification);
+                if (!modification.isCancelled() && !date.isBefore(from) && !date.isAfter(to)) {
+                    occurrences.add(occurrence(master, modification.getOccurrenceDate(), modification, includeDescription));
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    // 취소되지 않은 수정 회차 (원본 회차 순, iCalendar 내보내기에서 원본과 따로 출력)
+    static List<ScheduleResponse> modifiedOccurrences(ScheduleSeries series) {
+        return series.getModifications().stream()
+                .filter(modification -> !modification.isCancelled())
+                .map(modification -> occurrence(series.getSchedule(), modification.getOccurrenceDate(), modification, true))
+                .toList();
+    }
+
+    /**
+     * 요청의 반복 규칙을 일정에 반영 (저장 전, fire_at은 호출자가 갱신)
+     * 규칙이 있으면 정규화해 저장하고 일정 날짜를 첫 회차로 맞춤, 규칙에 맞는 날짜가 없으면 IllegalArgumentException
+     */
+    static void applyRule(Schedule schedule, String recurrenceRule) {
+        if (recurrenceRule == null || recurrenceRule.isBlank()) {
+            schedule.setRecurring(false);
+            schedule.setRecurrenceRule(null);
+            schedule.setRecurrenceUntil(null);
+            return;
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(recurrenceRule);
+        LocalDate first = rule.first(schedule.getScheduleDate());
+        if (first == null) {
+            throw new IllegalArgumentException("반복 규칙에 맞는 날짜가 없습니다.");
+        }
+        schedule.setRecurring(true);
+        schedule.setRecurrenceRule(rule.format());
+        schedule.setScheduleDate(first);
+        schedule.setRecurrenceUntil(rule.lastDate(first));
+        // 반복 일정은 reminded 대신 fire_at을 다음 회차로 옮겨 중복 발송을 막음
+        schedule.setReminded(false);
+    }
+
+    /**
+     * 반복 일정의 다음 알림 시각: after 이후 가장 이른 회차의 (시작 시각 - reminderMinutes), 없으면 null
+     * 시작 시간이 없는 회차(종일)는 알림 없음, 회차 전체를 만들지 않고 after 근처부터 찾음
+     */
+    static LocalDateTime nextFireAt(Schedule master, List<ScheduleSeries.Modification> modifications, LocalDateTime after) {
+        int minutesBefore = master.getReminderMinutes() != null ? Math.max(master.getReminderMinutes(), 0) : 0;
+        Set<LocalDate> modified = modifications.stream()
+                .map(ScheduleSeries.Modification::getOccurrenceDate)
+                .collect(Collectors.toSet());
+        LocalDateTime next = null;
+        LocalTime startTime = master.getStartTime();
+        if (startTime != null) {
+            RecurrenceRule rule = RecurrenceRule.parse(master.getRecurrenceRule());
+            Iterator<LocalDate> dates = rule.iterator(master.getScheduleDate(),
+                    after.plusMinutes(minutesBefore).toLocalDate(), master.getRecurrenceUntil());
+            while (dates.hasNext()) {
+                LocalDate date = dates.next();
+                LocalDateTime fireAt = date.atTime(startTime).minusMinutes(minutesBefore);
+                if (!modified.contains(date) && fireAt.isAfter(after)) {
+                    next = fireAt;
+                    break;
+                }
+            }
+        }
+        // 수정된 회차는 옮긴 날짜/시간 기준으로 따로 비교
+        for (ScheduleSeries.Modification modification : modifications) {
+            LocalTime time = modification.getStartTime() != null ? modification.getStartTime() : startTime;
+            if (modification.isCancelled() || time == null) {
+                continue;
+            }
+            LocalDateTime fireAt = dateOf(modification).atTime(time).minusMinutes(minutesBefore);
+            if (fireAt.isAfter(after) && (next == null || fireAt.isBefore(next))) {
+                next = fireAt;
+            }
+        }
+        return next;
+    }
+
+    // 알림 시각 재계산 (단일 일정은 일정 날짜 기준, 반복 일정은 현재 이후 다음 회차 기준)
+    public void refreshFireAt(Schedule schedule) {
+        if (!schedule.isRecurring()) {
+            schedule.refreshFireAt();
+            return;
+        }
+        List<ScheduleSeries.Modification> modifications = schedule.getId() == null ? List.of() : modifications(schedule.getId());
+        schedule.setFireAt(nextFireAt(schedule, modifications, LocalDateTime.now()));
+    }
+
+    /**
+     * 알림을 발송한 반복 일정의 fire_at을 다음 회차로 이동하고 새 알림 시각 반환 (이동하지 못했거나 마지막 회차였으면 null)
+     * 발송 시점의 fire_at이 그대로일 때만 UPDATE → 다른 노드/재시도가 먼저 옮겼으면 아무것도 하지 않음
+     */
+    @Transactional
+    public LocalDateTime advanceReminder(Schedule schedule, LocalDateTime now) {
+        LocalDateTime current = schedule.getFireAt();
+        if (!schedule.isRecurring() || current == null) {
+            return null;
+        }
+        LocalDateTime after = current.isAfter(now) ? current : now;
+        LocalDateTime next = nextFireAt(schedule, modifications(schedule.getId()), after);
+        if (scheduleRepository.advanceFireAt(schedule.getId(), current, next) == 0) {
+            return null;
+        }
+        log.debug("반복 일정 알림 이동: scheduleId={}, {} → {}", schedule.getId(), current, next);
+        return next;
+    }
+
+    /**
+     * 발송되지 못한 채 before 이전에 멈춘 반복 일정 알림을 now 이후 다음 회차로 이동 (장애/중단 후 알림 휠 적재 전)
+     * 멈춘 회차는 따라잡기 범위를 벗어나 다시 발송하지 않음
+     */
+    @Transactional
+    public int advanceStaleReminders(LocalDateTime before, LocalDateTime now) {
+        List<Schedule> stale = scheduleRepository.findStaleRecurringReminders(before);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<ScheduleSeries.Modification>> modifications = new HashMap<>();
+        exceptionRepository.findByScheduleIds(stale.stream().map(Schedule::getId).toList())
+                .forEach(exception -> modifications.computeIfAbsent(exception.getSchedule().getId(), id -> new ArrayList<>())
+                        .add(modification(exception)));
+        for (Schedule schedule : stale) {
+            // 관리 상태 엔티티라 커밋 시 dirty checking으로 반영
+            schedule.setFireAt(nextFireAt(schedule, modifications.getOrDefault(schedule.getId(), List.of()), now));
+        }
+        return stale.size();
+    }
+
+    // 회차 취소 (이미 수정된 회차면 취소로 바꿈)
+    @Transactional
+    public void cancelOccurrence(Schedule master, LocalDate occurrenceDate) {
+        ScheduleRecurrenceException exception = findOrNew(master, occurrenceDate);
+        exception.setCancelled(true);
+        exception.setTitle(null);
+        exception.setDescription(null);
+        exception.setColor(null);
+        exception.setScheduleDate(null);
+        exception.setStartTime(null);
+        exception.setEndTime(null);
+        exceptionRepository.save(exception);
+        refreshFireAt(master);
+    }
+
+    /**
+     * 회차 수정 (요청에서 null인 값은 원본 값 사용)
+     * @return 수정된 회차
+     */
+    @Transactional
+    public ScheduleResponse modifyOccurrence(Schedule master, LocalDate occurrenceDate, ScheduleRequest request) {
+        ScheduleRecurrenceException exception = findOrNew(master, occurrenceDate);
+        exception.setCancelled(false);
+        exception.setTitle(request.getTitle());
+        exception.setDescription(request.getDescription());
+        exception.setColor(request.getColor());
+        exception.setScheduleDate(occurrenceDate.equals(request.getScheduleDate()) ? null : request.getScheduleDate());
+        exception.setStartTime(request.getStartTime());
+        exception.setEndTime(request.getEndTime());
+        exceptionRepository.save(exception);
+        refreshFireAt(master);
+        return occurrence(ScheduleResponse.from(master), occurrenceDate, modification(exception), true);
+    }
+
+    // 규칙/시작 날짜가 바뀌거나 반복을 해제하면 기존 회차 예외 삭제 (회차 날짜가 달라지므로)
+    @Transactional
+    public void deleteModifications(String scheduleId) {
+        int deleted = exceptionRepository.deleteByScheduleIds(List.of(scheduleId));
+        if (deleted > 0) {
+            log.debug("반복 일정 회차 예외 삭제: scheduleId={}, {}건", scheduleId, deleted);
+        }
+    }
+
+    private ScheduleRecurrenceException findOrNew(Schedule master, LocalDate occurrenceDate) {
+        if (!master.isRecurring()) {
+            throw new IllegalArgumentException("반복 일정이 아닙니다.");
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(master.getRecurrenceRule());
+        if (rule.between(master.getScheduleDate(), master.getRecurrenceUntil(), occurrenceDate, occurrenceDate).isEmpty()) {
+            throw new IllegalArgumentException("해당 날짜에 반복 회차가 없습니다: " + occurrenceDate);
+        }
+        return exceptionRepository.findOccurrence(master.getId(), occurrenceDate)
+                .orElseGet(() -> ScheduleRecurrenceException.builder()
+                        .schedule(master)
+                        .occurrenceDate(occurrenceDate)
+                        .build());
+    }
+
+    private List<ScheduleSeries.Modification> modifications(String scheduleId) {
+        return exceptionRepository.findByScheduleId(scheduleId).stream()
+                .map(ScheduleSeriesService::modification)
+                .toList();
+    }
+
+    private static ScheduleSeries.Modification modification(ScheduleRecurrenceException exception) {
+        return ScheduleSeries.Modification.builder()
+                .occurrenceDate(exception.getOccurrenceDate())
+                .cancelled(exception.isCancelled())
+                .title(exception.getTitle())
+                .description(exception.getDescription())
+                .color(exception.getColor())
+                .scheduleDate(exception.getScheduleDate())
+                .startTime(exception.getStartTime())
+                .endTime(exception.getEndTime())
+                .build();
+    }
+
+    private static LocalDate dateOf(ScheduleSeries.Modification modification) {
+        return modification.getScheduleDate() != null ? modification.getScheduleDate() : modification.getOccurrenceDate();
+    }
+
+    // 원본을 회차 하나로 복사 (id는 원본 id, occurrenceDate로 회차 구분)
+    private static ScheduleResponse occurrence(ScheduleResponse master, LocalDate occurrenceDate,
+                                               ScheduleSeries.Modification modification, boolean includeDescription) {
+        ScheduleResponse.ScheduleResponseBuilder builder = ScheduleResponse.builder()
+                .id(master.getId())
+                .title(master.getTitle())
+                .description(includeDescription ? master.getDescription() : null)
+                .color(master.getColor())
+                .scheduleDate(occurrenceDate)
+                .startTime(master.getStartTime())
+                .endTime(master.getEndTime())
+                .recurrenceRule(master.getRecurrenceRule())
+                .occurrenceDate(occurrenceDate)
+                .reminderMinutes(master.getReminderMinutes())
+                .isReminderEnabled(master.isReminderEnabled())
+                .createdAt(master.getCreatedAt())
+                .updatedAt(master.getUpdatedAt());
+        if (modification != null) {
+            builder.scheduleDate(dateOf(modification));
+            if (modification.getTitle() != null) {
+                builder.title(modification.getTitle());
+            }
+            if (includeDescription && modification.getDescription() != null) {
+                builder.description(modification.getDescription());
+            }
+            if (modification.getColor() != null) {
+                builder.color(modification.getColor());
+            }
+            if (modification.getStartTime() != null) {
+                builder.startTime(modification.getStartTime());
+            }
+            if (modification.getEndTime() != null) {
+                builder.endTime(modification.getEndTime());
+            }
+        }
+        return builder.build();
+    }
+}
+
+/*
+    * ScheduleSeriesService.java
+    * 반복 일정(RRULE) 회차 펼치기, 회차 예외(취소/수정), 다음 회차 알림 시각 관리
+    * 저장: 원본 한 행(규칙, 첫 회차 날짜, 마지막 회차 날짜) + 바뀐 회차만 예외 테이블에 한 행씩
+    * 조회: 사용자의 원본/예외를 한 번 읽어(월 캐시와 같은 계층에 사용자 단위로 캐시) 요청 범위의 회차만 계산
+      (5년 된 매일 반복도 한 달 조회면 최대 31개만 만듦)
+    * 알림: fire_at에는 다음 회차 알림 시각 하나만 저장, 발송 후 조건부 UPDATE로 다음 회차로 이동
+      (회차마다 알림 행을 만들지 않으므로 기존 fire_at 인덱스/알림 휠을 그대로 사용)
+ */
@@ -1,24 +1,51 @@
 package com.calendar.app.service;
 
 
+import com.calendar.app.dto.schedule.ScheduleBatchRequest;
+import com.calendar.app.dto.schedule.ScheduleBatchResponse;
+import com.calendar.app.dto.schedule.ScheduleCursor;
+import com.calendar.app.dto.schedule.ScheduleCursorPage;
+import com.calendar.app.dto.schedule.ScheduleDayColorCount;
+import com.calendar.app.dto.schedule.ScheduleDaySummaryResponse;
 import com.calendar.app.dto.schedule.ScheduleRequest;
 import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
 import com.calendar.app.entity.Schedule;
 import com.calendar.app.entity.User;
+import com.calendar.app.event.ScheduleBulkChangedEvent;
 import com.calendar.app.event.ScheduleCreatedEvent;
+import com.calendar.app.event.ScheduleDeletedEvent;
 import com.calendar.app.event.ScheduleUpdatedEvent;
 import com.calendar.app.exception.ScheduleNotFoundException;
 import com.calendar.app.exception.UnauthorizedAccessException;
 import com.calendar.app.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -28,6 +55,25 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final SsePushService ssePushService;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ScheduleMonthCache monthCache;
+    private final ScheduleVersionStore versionStore;
+    private final ScheduleSeriesService seriesService;
+
+    // 월 캐시로 처리하는 범위 조회의 최대 개월 수 (그보다 긴 범위는 DB에서 바로 조회)
+    private static final int MAX_CACHED_MONTHS = 3;
+
+    // 전체 목록 커서 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // 일괄 처리 최대 작업 수
+    private static final int MAX_BATCH_OPERATIONS = 500;
+
+    // 목록 정렬: 날짜, 시작 시간(종일 일정 먼저) - 단일 일정과 반복 회차를 합칠 때 DB 정렬과 같은 순서로
+    private static final Comparator<ScheduleResponse> LIST_ORDER = Comparator
+            .comparing(ScheduleResponse::getScheduleDate)
+            .thenComparing(ScheduleResponse::getStartTime, Comparator.nullsFirst(Comparator.naturalOrder()));
 
     // 공통 권한 검증 메서드
     private Schedule validateScheduleOwnership(User user, String scheduleId) {
@@ -50,17 +96,7 @@ public class ScheduleService {
 
 
 
-        Schedule schedule = Schedule.builder()
-                .user(user)
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .color(request.getColor())
-                .scheduleDate(request.getScheduleDate())
-                .startTime(request.getStartTime())
-                .endTime(request.getEndTime())
-                .reminderMinutes(request.getReminderMinutes())
-                .isReminderEnabled(request.getIsReminderEnabled() != null ? request.getIsReminderEnabled() : true)
-                .build();
+        Schedule schedule = newSchedule(user, request);
 
         Schedule savedSchedule = scheduleRepository.save(schedule);
         log.debug("스케줄 생성 완료 - ID: {}", savedSchedule.getId());
@@ -92,20 +128,67 @@ public class ScheduleService {
         Schedule schedule = validateScheduleOwnership(user, scheduleId);
 
 
-        // 스케줄 정보 업데이트
+        boolean wasRecurring = schedule.isRecurring();
+        LocalDate oldDate = applyRequest(schedule, request);
+
+        Schedule updatedSchedule = scheduleRepository.save(schedule);
+        log.debug("스케줄 수정 완료 - ID: {}", updatedSchedule.getId());
+
+        // 스케줄 수정 이벤트 발행
+        eventPublisher.publishEvent(new ScheduleUpdatedEvent(this, updatedSchedule, oldDate, wasRecurring));
+
+        return ScheduleResponse.from(updatedSchedule);
+    }
+
+    // 요청 내용으로 새 일정 생성 (저장 전)
+    static Schedule newSchedule(User user, ScheduleRequest request) {
+        Schedule schedule = Schedule.builder()
+                .user(user)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .color(request.getColor())
+                .scheduleDate(request.getScheduleDate())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .reminderMinutes(request.getReminderMinutes())
+                .isReminderEnabled(request.getIsReminderEnabled() != null ? request.getIsReminderEnabled() : true)
+                .build();
+        ScheduleSeriesService.applyRule(schedule, request.getRecurrenceRule());
+        if (schedule.isRecurring()) {
+            schedule.setFireAt(ScheduleSeriesService.nextFireAt(schedule, List.of(), LocalDateTime.now()));
+        } else {
+            schedule.refreshFireAt();
+        }
+        return schedule;
+    }
+
+    // 요청 내용을 일정에 반영하고 수정 전 날짜 반환
+    private LocalDate applyRequest(Schedule schedule, ScheduleRequest request) {
         schedule.setTitle(request.getTitle());
         schedule.setDescription(request.getDescription());
         schedule.setColor(request.getColor());
         LocalDate oldDate = schedule.getScheduleDate();
         java.time.LocalTime oldStart = schedule.getStartTime();
         Integer oldReminderMins = schedule.getReminderMinutes();
-        // 변경 이전 플래그 보존(필요 시 로깅/분기 활용)
-        // Boolean oldEnabled = schedule.isReminderEnabled();
+
+        boolean wasRecurring = schedule.isRecurring();
+        String oldRule = schedule.getRecurrenceRule();
 
         schedule.setScheduleDate(request.getScheduleDate());
         schedule.setStartTime(request.getStartTime());
         schedule.setEndTime(request.getEndTime());
         schedule.setReminderMinutes(request.getReminderMinutes());
+        ScheduleSeriesService.applyRule(schedule, request.getRecurrenceRule());
+        // 규칙/첫 회차가 바뀌면 회차 날짜가 달라지므로 기존 회차 예외는 버림
+        if (wasRecurring && (!schedule.isRecurring() || !Objects.equals(oldRule, schedule.getRecurrenceRule())
+                || !Objects.equals(oldDate, schedule.getScheduleDate()))) {
+            seriesService.deleteModifications(schedule.getId());
+        }
+        if (schedule.isRecurring()) {
+            seriesService.refreshFireAt(schedule);
+        } else {
+            schedule.refreshFireAt();
+        }
 
         // 일정 날짜/시작시간/알림분 변경 시 reminded 초기화
         if (!java.util.Objects.equals(oldDate, schedule.getScheduleDate())
@@ -113,14 +196,7 @@ public class ScheduleService {
                 || !java.util.Objects.equals(oldReminderMins, schedule.getReminderMinutes())) {
             schedule.setReminded(false);
         }
-
-        Schedule updatedSchedule = scheduleRepository.save(schedule);
-        log.debug("스케줄 수정 완료 - ID: {}", updatedSchedule.getId());
-
-        // 스케줄 수정 이벤트 발행
-        eventPublisher.publishEvent(new ScheduleUpdatedEvent(this, updatedSchedule));
-
-        return ScheduleResponse.from(updatedSchedule);
+        return oldDate;
     }
 
     // 알림 허용 유무 전용 업데이트 (상세 페이지에서만 변경)
@@ -136,8 +212,14 @@ public class ScheduleService {
         if (!java.util.Objects.equals(oldEnabled, enabled)) {
             schedule.setReminded(false);
         }
+        // 반복 일정은 꺼져 있는 동안 지난 회차를 건너뛰고 다음 회차부터 알림
+        if (schedule.isRecurring()) {
+            seriesService.refreshFireAt(schedule);
+        }
 
         Schedule updated = scheduleRepository.save(schedule);
+        // 알림 설정만 바뀌었으므로 수정 푸시 없이 알림 휠/캐시만 반영
+        eventPublisher.publishEvent(ScheduleUpdatedEvent.stateChanged(this, updated));
         return ScheduleResponse.from(updated);
     }
 
@@ -149,6 +231,164 @@ public class ScheduleService {
 
         scheduleRepository.delete(schedule);
         log.debug("스케줄 삭제 완료 - ID: {}", scheduleId);
+
+        // 스케줄 삭제 이벤트 발행 (알림 휠에서 제거)
+        eventPublisher.publishEvent(new ScheduleDeletedEvent(this, schedule));
+    }
+
+    // 반복 일정 회차 하나 취소 (occurrenceDate: 규칙상 회차 날짜)
+    @Transactional
+    public void cancelOccurrence(User user, String scheduleId, LocalDate occurrenceDate) {
+        log.debug("반복 회차 취소 요청 - 사용자: {}, 스케줄 ID: {}, 회차: {}", user.getNickname(), scheduleId, occurrenceDate);
+        Schedule schedule = validateScheduleOwnership(user, scheduleId);
+
+        seriesService.cancelOccurrence(schedule, occurrenceDate);
+
+        // 원본의 다음 알림 시각이 바뀔 수 있으므로 수정 이벤트로 알림 휠/캐시 반영 (원본 내용은 그대로라 수정 푸시 없음)
+        eventPublisher.publishEvent(ScheduleUpdatedEvent.stateChanged(this, schedule));
+    }
+
+    // 반복 일정 회차 하나 수정 (원본/다른 회차는 그대로)
+    @Transactional
+    public ScheduleResponse modifyOccurrence(User user, String scheduleId, LocalDate occurrenceDate, ScheduleRequest request) {
+        log.debug("반복 회차 수정 요청 - 사용자: {}, 스케줄 ID: {}, 회차: {}", user.getNickname(), scheduleId, occurrenceDate);
+        Schedule schedule = validateScheduleOwnership(user, scheduleId);
+
+        ScheduleResponse occurrence = seriesService.modifyOccurrence(schedule, occurrenceDate, request);
+
+        // 원본 내용은 그대로이므로 원본 제목으로 수정 푸시를 보내지 않음
+        eventPublisher.publishEvent(ScheduleUpdatedEvent.stateChanged(this, schedule));
+        return occurrence;
+    }
+
+    // 일괄 생성/수정/삭제 (한 트랜잭션)
+    // - 수정/삭제 대상은 IN 조회 한 번으로 로드, INSERT/UPDATE/DELETE는 마지막 flush에서 JDBC 배치로 전송 (ULID 키라 IDENTITY 없이 배치 가능)
+    // - 잘못된 항목(검증 실패, 없음, 권한 없음)은 건너뛰고 항목별 결과로 알림, 나머지는 반영
+    // - 항목마다 이벤트를 발행하지 않고 ScheduleBulkChangedEvent 한 번
+    @Transactional
+    public ScheduleBatchResponse applyBatch(User user, List<ScheduleBatchRequest.Operation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("처리할 작업이 없습니다.");
+        }
+        if (operations.size() > MAX_BATCH_OPERATIONS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_OPERATIONS + "건까지 처리할 수 있습니다.");
+        }
+        log.debug("일괄 처리 요청 - 사용자: {}, 작업: {}건", user.getNickname(), operations.size());
+
+        Set<String> targetIds = new HashSet<>();
+        for (ScheduleBatchRequest.Operation operation : operations) {
+            if (operation != null && operation.getType() != ScheduleBatchRequest.Type.CREATE && operation.getScheduleId() != null) {
+                targetIds.add(operation.getScheduleId());
+            }
+        }
+        Map<String, Schedule> targets = new HashMap<>();
+        if (!targetIds.isEmpty()) {
+            scheduleRepository.findAllById(targetIds).forEach(schedule -> targets.put(schedule.getId(), schedule));
+        }
+
+        // 항목별 결과: 성공 항목의 응답은 flush(updatedAt 반영) 후에 만듦
+        ScheduleBatchResponse.Status[] statuses = new ScheduleBatchResponse.Status[operations.size()];
+        String[] messages = new String[operations.size()];
+        Schedule[] applied = new Schedule[operations.size()];
+        List<Schedule> created = new ArrayList<>();
+        Set<Schedule> updated = new LinkedHashSet<>();
+        List<Schedule> deleted = new ArrayList<>();
+        Set<LocalDate> previousDates = new HashSet<>();
+        boolean seriesChanged = false;
+        int failed = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            ScheduleBatchRequest.Operation operation = operations.get(i);
+            String invalid = validate(operation);
+            if (invalid != null) {
+                statuses[i] = ScheduleBatchResponse.Status.INVALID;
+                messages[i] = invalid;
+                failed++;
+                continue;
+            }
+            if (operation.getType() == ScheduleBatchRequest.Type.CREATE) {
+                Schedule schedule = newSchedule(user, operation.getSchedule());
+                // persist 시점에 ULID/생성 시각 부여, INSERT는 flush 때 배치로 전송
+                // (id가 있는 엔티티를 save()하면 merge로 처리되어 항목마다 SELECT가 나감)
+                entityManager.persist(schedule);
+                created.add(schedule);
+                statuses[i] = ScheduleBatchResponse.Status.OK;
+                applied[i] = schedule;
+                continue;
+            }
+
+            Schedule schedule = targets.get(operation.getScheduleId());
+            if (schedule == null) {
+                statuses[i] = ScheduleBatchResponse.Status.NOT_FOUND;
+                messages[i] = "스케줄을 찾을 수 없습니다.";
+                failed++;
+                continue;
+            }
+            if (!schedule.getUser().getId().equals(user.getId())) {
+                statuses[i] = ScheduleBatchResponse.Status.FORBIDDEN;
+                messages[i] = "해당 스케줄에 접근할 권한이 없습니다.";
+                failed++;
+                continue;
+            }
+            statuses[i] = ScheduleBatchResponse.Status.OK;
+            seriesChanged |= schedule.isRecurring();
+            if (operation.getType() == ScheduleBatchRequest.Type.UPDATE) {
+                previousDates.add(applyRequest(schedule, operation.getSchedule()));
+                updated.add(schedule);
+                applied[i] = schedule;
+            } else {
+                // 같은 요청 안에서 이후 작업이 삭제된 일정을 보지 않도록 제거
+                targets.remove(schedule.getId());
+                updated.remove(schedule);
+                deleted.add(schedule);
+            }
+        }
+
+        // 생성은 persist 완료, 수정은 관리 상태 엔티티의 dirty checking으로 반영 → flush 한 번에 배치 전송
+        scheduleRepository.deleteAll(deleted);
+        entityManager.flush();
+
+        List<ScheduleBatchResponse.Result> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            ScheduleBatchRequest.Operation operation = operations.get(i);
+            Schedule schedule = applied[i];
+            results.add(new ScheduleBatchResponse.Result(i,
+                    operation == null ? null : operation.getType(),
+                    schedule != null ? schedule.getId() : operation == null ? null : operation.getScheduleId(),
+                    statuses[i], messages[i],
+                    // 같은 요청에서 수정 후 삭제된 일정은 응답 없음
+                    schedule != null && !deleted.contains(schedule) ? ScheduleResponse.from(schedule) : null));
+        }
+
+        if (!created.isEmpty() || !updated.isEmpty() || !deleted.isEmpty()) {
+            eventPublisher.publishEvent(new ScheduleBulkChangedEvent(this, user.getId(), created, List.copyOf(updated), deleted,
+                    previousDates, seriesChanged));
+        }
+        log.debug("일괄 처리 완료 - 생성: {}, 수정: {}, 삭제: {}, 실패: {}", created.size(), updated.size(), deleted.size(), failed);
+        return new ScheduleBatchResponse(results, operations.size() - failed, failed);
+    }
+
+    // 일괄 작업 항목 검증 (문제가 없으면 null)
+    private static String validate(ScheduleBatchRequest.Operation operation) {
+        if (operation == null || operation.getType() == null) {
+            return "작업 종류(type)가 없습니다.";
+        }
+        if (operation.getType() != ScheduleBatchRequest.Type.CREATE
+                && (operation.getScheduleId() == null || operation.getScheduleId().isBlank())) {
+            return "scheduleId가 없습니다.";
+        }
+        if (operation.getType() != ScheduleBatchRequest.Type.DELETE) {
+            ScheduleRequest request = operation.getSchedule();
+            if (request == null) {
+                return "일정 내용(schedule)이 없습니다.";
+            }
+            if (request.getTitle() == null || request.getTitle().isBlank()) {
+                return "제목이 없습니다.";
+            }
+            if (request.getScheduleDate() == null) {
+                return "일정 날짜가 없습니다.";
+            }
+        }
+        return null;
     }
 
     // === 조회 작업 ===
@@ -164,35 +404,187 @@ public class ScheduleService {
                 .collect(Collectors.toList());
     }
 
-    // 특정 날짜 범위 스케줄 조회
+    // 전체 스케줄 커서 페이지 조회 (keyset: 마지막 일정의 날짜/시작 시간/id 이후부터 size개)
     @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesByDateRange(User user, LocalDate startDate, LocalDate endDate) {
+    public ScheduleCursorPage getSchedulePage(User user, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        log.debug("스케줄 페이지 조회 요청 - 사용자: {}, size: {}", user.getNickname(), pageSize);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Schedule> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = scheduleRepository.findPageByUser(user, limit);
+        } else {
+            ScheduleCursor after = ScheduleCursor.decode(cursor);
+            rows = after.startTime() == null
+                    ? scheduleRepository.findPageByUserAfterAllDay(user, after.scheduleDate(), after.id(), limit)
+                    : scheduleRepository.findPageByUserAfter(user, after.scheduleDate(), after.startTime(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Schedule> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? ScheduleCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new ScheduleCursorPage(page.stream().map(ScheduleResponse::from).toList(), nextCursor, hasNext);
+    }
+
+    // 전체 스케줄 스트리밍 조회: 한 건씩 변환해 넘기고 영속성 컨텍스트에서 바로 분리 (이력 크기와 무관하게 메모리 일정)
+    @Transactional(readOnly = true)
+    public int streamAllSchedules(User user, Consumer<ScheduleResponse> sink) {
+        log.debug("전체 스케줄 스트리밍 요청 - 사용자: {}", user.getNickname());
+
+        int count = 0;
+        try (Stream<Schedule> schedules = scheduleRepository.streamByUser(user)) {
+            Iterator<Schedule> it = schedules.iterator();
+            while (it.hasNext()) {
+                Schedule schedule = it.next();
+                sink.accept(ScheduleResponse.from(schedule));
+                entityManager.detach(schedule);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 목록 조회 ETag용 사용자 일정 버전 (일정 조회 없음, 실패 시 null)
+    public String getScheduleVersion(User user) {
+        return versionStore.current(user.getId());
+    }
+
+    // 특정 날짜 범위 스케줄 조회 (includeDescription=false면 월 캐시/description 없는 프로젝션으로 조회)
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회 (리포지토리 호출마다 읽기 트랜잭션)
+    // 반복 일정은 원본 대신 범위 안의 회차로 펼쳐서 포함
+    // version: 응답 ETag를 만든 일정 버전 (다른 버전에서 캐시된 목록은 쓰지 않음, null이면 확인 없음)
+    public List<ScheduleResponse> getSchedulesByDateRange(User user, LocalDate startDate, LocalDate endDate,
+                                                          boolean includeDescription, String version) {
         log.debug("날짜 범위 스케줄 조회 요청 - 사용자: {}, 기간: {} ~ {}", user.getNickname(), startDate, endDate);
 
+        if (!includeDescription) {
+            if (ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(endDate)) < MAX_CACHED_MONTHS) {
+                return cachedRange(user, startDate, endDate, version);
+            }
+            List<ScheduleResponse> schedules = scheduleRepository.findSummariesByUserAndDateRange(user, startDate, endDate).stream()
+                    .filter(summary -> !Boolean.TRUE.equals(summary.getRecurring()))
+                    .map(ScheduleResponse::from)
+                    .collect(Collectors.toList());
+            return withOccurrences(user, schedules, startDate, endDate, false, version);
+        }
         List<Schedule> schedules = scheduleRepository.findByUserAndDateRange(user, startDate, endDate);
-        return schedules.stream()
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+        return withOccurrences(user, singles(schedules), startDate, endDate, true, version);
     }
 
-    // 특정 날짜 스케줄 조회
+    // 월간 그리드 요약 조회: DB에서 (날짜, 색상)별로 집계한 행을 날짜별로 합침 (일정이 없는 날짜는 제외)
     @Transactional(readOnly = true)
-    public List<ScheduleResponse> getSchedulesByDate(User user, LocalDate date) {
+    public List<ScheduleDaySummaryResponse> getDaySummaries(User user, LocalDate startDate, LocalDate endDate, String version) {
+        log.debug("월간 요약 조회 요청 - 사용자: {}, 기간: {} ~ {}", user.getNickname(), startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+
+        // 날짜순으로 (날짜, 색상)별 집계 행과 반복 회차를 날짜별로 합침
+        Map<LocalDate, DaySummary> days = new TreeMap<>();
+        for (ScheduleDayColorCount row : scheduleRepository.countByUserAndDateRangeGroupByDayAndColor(user, startDate, endDate)) {
+            days.computeIfAbsent(row.getScheduleDate(), date -> new DaySummary())
+                    .add(row.getCount(), row.getEarliestStartTime(), row.getColor());
+        }
+        for (ScheduleResponse occurrence : ScheduleSeriesService.expand(series(user, version), startDate, endDate, false)) {
+            days.computeIfAbsent(occurrence.getScheduleDate(), date -> new DaySummary())
+                    .add(1, occurrence.getStartTime(), occurrence.getColor());
+        }
+        List<ScheduleDaySummaryResponse> result = new ArrayList<>(days.size());
+        days.forEach((date, day) -> result.add(new ScheduleDaySummaryResponse(date, day.count, day.earliest, day.colors)));
+        return result;
+    }
+
+    // 월간 요약 날짜 하나의 집계 (색상 미지정 일정은 개수에만 포함 - 클라이언트 기본 색상)
+    private static final class DaySummary {
+        private long count;
+        private LocalTime earliest;
+        private final List<String> colors = new ArrayList<>();
+
+        void add(long count, LocalTime start, String color) {
+            this.count += count;
+            if (start != null && (earliest == null || start.isBefore(earliest))) {
+                earliest = start;
+            }
+            if (color != null && !colors.contains(color)) {
+                colors.add(color);
+            }
+        }
+    }
+
+    // 특정 날짜 스케줄 조회 (includeDescription=false면 월 캐시에서 해당 날짜만)
+    public List<ScheduleResponse> getSchedulesByDate(User user, LocalDate date, boolean includeDescription, String version) {
         log.debug("특정 날짜 스케줄 조회 요청 - 사용자: {}, 날짜: {}", user.getNickname(), date);
 
+        if (!includeDescription) {
+            return cachedRange(user, date, date, version);
+        }
         List<Schedule> schedules = scheduleRepository.findByUserAndDate(user, date);
-        return schedules.stream()
-                .map(ScheduleResponse::from)
-                .collect(Collectors.toList());
+        return withOccurrences(user, singles(schedules), date, date, true, version);
     }
 
-    // 오늘의 스케줄 조회
-    @Transactional(readOnly = true)
-    public List<ScheduleResponse> getTodaySchedules(User user) {
+    // 오늘의 스케줄 조회 (includeDescription=false면 월 캐시에서 오늘만)
+    public List<ScheduleResponse> getTodaySchedules(User user, boolean includeDescription, String version) {
         log.debug("오늘의 스케줄 조회 요청 - 사용자: {}", user.getNickname());
 
+        if (!includeDescription) {
+            LocalDate today = LocalDate.now();
+            return cachedRange(user, today, today, version);
+        }
         List<Schedule> schedules = scheduleRepository.findTodaySchedules(user);
+        LocalDate today = LocalDate.now();
+        return withOccurrences(user, singles(schedules), today, today, true, version);
+    }
+
+    // 월 캐시 목록(날짜, 시작 시간 순, 단일 일정만)을 이어 붙이고 범위 밖 날짜는 제외한 뒤 반복 회차를 합침
+    private List<ScheduleResponse> cachedRange(User user, LocalDate startDate, LocalDate endDate, String version) {
+        List<ScheduleResponse> result = new ArrayList<>();
+        YearMonth last = YearMonth.from(endDate);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(last); month = month.plusMonths(1)) {
+            YearMonth target = month;
+            List<ScheduleResponse> schedules = monthCache.getMonth(user.getId(), target, version, () ->
+                    scheduleRepository.findSummariesByUserAndDateRange(user, target.atDay(1), target.atEndOfMonth()).stream()
+                            .filter(summary -> !Boolean.TRUE.equals(summary.getRecurring()))
+                            .map(ScheduleResponse::from)
+                            .toList());
+            for (ScheduleResponse schedule : schedules) {
+                if (!schedule.getScheduleDate().isBefore(startDate) && !schedule.getScheduleDate().isAfter(endDate)) {
+                    result.add(schedule);
+                }
+            }
+        }
+        return withOccurrences(user, result, startDate, endDate, false, version);
+    }
+
+    // 사용자의 반복 일정 원본/회차 예외 (월 캐시와 같은 계층에 사용자 단위로 캐시)
+    private List<ScheduleSeries> series(User user, String version) {
+        return monthCache.getSeries(user.getId(), version, () -> seriesService.loadSeries(user));
+    }
+
+    // 날짜순 단일 일정 목록에 [startDate, endDate]의 반복 회차를 합쳐 같은 순서로 정렬 (반복 일정이 없으면 그대로)
+    private List<ScheduleResponse> withOccurrences(User user, List<ScheduleResponse> singles,
+                                                   LocalDate startDate, LocalDate endDate, boolean includeDescription,
+                                                   String version) {
+        List<ScheduleSeries> series = series(user, version);
+        if (series.isEmpty()) {
+            return singles;
+        }
+        List<ScheduleResponse> occurrences = ScheduleSeriesService.expand(series, startDate, endDate, includeDescription);
+        if (occurrences.isEmpty()) {
+            return singles;
+        }
+        List<ScheduleResponse> merged = new ArrayList<>(singles.size() + occurrences.size());
+        merged.addAll(singles);
+        merged.addAll(occurrences);
+        merged.sort(LIST_ORDER);
+        return merged;
+    }
+
+    // 날짜 조건 조회 결과에서 반복 일정 원본을 빼고 응답으로 변환 (원본은 회차로 펼쳐 따로 합침)
+    private static List<ScheduleResponse> singles(List<Schedule> schedules) {
         return schedules.stream()
+                .filter(schedule -> !schedule.isRecurring())
                 .map(ScheduleResponse::from)
                 .collect(Collectors.toList());
     }
@@ -210,6 +602,10 @@ public class ScheduleService {
         if (schedule.getStartTime() == null) {
             throw new IllegalArgumentException("시작 시간이 없는 스케줄은 트리거할 수 없습니다.");
         }
+        // 반복 일정은 reminded 대신 fire_at을 다음 회차로 옮기므로 회차 단위 수동 트리거는 없음
+        if (schedule.isRecurring()) {
+            throw new IllegalStateException("반복 일정은 수동 트리거할 수 없습니다.");
+        }
 
         LocalDateTime startDateTime = schedule.getScheduleDate().atTime(schedule.getStartTime());
         LocalDateTime now = LocalDateTime.now();
@@ -237,8 +633,12 @@ public class ScheduleService {
         boolean newEnabled = !schedule.isReminderEnabled();
         schedule.setReminderEnabled(newEnabled);
         schedule.setReminded(false);
+        if (schedule.isRecurring()) {
+            seriesService.refreshFireAt(schedule);
+        }
 
         Schedule updated = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(ScheduleUpdatedEvent.stateChanged(this, updated));
         log.debug("알림 토글 - 스케줄 ID: {}, enabled: {}", updated.getId(), newEnabled);
         return ScheduleResponse.from(updated);
     }
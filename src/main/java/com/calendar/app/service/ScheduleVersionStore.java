@@ -0,0 +1,19 @@
+package com.calendar.app.service;
+
+/**
+ * 사용자별 일정 버전 (목록 조회 ETag용)
+ * 일정이 생성/수정/삭제될 때마다 올라가므로, 버전이 같으면 목록을 다시 조회하지 않아도 된다.
+ * 버전은 재시작/만료 후에도 이전 값과 겹치지 않도록 현재 시각(ms)에서 시작한다.
+ */
+public interface ScheduleVersionStore {
+
+    /**
+     * 사용자의 현재 일정 버전 (조회 실패 시 null → ETag 없이 응답)
+     */
+    String current(String userId);
+
+    /**
+     * 사용자의 일정이 바뀜 (커밋 후 호출)
+     */
+    void bump(String userId);
+}
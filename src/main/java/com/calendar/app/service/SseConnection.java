@@ -0,0 +1,204 @@
+package com.calendar.app.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나의 송신 파이프라인
+ * 호출 스레드는 크기 제한이 있는 대기열에 프레임을 넣기만 하고, 실제 emitter.send는 writer 풀에서 연결별로 한 번에 하나씩 수행한다.
+ * 느린 클라이언트는 자기 대기열만 밀리고, 가득 차면 overflow 정책에 따라 ping을 버리거나 연결을 끊는다.
+ * ping이 아닌 프레임(알림/일정 이벤트)은 조용히 버리지 않음: 버릴 ping이 없으면 연결을 끊어 재연결(Last-Event-ID 재생)이나 outbox로 넘긴다.
+ */
+@Slf4j
+class SseConnection {
+
+    // 이미 인코딩된 SSE 프레임 (여러 연결이 같은 인스턴스를 공유해도 안전)
+    record Frame(byte[] bytes, Set<ResponseBodyEmitter.DataWithMediaType> data, boolean ping) {
+        static Frame of(byte[] bytes, boolean ping) {
+            // byte[]는 ByteArrayHttpMessageConverter가 그대로 씀 (추가 직렬화 없음)
+            return new Frame(bytes, Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM)), ping);
+        }
+
+        static Frame of(String id, String event, String data, boolean ping) {
+            return of(encode(id, event, data), ping);
+        }
+
+        // id 없이 인코딩한 프레임 앞에 id 줄을 붙인 완성 프레임 (재생 로그 id 부여용)
+        static byte[] withId(String id, byte[] body) {
+            byte[] idLine = ("id:" + id + "\n").getBytes(StandardCharsets.UTF_8);
+            byte[] framed = new byte[idLine.length + body.length];
+            System.arraycopy(idLine, 0, framed, 0, idLine.length);
+            System.arraycopy(body, 0, framed, idLine.length, body.length);
+            return framed;
+        }
+
+        // SseEmitter와 같은 와이어 포맷: "id:..\nevent:..\ndata:..\n\n" (여러 줄 data는 줄마다 data:)
+        static byte[] encode(String id, String event, String data) {
+            StringBuilder sb = new StringBuilder(data.length() + 64);
+            if (id != null) {
+                sb.append("id:").append(id).append('\n');
+            }
+            sb.append("event:").append(event).append('\n');
+            for (String line : data.split("\n", -1)) {
+                sb.append("data:").append(line).append('\n');
+            }
+            sb.append('\n');
+            return sb.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    enum OfferResult { QUEUED, COALESCED, DROPPED_PING, DISCONNECTED }
+
+    @Getter
+    private final String userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final SseOverflowPolicy policy;
+    private final Executor writer;
+    private final Consumer<SseConnection> onClosed;
+
+    private final Deque<Frame> queue = new ArrayDeque<>();
+    private int pendingPings;
+    private boolean draining;
+    private boolean closed;
+
+    SseConnection(String userId, SseEmitter emitter, int capacity, SseOverflowPolicy policy,
+                  Executor writer, Consumer<SseConnection> onClosed) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.writer = writer;
+        this.onClosed = onClosed;
+    }
+
+    /**
+     * 프레임을 대기열에 넣고 writer에 전송 예약 (블로킹 없음)
+     */
+    synchronized OfferResult offer(Frame frame) {
+        if (closed) {
+            return OfferResult.DISCONNECTED;
+        }
+        if (frame.ping() && policy == SseOverflowPolicy.COALESCE_PINGS && pendingPings > 0) {
+            return OfferResult.COALESCED;
+        }
+        OfferResult result = OfferResult.QUEUED;
+        if (queue.size() >= capacity) {
+            if (policy == SseOverflowPolicy.DISCONNECT) {
+                closeLocked(new IOException("slow consumer: backlog " + queue.size()));
+                return OfferResult.DISCONNECTED;
+            }
+            if (!dropPendingPing()) {
+                if (!frame.ping()) {
+                    // 대기열이 모두 이벤트: 버리면 유실되므로 느린 소비자로 보고 종료 (재연결 재생/outbox가 다시 전달)
+                    closeLocked(new IOException("slow consumer: backlog " + queue.size() + " events"));
+                    return OfferResult.DISCONNECTED;
+                }
+                return OfferResult.DROPPED_PING; // 새 ping을 버림
+            }
+            result = OfferResult.DROPPED_PING;
+        }
+        queue.addLast(frame);
+        if (frame.ping()) {
+            pendingPings++;
+        }
+        if (!draining) {
+            draining = true;
+            writer.execute(this::drain);
+        }
+        return result;
+    }
+
+    synchronized int backlog() {
+        return queue.size();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 연결 종료 (대기열 폐기, emitter 완료는 writer 풀에서 수행)
+     * cause가 null이면 emitter가 이미 끝난 경우(완료/타임아웃/에러 콜백)로 보고 상태만 정리
+     */
+    synchronized void close(Throwable cause) {
+        closeLocked(cause);
+    }
+
+    // writer 풀에서 실행: 대기열이 빌 때까지 순서대로 전송
+    private void drain() {
+        while (true) {
+            Frame frame;
+            synchronized (this) {
+                frame = queue.pollFirst();
+                if (frame == null || closed) {
+                    draining = false;
+                    return;
+                }
+                remove(frame);
+            }
+            try {
+                emitter.send(frame.data());
+            } catch (Exception e) {
+                log.debug("[SSE] send fail(remove) user={} error={}", userId, e.getMessage());
+                close(e);
+                return;
+            }
+        }
+    }
+
+    private void closeLocked(Throwable cause) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        pendingPings = 0;
+        onClosed.accept(this);
+        if (cause == null) {
+            return;
+        }
+        // 전송 중인 writer가 emitter 모니터를 잡고 있을 수 있으므로 호출 스레드에서 완료 처리하지 않음
+        writer.execute(() -> {
+            try {
+                emitter.completeWithError(cause);
+            } catch (Exception ignored) { }
+        });
+    }
+
+    // 가장 오래된 대기 ping 하나를 버림, 없으면 false
+    private boolean dropPendingPing() {
+        if (pendingPings == 0) {
+            return false;
+        }
+        Iterator<Frame> it = queue.iterator();
+        while (it.hasNext()) {
+            Frame frame = it.next();
+            if (frame.ping()) {
+                it.remove();
+                pendingPings--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remove(Frame frame) {
+        if (frame != null && frame.ping()) {
+            pendingPings--;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.notification.SseMessage;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 SSE 이벤트 전달 경로
+ * 사용자 emitter를 가진 노드를 기록(presence)해 두고, 다른 노드에서 만든 이벤트를 그 노드들로만 전달한다.
+ */
+public interface SseDeliveryBus {
+
+    /**
+     * 이 노드에 사용자의 첫 emitter가 연결됨
+     */
+    void join(String userId);
+
+    /**
+     * 이 노드에서 사용자의 마지막 emitter가 끊김
+     */
+    void leave(String userId);
+
+    /**
+     * 사용자 emitter를 가진 다른 노드로 메시지 전달
+     * @return 메시지를 받은 노드 수 (이 노드 제외)
+     */
+    int route(SseMessage message);
+
+    /**
+     * 다른 노드에서 전달된 메시지를 처리할 핸들러 등록
+     */
+    void setHandler(Consumer<SseMessage> handler);
+}
@@ -0,0 +1,94 @@
+package com.calendar.app.service;
+
+import com.calendar.app.entity.Schedule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 알림 SSE 프레임 캐시
+ * 일정 알림 이벤트를 한 번만 직렬화해 바이트 프레임으로 보관하고, 같은 일정(scheduleId + updatedAt + fireAt)의 재전송/재생은 캐시된 프레임을 그대로 사용한다.
+ * 일정이 수정되면 updatedAt이 바뀌므로 이전 프레임은 조회되지 않고 LRU로 밀려난다.
+ * 이벤트 id는 전송할 때마다 재생 로그가 부여하므로 프레임에는 event/data만 담는다.
+ */
+class SseFrameCache {
+
+    static final String REMINDER_EVENT = "schedule-reminder";
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, SseConnection.Frame> frames;
+
+    SseFrameCache(ObjectMapper objectMapper, int maxSize) {
+        this.objectMapper = objectMapper;
+        // accessOrder=true: 조회할 때마다 최근 항목으로 이동, 가장 오래 쓰지 않은 항목부터 제거
+        this.frames = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SseConnection.Frame> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 일정 알림 프레임 (캐시에 없을 때만 직렬화)
+     */
+    SseConnection.Frame reminderFrame(Schedule schedule) {
+        // 반복 일정은 회차마다 fire_at만 바뀌므로 키에 포함
+        String key = schedule.getId() + ":" + schedule.getUpdatedAt() + ":" + schedule.getFireAt();
+        synchronized (frames) {
+            SseConnection.Frame cached = frames.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        SseConnection.Frame frame = SseConnection.Frame.of(null, REMINDER_EVENT, toJson(reminderPayload(schedule)), false);
+        synchronized (frames) {
+            frames.putIfAbsent(key, frame);
+            return frames.get(key);
+        }
+    }
+
+    String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    int size() {
+        synchronized (frames) {
+            return frames.size();
+        }
+    }
+
+    private static Map<String, Object> reminderPayload(Schedule schedule) {
+        // description 등은 null일 수 있어 Map.of 대신 사용
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("scheduleId", schedule.getId());
+        payload.put("title", schedule.getTitle());
+        payload.put("description", schedule.getDescription());
+        if (schedule.isRecurring() && schedule.getFireAt() != null) {
+            // 반복 일정: 원본 날짜(첫 회차) 대신 알림 대상 회차의 시작 시각 (fire_at + reminderMinutes)
+            int minutesBefore = schedule.getReminderMinutes() != null ? Math.max(schedule.getReminderMinutes(), 0) : 0;
+            LocalDateTime start = schedule.getFireAt().plusMinutes(minutesBefore);
+            payload.put("scheduleDate", start.toLocalDate());
+            payload.put("startTime", start.toLocalTime());
+        } else {
+            payload.put("scheduleDate", schedule.getScheduleDate());
+            payload.put("startTime", schedule.getStartTime());
+        }
+        return payload;
+    }
+}
+
+/*
+    * SseFrameCache.java
+    * 알림 이벤트를 "event/data" 바이트 프레임으로 한 번만 인코딩하고 LRU(기본 1024개)로 보관
+    * 같은 프레임 인스턴스를 사용자의 모든 탭과 다른 노드 전달에 그대로 사용 → 전송마다 Jackson 직렬화 없음
+    * 키: scheduleId + updatedAt + fireAt (일정 수정 시 자연히 새 프레임, 반복 일정은 회차마다 새 프레임)
+    * 본문에서 description과 중복이던 message 필드는 제거
+ */
@@ -0,0 +1,140 @@
+package com.calendar.app.service;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * SSE 하트비트 분산 스케줄러
+ * 하트비트 주기를 tick 단위 슬롯으로 나누고, 연결마다 무작위 슬롯(위상)을 배정해 한 주기에 한 번씩 ping을 보낸다.
+ * - 연결은 shard에 순서대로 배정되고, shard마다 전용 스레드가 tick마다 자기 슬롯 하나만 처리 → 한 tick의 작업량은 연결 수 / (슬롯 수 × shard 수)
+ * - ping 프레임은 한 번만 직렬화해 모든 연결이 공유
+ * - 닫힌 연결은 자기 슬롯 차례에 제거 (별도 해제 호출 없음)
+ * - ping 실패는 연결 단위로 처리 (같은 슬롯의 다른 연결은 계속 ping)
+ */
+@Slf4j
+class SseHeartbeatWheel {
+
+    // 모든 연결이 공유하는 직렬화된 ping 프레임
+    static final SseConnection.Frame PING = SseConnection.Frame.of(null, "ping", "ok", true);
+
+    private final long tickMs;
+    private final int slotCount;
+    private final Shard[] shards;
+    private final Consumer<SseConnection> pinger;
+    private final Timer tickTimer;
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private ScheduledExecutorService executor;
+
+    SseHeartbeatWheel(long intervalMs, long tickMs, int shardCount, Consumer<SseConnection> pinger, Timer tickTimer) {
+        if (tickMs <= 0 || intervalMs < tickMs || shardCount < 1) {
+            throw new IllegalArgumentException("잘못된 하트비트 설정입니다: intervalMs=" + intervalMs
+                    + ", tickMs=" + tickMs + ", shardCount=" + shardCount);
+        }
+        this.tickMs = tickMs;
+        this.slotCount = (int) (intervalMs / tickMs);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(slotCount);
+        }
+        this.pinger = pinger;
+        this.tickTimer = tickTimer;
+    }
+
+    synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        AtomicInteger threadSeq = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(shards.length, r -> {
+            Thread thread = new Thread(r, "sse-heartbeat-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int shard = 0; shard < shards.length; shard++) {
+            int target = shard;
+            // shard끼리도 tick 안에서 시작 시점을 엇갈리게 함
+            long initialDelay = tickMs * shard / shards.length;
+            executor.scheduleAtFixedRate(() -> tick(target), initialDelay, tickMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    void register(SseConnection connection) {
+        Shard shard = shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)];
+        shard.slots[ThreadLocalRandom.current().nextInt(slotCount)].add(connection);
+    }
+
+    int shardCount() {
+        return shards.length;
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * shard의 현재 슬롯에 있는 연결에 ping을 보내고 다음 슬롯으로 이동 (shard마다 한 스레드에서만 호출)
+     */
+    void tick(int shardIndex) {
+        long startTime = System.nanoTime();
+        Shard shard = shards[shardIndex];
+        Set<SseConnection> slot = shard.slots[shard.cursor];
+        shard.cursor = (shard.cursor + 1) % slotCount;
+        try {
+            Iterator<SseConnection> it = slot.iterator();
+            while (it.hasNext()) {
+                SseConnection connection = it.next();
+                if (connection.isClosed()) {
+                    it.remove();
+                    continue;
+                }
+                // 한 연결의 실패가 같은 슬롯의 나머지 연결 ping을 건너뛰게 하지 않음
+                try {
+                    pinger.accept(connection);
+                } catch (Exception e) {
+                    log.warn("[SSE] heartbeat ping fail shard={} userId={} error={}",
+                            shardIndex, connection.getUserId(), e.getMessage());
+                }
+            }
+        } finally {
+            tickTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class Shard {
+        private final Set<SseConnection>[] slots;
+        private int cursor;
+
+        @SuppressWarnings("unchecked")
+        private Shard(int slotCount) {
+            slots = new Set[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                slots[i] = ConcurrentHashMap.newKeySet();
+            }
+        }
+    }
+}
+
+/*
+    * SseHeartbeatWheel.java
+    * 15초 하트비트를 tick(기본 250ms) 슬롯 60개로 나눠 연결마다 무작위 위상으로 분산
+    * shard(기본 2개) 스레드가 각자 맡은 연결만 tick마다 한 슬롯씩 처리 → 한 번에 전체 연결을 순회하던 버스트 제거
+    * ping은 대기열에 넣기만 하므로(SseConnection) 느린 연결이 tick을 지연시키지 않음
+    * 메트릭: sse.heartbeat.tick (shard별 tick 처리 시간)
+ */
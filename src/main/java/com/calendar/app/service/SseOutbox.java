@@ -0,0 +1,26 @@
+package com.calendar.app.service;
+
+import java.util.List;
+
+/**
+ * 오프라인 사용자용 알림 보관함
+ * 어느 노드에도 연결이 없을 때 완성된 이벤트 프레임을 보관했다가, 사용자가 구독하면 한 번에 꺼내 전송한다.
+ * 보관된 프레임은 TTL이 지나면 전달하지 않는다.
+ */
+public interface SseOutbox {
+
+    /**
+     * 프레임 보관 (실패 시 false → 호출자가 reminded를 올리지 않아 다음 주기에 재시도)
+     */
+    boolean put(String userId, byte[] frame);
+
+    /**
+     * 보관된 프레임을 모두 꺼내고 비움 (오래된 순, 만료된 프레임 제외)
+     */
+    List<byte[]> drain(String userId);
+
+    /**
+     * 재시작/재배포 후에도 보관 프레임이 남는지 (false면 보관해도 호출자가 reminded를 올리지 않음)
+     */
+    boolean durable();
+}
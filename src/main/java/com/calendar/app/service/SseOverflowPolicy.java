@@ -0,0 +1,12 @@
+package com.calendar.app.service;
+
+// SSE 연결별 송신 대기열이 가득 찼을 때의 처리 방식 (sse.outbound.overflow-policy)
+// ping이 아닌 프레임은 어느 정책에서도 버리지 않음: 버릴 ping이 없으면 연결 종료 (재연결 재생/outbox로 다시 전달)
+public enum SseOverflowPolicy {
+    // 가장 오래된 대기 ping을 버리고 새 프레임 추가 (새 프레임이 ping이면 그 ping을 버림)
+    DROP_OLDEST,
+    // DROP_OLDEST에 더해 대기 중인 ping이 있으면 새 ping은 합침
+    COALESCE_PINGS,
+    // 느린 소비자로 보고 연결 종료 (클라이언트가 재연결)
+    DISCONNECT
+}
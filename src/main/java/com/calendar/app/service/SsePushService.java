@@ -1,17 +1,37 @@
 package com.calendar.app.service;
 
+import com.calendar.app.dto.notification.SseMessage;
 import com.calendar.app.entity.Schedule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ConcurrentHashMap;
-import org.springframework.scheduling.annotation.Scheduled;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -19,156 +39,384 @@ public class SsePushService {
 
     // EC2 환경에서 프록시/로드밸런서 타임아웃을 고려하여 1시간으로 단축
     private static final long DEFAULT_TIMEOUT_MS = Duration.ofHours(1).toMillis();
-    
+
     // 하트비트 주기를 15초로 단축하여 연결 유지
     private static final long HEARTBEAT_INTERVAL_MS = 15000;
+    // 하트비트 슬롯 간격: 주기를 60개 슬롯으로 나눠 연결별로 분산
+    private static final long HEARTBEAT_TICK_MS = 250;
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final int DEFAULT_WRITER_THREADS = 4;
+    private static final int DEFAULT_HEARTBEAT_SHARDS = 2;
+    private static final int DEFAULT_FRAME_CACHE_SIZE = 1024;
+    private static final int DEFAULT_REPLAY_CAPACITY = 50;
+    private static final int DEFAULT_OUTBOX_CAPACITY = 100;
+    private static final long DEFAULT_OUTBOX_TTL_MS = Duration.ofDays(1).toMillis();
+
+    // 연결 직후 보내는 프레임 (모든 연결이 공유)
+    private static final SseConnection.Frame CONNECTED = SseConnection.Frame.of(null, "connected", "ok", false);
+
+    // 사용자별 SSE 연결 관리: 다중 탭 지원 (연결이 모두 끊기면 항목 제거)
+    private final Map<String, List<SseConnection>> userIdToConnections = new ConcurrentHashMap<>();
+
+    // 다른 노드에 연결된 사용자에게 전달하는 경로 (단일 노드면 LocalSseDeliveryBus)
+    private final SseDeliveryBus deliveryBus;
+
+    // 연결별 대기열을 비우는 writer 풀 (느린 연결이 호출 스레드와 다른 연결을 막지 않도록)
+    private final ExecutorService writerPool;
+    private final int queueCapacity;
+    private final SseOverflowPolicy overflowPolicy;
+
+    // 연결별 무작위 위상으로 ping을 분산하는 하트비트 스케줄러
+    private final SseHeartbeatWheel heartbeatWheel;
+
+    // 알림 이벤트를 한 번만 인코딩해 모든 탭/노드에 재사용
+    private final SseFrameCache frameCache;
+
+    // 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내기 위한 사용자별 이벤트 기록
+    private final SseReplayLog replayLog;
+
+    // 어느 노드에도 연결이 없는 사용자의 알림 보관함 (구독 시 전달)
+    private final SseOutbox outbox;
+
+    private final DistributionSummary backlogSummary;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter disconnectedCounter;
+    private final Counter replayedCounter;
+    private final Counter outboxStoredCounter;
+    private final Counter outboxDrainedCounter;
+
+    public SsePushService() {
+        this(new LocalSseDeliveryBus());
+    }
+
+    public SsePushService(SseDeliveryBus deliveryBus) {
+        this(deliveryBus, new InMemorySseReplayLog(DEFAULT_REPLAY_CAPACITY, DEFAULT_TIMEOUT_MS),
+                new InMemorySseOutbox(DEFAULT_OUTBOX_CAPACITY, DEFAULT_OUTBOX_TTL_MS));
+    }
+
+    public SsePushService(SseDeliveryBus deliveryBus, SseReplayLog replayLog, SseOutbox outbox) {
+        this(deliveryBus, replayLog, outbox, new SimpleMeterRegistry(),
+                JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+                DEFAULT_QUEUE_CAPACITY, SseOverflowPolicy.COALESCE_PINGS, DEFAULT_WRITER_THREADS,
+                DEFAULT_HEARTBEAT_SHARDS, DEFAULT_FRAME_CACHE_SIZE);
+    }
+
+    @Autowired
+    public SsePushService(SseDeliveryBus deliveryBus,
+                          SseReplayLog replayLog,
+                          SseOutbox outbox,
+                          MeterRegistry meterRegistry,
+                          ObjectMapper objectMapper,
+                          @Value("${sse.outbound.queue-capacity:64}") int queueCapacity,
+                          @Value("${sse.outbound.overflow-policy:COALESCE_PINGS}") SseOverflowPolicy overflowPolicy,
+                          @Value("${sse.outbound.writer-threads:4}") int writerThreads,
+                          @Value("${sse.heartbeat.shards:2}") int heartbeatShards,
+                          @Value("${sse.frame-cache.size:1024}") int frameCacheSize) {
+        this.deliveryBus = deliveryBus;
+        this.replayLog = replayLog;
+        this.outbox = outbox;
+        this.frameCache = new SseFrameCache(objectMapper, frameCacheSize);
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        AtomicInteger writerSeq = new AtomicInteger();
+        this.writerPool = Executors.newFixedThreadPool(writerThreads, r -> {
+            Thread thread = new Thread(r, "sse-writer-" + writerSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.backlogSummary = DistributionSummary.builder("sse.outbound.backlog")
+                .description("프레임 추가 시점의 연결별 송신 대기 프레임 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.outbound.dropped")
+                .description("대기열 초과로 버린 프레임 수 (ping, 또는 연결 종료로 전달하지 못한 이벤트)")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("sse.outbound.coalesced")
+                .description("대기 중인 ping과 합쳐진 ping 수")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("sse.outbound.disconnected")
+                .description("느린 소비자로 끊은 연결 수")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("sse.replay.resent")
+                .description("재연결 시 Last-Event-ID 이후로 다시 보낸 이벤트 수")
+                .register(meterRegistry);
+        this.outboxStoredCounter = Counter.builder("sse.outbox.stored")
+                .description("구독자가 없어 보관함에 넣은 알림 수")
+                .register(meterRegistry);
+        this.outboxDrainedCounter = Counter.builder("sse.outbox.drained")
+                .description("구독 시 보관함에서 꺼내 보낸 알림 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("sse.outbound.backlog.total", userIdToConnections,
+                map -> map.values().stream().flatMap(List::stream).mapToInt(SseConnection::backlog).sum());
+
+        Timer heartbeatTickTimer = Timer.builder("sse.heartbeat.tick")
+                .description("하트비트 shard 한 tick 처리 시간")
+                .register(meterRegistry);
+        this.heartbeatWheel = new SseHeartbeatWheel(HEARTBEAT_INTERVAL_MS, HEARTBEAT_TICK_MS, heartbeatShards,
+                connection -> enqueue(connection, SseHeartbeatWheel.PING), heartbeatTickTimer);
+        this.heartbeatWheel.start();
 
-    // 사용자별 SSE 연결 관리: 다중 탭 지원
-    private final Map<String, List<SseEmitter>> userIdToEmitters = new ConcurrentHashMap<>();
+        deliveryBus.setHandler(this::deliverRouted);
+    }
 
     public SseEmitter subscribe(String userId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT_MS);
-        userIdToEmitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
-        List<SseEmitter> listAfterSub = userIdToEmitters.get(userId);
-        if (listAfterSub != null) {
-            log.info("[SSE] sub user={} size={}", userId, listAfterSub.size());
+        return subscribe(userId, null);
+    }
+
+    /**
+     * 구독 (lastEventId가 있으면 그 이후 이벤트를 재생 로그에서 다시 전송)
+     */
+    public SseEmitter subscribe(String userId, String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity, overflowPolicy,
+                writerPool, this::removeConnection);
+        AtomicBoolean firstOnNode = new AtomicBoolean();
+        List<SseConnection> listAfterSub = userIdToConnections.compute(userId, (k, list) -> {
+            if (list == null) {
+                list = new CopyOnWriteArrayList<>();
+                firstOnNode.set(true);
+            }
+            list.add(connection);
+            return list;
+        });
+        if (firstOnNode.get()) {
+            // 이 노드의 첫 연결: 다른 노드가 이 노드로 전달하도록 presence 등록 (Redis 호출은 맵 잠금 밖에서)
+            deliveryBus.join(userId);
         }
-        
+        log.info("[SSE] sub user={} size={}", userId, listAfterSub.size());
+        heartbeatWheel.register(connection);
+
         // 연결 완료 시 정리
         emitter.onCompletion(() -> {
-            List<SseEmitter> list = userIdToEmitters.get(userId);
-            if (list != null) {
-                list.remove(emitter);
-                log.debug("[SSE] unsub(completion) user={} size={}", userId, list.size());
-            }
+            connection.close(null);
+            log.debug("[SSE] unsub(completion) user={}", userId);
         });
-        
+
         // 타임아웃 시 정리
         emitter.onTimeout(() -> {
-            List<SseEmitter> list = userIdToEmitters.get(userId);
-            if (list != null) {
-                list.remove(emitter);
-                log.debug("[SSE] unsub(timeout) user={} size={}", userId, list.size());
-            }
+            connection.close(null);
+            log.debug("[SSE] unsub(timeout) user={}", userId);
         });
-        
+
         // 에러 발생 시 정리
         emitter.onError((ex) -> {
-            List<SseEmitter> list = userIdToEmitters.get(userId);
-            if (list != null) {
-                list.remove(emitter);
-                log.warn("[SSE] unsub(error) user={} error={}", userId, ex.getMessage());
-            }
+            connection.close(null);
+            log.warn("[SSE] unsub(error) user={} error={}", userId, ex.getMessage());
         });
-        
-        try {
-            emitter.send(SseEmitter.event().name("connected").data("ok"));
-        } catch (IOException ignored) { }
+
+        enqueue(connection, CONNECTED);
+        // 재생 로그와 보관함에 같은 프레임이 있을 수 있어 내용 기준으로 한 번만 전송
+        Set<ByteBuffer> sent = new HashSet<>();
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            // 연결 등록 후 조회하므로 그 사이 실시간으로 들어온 이벤트가 한 번 더 갈 수는 있어도 빠지지는 않음
+            List<byte[]> missed = replayLog.since(userId, lastEventId);
+            for (byte[] frame : missed) {
+                sent.add(ByteBuffer.wrap(frame));
+                enqueue(connection, SseConnection.Frame.of(frame, false));
+            }
+            replayedCounter.increment(missed.size());
+            log.info("[SSE] replay user={} lastEventId={} count={}", userId, lastEventId, missed.size());
+        }
+        List<byte[]> stored = outbox.drain(userId);
+        for (byte[] frame : stored) {
+            if (sent.add(ByteBuffer.wrap(frame))) {
+                enqueue(connection, SseConnection.Frame.of(frame, false));
+            }
+        }
+        if (!stored.isEmpty()) {
+            outboxDrainedCounter.increment(stored.size());
+            log.info("[SSE] outbox drained user={} count={}", userId, stored.size());
+        }
         return emitter;
     }
 
+    // 연결마다 새 emitter (테스트에서 전송 프레임을 확인할 수 있도록 분리)
+    SseEmitter createEmitter() {
+        return new SseEmitter(DEFAULT_TIMEOUT_MS);
+    }
+
     public boolean pushScheduleReminder(Schedule schedule) {
+        return sendReminder(schedule, false);
+    }
+
+    /**
+     * 알림 전송, 어느 노드에도 연결이 없으면 보관함에 넣어 다음 구독 때 전달
+     * @return 전송되었거나 durable 보관함(redis)에 보관되면 true (호출자는 reminded 처리)
+     *         메모리 보관함은 재시작 시 사라지므로 보관해도 false (reminded를 남겨 재시작 후 따라잡기에서 다시 발송)
+     */
+    public boolean pushOrStoreScheduleReminder(Schedule schedule) {
+        return sendReminder(schedule, true);
+    }
+
+    private boolean sendReminder(Schedule schedule, boolean storeIfOffline) {
         String userId = schedule.getUser().getId();
-        List<SseEmitter> emitters = userIdToEmitters.get(userId);
-        if (emitters == null || emitters.isEmpty()) {
-            log.debug("SSE 미구독 userId={}", userId);
-            return false;
+        SseConnection.Frame body = frameCache.reminderFrame(schedule);
+        // 재생 로그가 부여한 id를 붙여 전송 (기록 실패 시 id 없이 전송)
+        String eventId = replayLog.append(userId, body.bytes());
+        SseConnection.Frame frame = eventId != null
+                ? SseConnection.Frame.of(SseConnection.Frame.withId(eventId, body.bytes()), false)
+                : body;
+
+        SseMessage message = SseMessage.builder()
+                .userId(userId)
+                .event(SseFrameCache.REMINDER_EVENT)
+                .id(eventId)
+                .frame(frame.bytes())
+                .build();
+        log.info("[SSE] send event={} user={} scheduleId={}", SseFrameCache.REMINDER_EVENT, userId, schedule.getId());
+
+        boolean deliveredLocally = sendLocal(userId, frame);
+        int remoteNodes = deliveryBus.route(message);
+        if (deliveredLocally || remoteNodes > 0) {
+            return true;
         }
-        boolean deliveredToAtLeastOne = false;
-        int fanout = emitters.size();
-        Map<String, Object> payload = Map.of(
-                "scheduleId", schedule.getId(),
-                "title", schedule.getTitle(),
-                "description", schedule.getDescription(),
-                "message", schedule.getDescription(),
-                "scheduleDate", schedule.getScheduleDate(),
-                "startTime", schedule.getStartTime()
-        );
-        log.info("[SSE] send event=schedule-reminder user={} fanout={} payload={}", userId, fanout, payload);
-        
-        // 안전한 반복을 위해 복사본 사용
-        List<SseEmitter> emittersCopy = new CopyOnWriteArrayList<>(emitters);
-        for (SseEmitter emitter : emittersCopy) {
-            try {
-                emitter.send(SseEmitter.event()
-                    .name("schedule-reminder")
-                    .id(schedule.getId())
-                    .data(payload));
-                deliveredToAtLeastOne = true;
-            } catch (IOException e) {
-                log.warn("[SSE] send fail(remove) user={} error={}", userId, e.getMessage());
-                try { 
-                    emitter.completeWithError(e); 
-                } catch (Exception ignored) {}
-                emitters.remove(emitter);
-            }
+        log.debug("[SSE] no active client user={}", userId);
+        if (!storeIfOffline) {
+            return false;
         }
-        if (!deliveredToAtLeastOne) {
-            log.debug("[SSE] no active client user={} fanout={}", userId, fanout);
+        boolean stored = outbox.put(userId, frame.bytes());
+        if (stored) {
+            outboxStoredCounter.increment();
+            log.info("[SSE] outbox stored user={} scheduleId={} durable={}", userId, schedule.getId(), outbox.durable());
         }
-        return deliveredToAtLeastOne;
-        
+        return stored && outbox.durable();
     }
 
     public void pushTestEvent(String userId, String message) {
-        List<SseEmitter> emitters = userIdToEmitters.get(userId);
-        if (emitters == null || emitters.isEmpty()) {
-            log.debug("SSE 미구독 userId={}", userId);
+        SseMessage testMessage = SseMessage.builder()
+                .userId(userId)
+                .event("test")
+                .frame(SseConnection.Frame.encode(null, "test", frameCache.toJson(Map.of(
+                        "message", message != null ? message : "test",
+                        "ts", System.currentTimeMillis()
+                ))))
+                .build();
+        sendLocal(userId, SseConnection.Frame.of(testMessage.getFrame(), false));
+        deliveryBus.route(testMessage);
+    }
+
+    // 연결 상태 모니터링
+    public Map<String, Object> getConnectionStats() {
+        Map<String, Object> stats = new ConcurrentHashMap<>();
+        stats.put("totalUsers", userIdToConnections.size());
+        stats.put("totalConnections", userIdToConnections.values().stream()
+                .mapToInt(List::size)
+                .sum());
+
+        // 연결별 송신 대기 현황: 가장 밀린 연결 상위 5개
+        List<Map<String, Object>> slowest = new ArrayList<>();
+        userIdToConnections.values().stream()
+                .flatMap(List::stream)
+                .filter(connection -> connection.backlog() > 0)
+                .sorted(Comparator.comparingInt(SseConnection::backlog).reversed())
+                .limit(5)
+                .forEach(connection -> {
+                    Map<String, Object> entry = new HashMap<>();
+                    entry.put("userId", connection.getUserId());
+                    entry.put("backlog", connection.backlog());
+                    slowest.add(entry);
+                });
+        stats.put("slowestConnections", slowest);
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("droppedFrames", (long) droppedCounter.count());
+        stats.put("slowConsumerDisconnects", (long) disconnectedCounter.count());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatWheel.stop();
+        writerPool.shutdown();
+    }
+
+    // 다른 노드에서 전달된 이벤트를 이 노드의 emitter로 전송
+    private void deliverRouted(SseMessage message) {
+        if (!userIdToConnections.containsKey(message.getUserId())) {
+            // presence가 남아 있었을 뿐 연결이 없음: 다음부터 이 노드로 보내지 않도록 정리
+            deliveryBus.leave(message.getUserId());
             return;
         }
-        
-        // 안전한 반복을 위해 복사본 사용
-        List<SseEmitter> emittersCopy = new CopyOnWriteArrayList<>(emitters);
-        for (SseEmitter emitter : emittersCopy) {
-            try {
-                emitter.send(SseEmitter.event()
-                    .name("test")
-                    .data(Map.of(
-                            "message", message != null ? message : "test",
-                            "ts", System.currentTimeMillis()
-                    )));
-            } catch (IOException e) {
-                log.warn("SSE 전송 실패(개별), emitter 제거 userId={} error={}", userId, e.getMessage());
-                try { 
-                    emitter.completeWithError(e); 
-                } catch (Exception ignored) {}
-                emitters.remove(emitter);
+        sendLocal(message.getUserId(), SseConnection.Frame.of(message.getFrame(), false));
+    }
+
+    // 이 노드에 연결된 사용자의 모든 탭 대기열에 같은 프레임 추가, 한 곳이라도 들어가면 true
+    private boolean sendLocal(String userId, SseConnection.Frame frame) {
+        List<SseConnection> connections = userIdToConnections.get(userId);
+        if (connections == null || connections.isEmpty()) {
+            log.debug("SSE 미구독 userId={}", userId);
+            return false;
+        }
+
+        boolean queuedToAtLeastOne = false;
+        for (SseConnection connection : connections) {
+            if (enqueue(connection, frame)) {
+                queuedToAtLeastOne = true;
             }
         }
+        return queuedToAtLeastOne;
     }
 
-    // 주기적 하트비트로 프록시/브라우저 유휴 타임아웃 방지 및 끊긴 연결 정리
-    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MS)
-    public void heartbeat() {
-        for (Map.Entry<String, List<SseEmitter>> entry : userIdToEmitters.entrySet()) {
-            String userId = entry.getKey();
-            List<SseEmitter> emitters = entry.getValue();
-            if (emitters == null || emitters.isEmpty()) continue;
-            
-            // 안전한 반복을 위해 복사본 사용
-            List<SseEmitter> emittersCopy = new CopyOnWriteArrayList<>(emitters);
-            for (SseEmitter emitter : emittersCopy) {
-                try {
-                    emitter.send(SseEmitter.event().name("ping").data("ok"));
-                } catch (IOException e) {
-                    log.debug("SSE 하트비트 실패, emitter 제거 userId={} error={}", userId, e.getMessage());
-                    try { 
-                        emitter.completeWithError(e); 
-                    } catch (Exception ignored) {}
-                    emitters.remove(emitter);
+    private boolean enqueue(SseConnection connection, SseConnection.Frame frame) {
+        SseConnection.OfferResult result = connection.offer(frame);
+        switch (result) {
+            case COALESCED -> coalescedCounter.increment();
+            case DROPPED_PING -> droppedCounter.increment();
+            case DISCONNECTED -> {
+                if (!frame.ping()) {
+                    droppedCounter.increment();
                 }
+                log.debug("[SSE] slow consumer or closed connection user={}", connection.getUserId());
             }
+            default -> { }
         }
+        if (result == SseConnection.OfferResult.DISCONNECTED) {
+            return false;
+        }
+        backlogSummary.record(connection.backlog());
+        return true;
     }
-    
-    // 연결 상태 모니터링
-    public Map<String, Object> getConnectionStats() {
-        Map<String, Object> stats = new ConcurrentHashMap<>();
-        stats.put("totalUsers", userIdToEmitters.size());
-        stats.put("totalConnections", userIdToEmitters.values().stream()
-                .mapToInt(List::size)
-                .sum());
-        return stats;
+
+    // SseConnection이 닫힐 때 호출
+    private void removeConnection(SseConnection connection) {
+        String userId = connection.getUserId();
+        AtomicBoolean lastOnNode = new AtomicBoolean();
+        userIdToConnections.computeIfPresent(userId, (k, list) -> {
+            list.remove(connection);
+            if (!list.isEmpty()) {
+                return list;
+            }
+            lastOnNode.set(true);
+            return null;
+        });
+        if (lastOnNode.get()) {
+            // 이 노드의 마지막 연결: presence 해제 (Redis 호출은 맵 잠금 밖에서)
+            deliveryBus.leave(userId);
+            // 해제하는 사이 새 연결이 들어왔으면 그 연결의 등록이 지워졌을 수 있으므로 다시 등록
+            if (userIdToConnections.containsKey(userId)) {
+                deliveryBus.join(userId);
+            }
+        }
     }
 }
 
+/*
+    * SsePushService.java
+    * 사용자별 SSE 연결 관리 및 이벤트 전송
+    * - 전송은 연결별 크기 제한 대기열(SseConnection)에 넣기만 하고 writer 풀이 연결마다 순서대로 emitter.send 수행
+      느린 클라이언트 하나가 스케줄러 스레드나 다른 사용자 전송을 막지 않음
+    * - 대기열이 가득 차면 sse.outbound.overflow-policy(DROP_OLDEST / COALESCE_PINGS / DISCONNECT)에 따라 처리
+    * - 하트비트: SseHeartbeatWheel이 연결마다 무작위 위상으로 15초에 한 번 공유 ping 프레임을 넣음 (sse.heartbeat.shards 스레드로 분산)
+    * - 메트릭: sse.heartbeat.tick, sse.outbound.backlog, sse.outbound.backlog.total, sse.outbound.dropped, sse.outbound.coalesced, sse.outbound.disconnected
+    * - 이 노드의 연결로 직접 전송하고, SseDeliveryBus로 같은 사용자의 연결을 가진 다른 노드에도 전달
+      (sse.cluster.enabled=true면 Redis pub/sub, 아니면 단일 노드)
+    * - 사용자의 첫 연결/마지막 연결 해제 시 presence 등록/해제
+    * - pushScheduleReminder(): 이 노드 또는 다른 노드 중 한 곳이라도 전달되면 true
+    * - 알림 이벤트는 SseReplayLog에 기록해 순서 있는 id를 붙이고, 재연결 시 Last-Event-ID 이후 이벤트만 다시 전송
+      (sse.replay.store=memory(기본)/redis, 메트릭: sse.replay.resent)
+    * - pushOrStoreScheduleReminder(): 연결이 하나도 없으면 SseOutbox(sse.outbox.store=redis(기본)/memory)에 TTL과 함께 보관,
+      subscribe 시 한 번에 꺼내 전송 (메트릭: sse.outbox.stored, sse.outbox.drained)
+      메모리 보관함에 넣은 경우는 false를 반환해 reminded를 올리지 않음 (재시작 시 유실 방지)
+    * - 알림 이벤트는 SseFrameCache에서 바이트 프레임으로 한 번만 인코딩해 모든 탭/노드에 그대로 전송 (sse.frame-cache.size)
+ */
@@ -0,0 +1,21 @@
+package com.calendar.app.service;
+
+import java.util.List;
+
+/**
+ * 재연결 클라이언트를 위한 사용자별 SSE 이벤트 재생 로그
+ * 전송한 이벤트에 순서가 있는 id("ms-seq")를 붙여 보관하고, Last-Event-ID 이후 이벤트만 다시 돌려준다.
+ */
+public interface SseReplayLog {
+
+    /**
+     * id 없는 이벤트 프레임을 기록하고 부여한 이벤트 id 반환 (기록 실패 시 null)
+     */
+    String append(String userId, byte[] frameBody);
+
+    /**
+     * lastEventId 이후에 기록된 이벤트를 id를 붙인 완성 프레임으로 반환 (오래된 순)
+     * 알 수 없는 id면 빈 목록
+     */
+    List<byte[]> since(String userId, String lastEventId);
+}
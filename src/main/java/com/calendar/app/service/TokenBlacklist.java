@@ -0,0 +1,255 @@
+package com.calendar.app.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그아웃(폐기) 토큰 블랙리스트: Redis 앞단에 로컬 블룸 필터
+ * 거의 모든 토큰은 폐기되지 않았으므로 필터에 없으면(확실한 음성) Redis를 조회하지 않고 통과, 있으면(양성/오탐) Redis로 확인한다.
+ * - 항목은 토큰 id(jti, jti 없는 이전 토큰은 토큰의 128비트 해시, 둘 다 32자리 hex): Redis 키도 토큰 전체 대신 BL:<id>
+ * - 필터는 시작 시와 주기적으로 Redis 인덱스(BL:INDEX)에서 다시 만들고(만료 항목 제거), 그 사이 폐기는 pub/sub로 추가
+ * - 필터 준비 전(Redis 장애 등)이나 비활성(auth.blacklist.bloom.enabled=false) 시에는 항상 Redis 조회
+ * - 다른 노드에서 폐기한 토큰은 pub/sub 전달 전까지(보통 ms) 통과될 수 있음, 놓친 메시지는 다음 재구성 때 반영
+ * - 이관 기간(auth.blacklist.legacy-keys.enabled=true, 기본): 이전 버전 노드는 jti 토큰도 BL:<JWT>로 기록하므로 모든 토큰을
+ *   BL:<id>와 BL:<JWT> 두 키로 확인 (이전 노드가 모두 내려가고 BL:<JWT> 항목이 만료되면 끄고, 이후 플래그 제거)
+ *   이전 노드는 인덱스 기록/발행도 하지 않으므로 재구성마다 BL:<JWT> 항목을 다시 찾아 인덱스에 옮김 (최대 재구성 주기만큼 늦게 반영)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    static final String REVOKED_CHANNEL = "BL:REVOKED";
+
+    // 이전 형식 항목(JWT 전체)의 payload에서 jti를 꺼낼 때 사용
+    private static final Pattern JTI_CLAIM = Pattern.compile("\"jti\"\\s*:\\s*\"([0-9a-fA-F]{32})\"");
+
+    private final RedisService redisService;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final boolean bloomEnabled;
+    private final boolean legacyKeys;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // null이면 준비 전 (항상 Redis 조회)
+    private volatile BloomFilter filter;
+    // 재구성 중인 필터: 인덱스를 읽은 뒤 교체 전까지 도착한 폐기도 반영
+    private volatile BloomFilter building;
+    // 인덱스 도입 전에 저장된 블랙리스트 항목을 인덱스로 옮겼는지 (이관 기간에는 매 재구성마다 다시 옮김)
+    private boolean legacyIndexed;
+
+    private final Counter bloomNegatives;
+    private final Counter redisChecks;
+
+    @Autowired
+    public TokenBlacklist(RedisService redisService,
+                          ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.blacklist.bloom.enabled:false}") boolean bloomEnabled,
+                          @Value("${auth.blacklist.bloom.expected-insertions:100000}") int expectedInsertions,
+                          @Value("${auth.blacklist.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                          @Value("${auth.blacklist.legacy-keys.enabled:true}") boolean legacyKeys) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.bloomEnabled = bloomEnabled;
+        this.legacyKeys = legacyKeys;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomNegatives = checks(meterRegistry, "bloom-negative");
+        this.redisChecks = checks(meterRegistry, "redis");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!bloomEnabled) {
+            return;
+        }
+        RedisMessageListenerContainer container = listenerContainer.getIfAvailable();
+        if (container == null) {
+            // 구독 없이 필터를 쓰면 다른 노드의 폐기를 재구성 주기만큼 놓치므로 사용하지 않음
+            log.warn("[BLACKLIST] redis listener container 없음 - 블룸 필터 없이 매 요청 Redis를 조회합니다.");
+            return;
+        }
+        container.addMessageListener((message, pattern) ->
+                        onRevoked(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(REVOKED_CHANNEL));
+        rebuild();
+    }
+
+    /**
+     * 폐기 여부 확인: 필터에 없으면 Redis 조회 없이 false
+     * tokenId는 검증된 토큰의 jti (jti 도입 전 토큰은 null)
+     * jti 없는 토큰과 이관 기간의 모든 토큰은 이전 형식 키 BL:<JWT>도 같은 EXISTS로 확인 (이전 노드가 로그아웃 처리한 토큰)
+     */
+    public boolean isRevoked(String token, String tokenId) {
+        String id = revocationId(token, tokenId);
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(high(id), low(id))) {
+            bloomNegatives.increment();
+            return false;
+        }
+        redisChecks.increment();
+        return legacyKeys || !id.equals(tokenId) ? redisService.isBlacklisted(id, token) : redisService.isBlacklisted(id);
+    }
+
+    /**
+     * 토큰 폐기: Redis 블랙리스트/인덱스에 기록하고 다른 노드에 알림, 이 노드의 필터에는 바로 추가
+     */
+    public void revoke(String token, String tokenId, long timeToLiveMs) {
+        String id = revocationId(token, tokenId);
+        redisService.addToBlacklist(id, timeToLiveMs, REVOKED_CHANNEL);
+        onRevoked(id);
+    }
+
+    /**
+     * Redis 인덱스로 필터 재구성 (만료된 폐기 항목은 빠짐, 놓친 pub/sub 메시지 보정)
+     * 실패하면 기존 필터 유지 (처음이면 준비 전 상태로 Redis 조회)
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.bloom.sync-ms:60000}", initialDelayString = "${auth.blacklist.bloom.sync-ms:60000}")
+    public synchronized void rebuild() {
+        if (!bloomEnabled || (filter == null && listenerContainer.getIfAvailable() == null)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            if (legacyKeys || !legacyIndexed) {
+                indexLegacyEntries(now);
+                legacyIndexed = true;
+            }
+            // 인덱스를 읽기 전에 building을 열어 두어 그 뒤 도착한 폐기가 새 필터에도 들어가게 함
+            BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+            building = next;
+            Set<String> ids = redisService.readRevokedTokenIds(now);
+            if (ids.size() > expectedInsertions) {
+                // 예상보다 많으면 오탐률이 오르므로 크기를 늘려 다시 만듦 (building은 교체 전까지 같이 갱신)
+                next = new BloomFilter(ids.size() * 2, falsePositiveRate);
+                building = next;
+                ids = redisService.readRevokedTokenIds(now);
+            }
+            for (String id : ids) {
+                next.put(high(id), low(id));
+            }
+            filter = next;
+            log.debug("[BLACKLIST] 블룸 필터 재구성: 폐기 토큰 {}개, {}비트, 해시 {}개", ids.size(), next.bitCount(), next.hashCount());
+        } catch (Exception e) {
+            log.warn("[BLACKLIST] 블룸 필터 재구성 실패 - {}: {}", filter == null ? "Redis 조회 유지" : "기존 필터 유지", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    void onRevoked(String id) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(high(id), low(id));
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(high(id), low(id));
+        }
+    }
+
+    boolean ready() {
+        return filter != null;
+    }
+
+    /**
+     * 블랙리스트 키로 쓰는 토큰 id: 32자리 hex jti면 그대로, 아니면(jti 도입 전 토큰) 토큰 해시
+     */
+    public static String revocationId(String token, String tokenId) {
+        return isHex128(tokenId) ? tokenId : tokenHash(token);
+    }
+
+    /**
+     * 토큰 해시 (SHA-256 앞 128비트, 32자리 hex)
+     */
+    public static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 이전 형식 블랙리스트 항목(BL:<JWT>)을 isRevoked가 필터에서 찾는 id로 인덱스에 기록 (jti가 있으면 jti, 없으면 토큰 해시)
+    private void indexLegacyEntries(long now) {
+        Map<String, Long> expiresAtById = new HashMap<>();
+        redisService.scanBlacklistedTokens().forEach((token, ttlMs) ->
+                expiresAtById.put(revocationId(token, legacyTokenId(token)), now + ttlMs));
+        redisService.indexRevokedTokens(expiresAtById);
+        if (!expiresAtById.isEmpty()) {
+            log.debug("[BLACKLIST] 이전 형식 블랙리스트 {}건을 폐기 토큰 인덱스에 기록", expiresAtById.size());
+        }
+    }
+
+    // 이전 노드가 기록한 JWT의 jti (서명은 검증하지 않음 - 이미 블랙리스트에 있는 토큰의 키를 맞추는 용도, 없거나 읽을 수 없으면 null)
+    static String legacyTokenId(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            Matcher matcher = JTI_CLAIM.matcher(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            return matcher.find() ? matcher.group(1) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isHex128(String value) {
+        if (value == null || value.length() != 32) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long high(String id) {
+        return Long.parseUnsignedLong(id, 0, 16, 16);
+    }
+
+    private static long low(String id) {
+        return Long.parseUnsignedLong(id, 16, 32, 16);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.blacklist.checks")
+                .description("블랙리스트 확인 수 (bloom-negative: Redis 조회 생략)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
+
+/*
+    * TokenBlacklist.java
+    * 인증 필터의 블랙리스트 확인에서 Redis 왕복을 줄이기 위한 로컬 블룸 필터
+    * 폐기: Redis에 BL:<id>(TTL = 남은 토큰 수명) + BL:INDEX(id → 만료 시각) 기록 후 BL:REVOKED로 id 발행
+    * 확인: 필터 음성이면 통과(Redis 조회 없음), 양성/오탐이면 Redis EXISTS
+      (jti 없는 이전 토큰과 이관 기간(auth.blacklist.legacy-keys.enabled)의 모든 토큰은 BL:<JWT> 키도 같은 EXISTS로 확인)
+    * 재구성: 시작 시, 이후 auth.blacklist.bloom.sync-ms마다 인덱스 전체로 새 필터를 만들어 교체 (블룸 필터는 삭제가 안 되므로 만료 항목은 재구성으로 제거)
+      이관 기간에는 재구성마다 이전 노드가 쓴 BL:<JWT> 항목을 SCAN해 jti(없으면 토큰 해시)로 인덱스에 추가
+ */
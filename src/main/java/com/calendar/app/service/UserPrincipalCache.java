@@ -0,0 +1,65 @@
+package com.calendar.app.service;
+
+import com.calendar.app.entity.User;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 인증용 사용자 엔티티 TTL 캐시 (email → User)
+ * - 토큰 클레임만으로 principal을 만들 수 없을 때 요청마다 DB를 조회하지 않도록 사용
+ * - 용량을 넘으면 가장 오래 쓰지 않은 항목부터 제거 (LRU), ttlMs <= 0이면 캐시하지 않음
+ * - 없는 사용자는 캐시하지 않음 (가입 직후 바로 조회되도록)
+ */
+final class UserPrincipalCache {
+
+    private record Entry(User user, long expiresAt) {
+    }
+
+    private final long ttlMs;
+    private final Map<String, Entry> entries;
+
+    UserPrincipalCache(long ttlMs, int maxSize) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    // 캐시에 없거나 만료되었으면 loader로 조회 (조회는 락 밖에서)
+    Optional<User> get(String email, Function<String, Optional<User>> loader, long nowMs) {
+        if (ttlMs <= 0) {
+            return loader.apply(email);
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null && nowMs < entry.expiresAt()) {
+                return Optional.of(entry.user());
+            }
+        }
+        Optional<User> loaded = loader.apply(email);
+        loaded.ifPresent(user -> {
+            synchronized (entries) {
+                entries.put(email, new Entry(user, nowMs + ttlMs));
+            }
+        });
+        return loaded;
+    }
+
+    void evict(String email) {
+        synchronized (entries) {
+            entries.remove(email);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.calendar.app.service;
 import com.calendar.app.dto.auth.LoginResponseDto;
 import com.calendar.app.dto.auth.TokenDto;
 import com.calendar.app.entity.User;
+import com.calendar.app.event.UserProfileChangedEvent;
 import com.calendar.app.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * OIDC 프로필로 사용자 Upsert (회원가입/프로필 동기화)
@@ -44,6 +47,8 @@ public class UserService {
             // 필요한 범위에서만 안전하게 동기화
             if (name != null && !name.isBlank()) {
                 u.setNickname(name);
+                // 인증용 사용자 캐시는 커밋 후 제거 (커밋 전에 비우면 다른 요청이 이전 닉네임을 다시 캐시할 수 있음)
+                eventPublisher.publishEvent(new UserProfileChangedEvent(this, email));
             }
             // 예) u.setProfileImageUrl(oidcUser.getPicture());
             return u; // Dirty Checking으로 업데이트
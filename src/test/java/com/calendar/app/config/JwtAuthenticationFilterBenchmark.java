@@ -0,0 +1,192 @@
+package com.calendar.app.config;
+
+import com.calendar.app.entity.User;
+import com.calendar.app.repository.UserRepository;
+import com.calendar.app.service.JwtTokenProvider;
+import com.calendar.app.service.RedisService;
+import com.calendar.app.service.TokenBlacklist;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 인증 필터 처리량 벤치마크 (기본 테스트에서는 제외)
+ * 실행: ./gradlew test --tests JwtAuthenticationFilterBenchmark -Djwt.benchmark=true
+ * 같은 요청을 단일 스레드로 반복 처리하며 초당 요청 수 출력 (Redis/DB는 stub이라 JWT 처리 비용만 비교)
+ * before: 검증 / 인증 객체 생성 / 만료 임박 확인마다 토큰을 다시 파싱 (이전 필터), after: verify 한 번
+ * 부하 테스트: 사용자 1,000명의 토큰으로 코어 수만큼 스레드가 요청하며 principal 생성 방식별 초당 사용자 조회 수 출력
+ */
+@EnabledIfSystemProperty(named = "jwt.benchmark", matches = "true")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final long WARMUP_MS = 2_000;
+    private static final long MEASURE_MS = 5_000;
+    private static final int USERS = 1_000;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("필터 초당 요청 수 (토큰 3회 파싱 vs 1회)")
+    void filterThroughput() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey("benchmarkSecretKey1234567890123456789012345678901234567890");
+        properties.setAccessTokenValidityInSeconds(3600);
+        properties.setRefreshTokenValidityInSeconds(604800);
+        // stubOnly: 호출 기록을 남기지 않아 반복 호출에도 메모리 일정
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByEmail("bench@e")).thenReturn(Optional.of(
+                User.builder().id("u1").email("bench@e").nickname("bench").build()));
+        RedisService redisService = mock(RedisService.class, withSettings().stubOnly());
+        JwtTokenProvider provider = new JwtTokenProvider(properties, userRepository);
+        provider.init();
+        String token = provider.createAccessToken("bench@e");
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, redisService, mock(TokenBlacklist.class, withSettings().stubOnly()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedule");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> { };
+
+        Step before = () -> {
+            if (redisService.isBlacklisted(token) || !provider.validateToken(token)) {
+                throw new IllegalStateException("검증 실패");
+            }
+            SecurityContextHolder.getContext().setAuthentication(provider.getAuthentication(token));
+            provider.isTokenExpiringSoon(token);
+        };
+        Step after = () -> {
+            filter.doFilter(request, response, chain);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                throw new IllegalStateException("검증 실패");
+            }
+        };
+
+        System.out.printf("%8s %14s%n", "impl", "requests/s");
+        double beforeRate = run(before);
+        System.out.printf("%8s %14.0f%n", "before", beforeRate);
+        double afterRate = run(after);
+        System.out.printf("%8s %14.0f%n", "after", afterRate);
+        System.out.printf("speedup x%.2f%n", afterRate / beforeRate);
+
+        assertThat(afterRate).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("인증 DB 조회율 부하 테스트 (요청마다 조회 vs TTL 캐시 vs stateless principal)")
+    void authLookupRateUnderLoad() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%10s %8s %14s %14s %12s%n", "mode", "users", "requests/s", "db queries/s", "queries/req");
+        for (String mode : new String[]{"entity", "ttl-cache", "stateless"}) {
+            JwtProperties properties = new JwtProperties();
+            properties.setSecretKey("benchmarkSecretKey1234567890123456789012345678901234567890");
+            properties.setAccessTokenValidityInSeconds(3600);
+            properties.setRefreshTokenValidityInSeconds(604800);
+            properties.setUserCacheTtlSeconds(mode.equals("entity") ? 0 : 60);
+            properties.setStatelessPrincipal(mode.equals("stateless"));
+            AtomicLong queries = new AtomicLong();
+            UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+            when(userRepository.findByEmail(anyString())).thenAnswer(invocation -> {
+                queries.incrementAndGet();
+                String email = invocation.getArgument(0);
+                return Optional.of(User.builder().id(email).email(email).nickname("bench").build());
+            });
+            JwtTokenProvider provider = new JwtTokenProvider(properties, userRepository);
+            provider.init();
+            JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider,
+                    mock(RedisService.class, withSettings().stubOnly()), mock(TokenBlacklist.class, withSettings().stubOnly()));
+            List<MockHttpServletRequest> requests = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedule");
+                request.addHeader("Authorization", "Bearer " + provider.createAccessToken("user" + i + "@e"));
+                requests.add(request);
+            }
+
+            loadLoop(filter, requests, threads, WARMUP_MS);
+            queries.set(0);
+            long handled = loadLoop(filter, requests, threads, MEASURE_MS);
+            double seconds = MEASURE_MS / 1000.0;
+            System.out.printf("%10s %8d %14.0f %14.1f %12.4f%n", mode, USERS,
+                    handled / seconds, queries.get() / seconds, (double) queries.get() / handled);
+
+            if (mode.equals("stateless")) {
+                assertThat(queries.get()).isZero();
+            }
+        }
+    }
+
+    // 스레드마다 사용자 토큰을 돌아가며 필터 처리, 처리한 요청 수 반환
+    private static long loadLoop(JwtAuthenticationFilter filter, List<MockHttpServletRequest> requests,
+                                 int threads, long durationMs) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    FilterChain chain = (req, res) -> { };
+                    long deadline = System.nanoTime() + durationMs * 1_000_000;
+                    long count = 0;
+                    while (System.nanoTime() < deadline) {
+                        // MockHttpServletRequest는 스레드 안전하지 않아 요청 객체 단위로 동기화 (스레드마다 시작 위치만 다름)
+                        MockHttpServletRequest request = requests.get((int) ((offset + count * threads) % requests.size()));
+                        synchronized (request) {
+                            filter.doFilter(request, new MockHttpServletResponse(), chain);
+                        }
+                        SecurityContextHolder.clearContext();
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private static double run(Step step) throws Exception {
+        loop(step, WARMUP_MS);
+        return loop(step, MEASURE_MS) / (MEASURE_MS / 1000.0);
+    }
+
+    private static long loop(Step step, long durationMs) throws Exception {
+        long deadline = System.nanoTime() + durationMs * 1_000_000;
+        long count = 0;
+        while (System.nanoTime() < deadline) {
+            SecurityContextHolder.clearContext();
+            step.run();
+            count++;
+        }
+        return count;
+    }
+}
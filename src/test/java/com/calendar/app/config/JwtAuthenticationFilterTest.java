@@ -0,0 +1,89 @@
+package com.calendar.app.config;
+
+import com.calendar.app.dto.auth.TokenClaims;
+import com.calendar.app.entity.User;
+import com.calendar.app.service.JwtTokenProvider;
+import com.calendar.app.service.RedisService;
+import com.calendar.app.service.TokenBlacklist;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TokenBlacklist tokenBlacklist;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번만 파싱하고 검증된 클레임으로 인증/만료 임박 확인")
+    void parsesTokenOnce() throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, redisService, tokenBlacklist);
+        TokenClaims claims = TokenClaims.builder().subject("e@e").id("u1").nickname("n")
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000)).build();
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        when(jwtTokenProvider.verify("access")).thenReturn(claims);
+        when(jwtTokenProvider.getAuthentication(claims)).thenReturn(new UsernamePasswordAuthenticationToken(user, "", List.of()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedule");
+        request.addHeader("Authorization", "Bearer access");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(user);
+        assertThat(chain.getRequest()).isSameAs(request);
+        verify(jwtTokenProvider).isTokenExpiringSoon(claims);
+        verify(jwtTokenProvider, never()).validateToken(anyString());
+        verify(jwtTokenProvider, never()).getAuthentication(anyString());
+        verify(jwtTokenProvider, never()).isTokenExpiringSoon(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰(jti)은 401, 인증 없이 체인 진행 안 함")
+    void revokedTokenRejected() throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, redisService, tokenBlacklist);
+        TokenClaims claims = TokenClaims.builder().subject("e@e").tokenId("jti-1")
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000)).build();
+        when(jwtTokenProvider.verify("access")).thenReturn(claims);
+        when(tokenBlacklist.isRevoked("access", "jti-1")).thenReturn(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedule");
+        request.addHeader("Authorization", "Bearer access");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtTokenProvider, never()).getAuthentication(claims);
+    }
+}
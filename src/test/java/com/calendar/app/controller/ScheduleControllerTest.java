@@ -3,6 +3,7 @@ package com.calendar.app.controller;
 import com.calendar.app.dto.schedule.ScheduleRequest;
 import com.calendar.app.dto.schedule.ScheduleResponse;
 import com.calendar.app.entity.User;
+import com.calendar.app.service.ScheduleIcsService;
 import com.calendar.app.service.ScheduleService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -22,9 +23,15 @@ import java.time.LocalTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -75,12 +82,36 @@ class ScheduleControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("범위 조회: ETag 응답, If-None-Match가 같으면 일정 조회 없이 304")
+    void range_conditionalGet() throws Exception {
+        Mockito.reset(scheduleService);
+        when(scheduleService.getScheduleVersion(any())).thenReturn("42");
+        when(scheduleService.getSchedulesByDateRange(any(), any(), any(), anyBoolean(), any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/schedule/range").param("startDate", "2025-03-01").param("endDate", "2025-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"42\""));
+
+        mockMvc.perform(get("/api/schedule/range").param("startDate", "2025-03-01").param("endDate", "2025-03-31")
+                        .header("If-None-Match", "W/\"41\", \"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(scheduleService, times(1)).getSchedulesByDateRange(any(), any(), any(), anyBoolean(), eq("42"));
+    }
+
     @TestConfiguration
     static class MockConfig {
         @Bean
         ScheduleService scheduleService() {
             return Mockito.mock(ScheduleService.class);
         }
+
+        @Bean
+        ScheduleIcsService scheduleIcsService() {
+            return Mockito.mock(ScheduleIcsService.class);
+        }
     }
 }
 
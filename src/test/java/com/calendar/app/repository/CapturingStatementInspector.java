@@ -0,0 +1,34 @@
+package com.calendar.app.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 실행 계획 테스트용: Hibernate가 실제로 보내는 SQL을 기록 (hibernate.session_factory.statement_inspector로 등록)
+public class CapturingStatementInspector implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    // 마지막으로 실행된 schedules 조회 SQL
+    static String lastScheduleSelect() {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            String sql = STATEMENTS.get(i);
+            String lower = sql.toLowerCase();
+            if (lower.startsWith("select") && lower.contains("schedules")) {
+                return sql;
+            }
+        }
+        throw new IllegalStateException("schedules 조회 SQL이 실행되지 않았습니다: " + STATEMENTS);
+    }
+}
@@ -0,0 +1,91 @@
+package com.calendar.app.repository;
+
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 할당량 벤치마크: 엔티티 조회 + ScheduleResponse.from vs 프로젝션 (기본 테스트에서는 제외)
+ * 실행: ./gradlew test --tests ScheduleProjectionBenchmark -Dschedule.benchmark=true
+ * 한 달(2,000건, description 2KB) 범위 조회 한 번당 현재 스레드가 할당한 바이트를 비교
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "schedule.benchmark", matches = "true")
+class ScheduleProjectionBenchmark {
+
+    private static final int SCHEDULES = 2_000;
+    private static final int ITERATIONS = 50;
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        user = User.builder().email("bench@e").nickname("bench").build();
+        entityManager.persist(user);
+        String description = "d".repeat(2048);
+        for (int i = 0; i < SCHEDULES; i++) {
+            entityManager.persist(Schedule.builder()
+                    .user(user)
+                    .title("일정 " + i)
+                    .description(description)
+                    .scheduleDate(FROM.plusDays(i % 31))
+                    .startTime(LocalTime.of(i % 24, 0))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("범위 조회 요청당 할당 바이트: 엔티티 vs 프로젝션")
+    void allocationPerRequest() {
+        long entityBytes = measure(() -> scheduleRepository.findByUserAndDateRange(user, FROM, TO).stream()
+                .map(ScheduleResponse::from).toList());
+        long projectionBytes = measure(() -> scheduleRepository.findSummariesByUserAndDateRange(user, FROM, TO).stream()
+                .map(ScheduleResponse::from).toList());
+
+        System.out.printf("%12s %16s%n", "path", "bytes/request");
+        System.out.printf("%12s %16d%n", "entity", entityBytes);
+        System.out.printf("%12s %16d%n", "projection", projectionBytes);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    // 워밍업 후 요청 한 번당 평균 할당 바이트 (요청마다 영속성 컨텍스트 비움)
+    private long measure(Supplier<List<ScheduleResponse>> request) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(request.get()).hasSize(SCHEDULES);
+            entityManager.clear();
+        }
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.get();
+            entityManager.clear();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+    }
+}
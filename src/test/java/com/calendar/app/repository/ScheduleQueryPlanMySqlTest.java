@@ -0,0 +1,71 @@
+package com.calendar.app.repository;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 계획 회귀 검사 (로컬 MySQL 8, 기본 테스트에서는 제외)
+ * 실행: ./gradlew test --tests ScheduleQueryPlanMySqlTest -Dschedule.plan.mysql-url=jdbc:mysql://localhost:3306/calendar_plan
+ *       (-Dschedule.plan.mysql-user, -Dschedule.plan.mysql-password, 빈 스키마 사용: 테이블을 만들고 지움)
+ * EXPLAIN 결과에서 schedules가 idx_user_date_start를 쓰는지, 전체 스캔(type=ALL)이 아닌지,
+ * 날짜/시작 시간 정렬 조회에 Using filesort가 없는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        ScheduleQueryPlanSupport.INSPECTOR_PROPERTY
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "schedule.plan.mysql-url", matches = ".+")
+class ScheduleQueryPlanMySqlTest extends ScheduleQueryPlanSupport {
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("schedule.plan.mysql-url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("schedule.plan.mysql-user", "root"));
+        registry.add("spring.datasource.password", () -> System.getProperty("schedule.plan.mysql-password", ""));
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+    }
+
+    @Override
+    void analyze() {
+        jdbcTemplate.execute("ANALYZE TABLE schedules");
+    }
+
+    @Override
+    void assertPlan(String query, String sql, Object[] params, boolean sortedByIndex) throws SQLException {
+        List<String[]> rows = jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                bind(statement, sql, params);
+                List<String[]> result = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        result.add(new String[]{rs.getString("table"), rs.getString("type"),
+                                rs.getString("key"), rs.getString("Extra")});
+                    }
+                }
+                return result;
+            }
+        });
+        assertThat(rows).as("%s EXPLAIN 결과", query).isNotEmpty();
+        for (String[] row : rows) {
+            String plan = String.join(" | ", row);
+            assertThat(row[1]).as("%s 전체 스캔: %s", query, plan).isNotEqualToIgnoringCase("ALL");
+            assertThat(row[2]).as("%s 인덱스: %s", query, plan).isEqualTo(INDEX);
+            if (sortedByIndex) {
+                assertThat(String.valueOf(row[3])).as("%s 정렬: %s", query, plan).doesNotContain("filesort");
+            }
+        }
+    }
+}
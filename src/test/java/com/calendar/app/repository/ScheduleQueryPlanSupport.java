@@ -0,0 +1,138 @@
+package com.calendar.app.repository;
+
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+/**
+ * ScheduleRepository 조회의 실행 계획 회귀 검사 (엔진별 판정은 하위 클래스)
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 잡고, 같은 파라미터로 EXPLAIN 한다.
+ */
+abstract class ScheduleQueryPlanSupport {
+
+    static final String INDEX = "idx_user_date_start";
+    static final String INSPECTOR_PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.calendar.app.repository.CapturingStatementInspector";
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+    // keyset 페이지 쿼리의 LIMIT 파라미터
+    private static final int PAGE_LIMIT = 21;
+
+    @Autowired
+    protected ScheduleRepository scheduleRepository;
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    /**
+     * 엔진별 실행 계획 판정
+     * @param sortedByIndex true면 정렬까지 인덱스 순서로 처리되어야 함 (filesort 금지)
+     */
+    abstract void assertPlan(String query, String sql, Object[] params, boolean sortedByIndex) throws SQLException;
+
+    // 통계 갱신 (엔진별)
+    abstract void analyze();
+
+    @BeforeEach
+    void seed() {
+        // 옵티마이저가 인덱스를 고를 만큼의 데이터: 사용자 3명 x 일정 300건
+        for (int u = 0; u < 3; u++) {
+            User owner = User.builder().email("plan" + u + "@e").nickname("plan" + u).build();
+            entityManager.persist(owner);
+            for (int i = 0; i < 300; i++) {
+                entityManager.persist(Schedule.builder()
+                        .user(owner)
+                        .title("일정 " + i)
+                        .scheduleDate(FROM.minusDays(150).plusDays(i))
+                        .startTime(i % 5 == 0 ? null : LocalTime.of(i % 24, 0))
+                        .build());
+            }
+            if (u == 0) {
+                user = owner;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        analyze();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("날짜 범위 조회: 복합 인덱스 범위 스캔 + 인덱스 순서 정렬")
+    void dateRange() throws SQLException {
+        scheduleRepository.findByUserAndDateRange(user, FROM, TO);
+        check("findByUserAndDateRange", true, user.getId(), FROM, TO);
+
+        scheduleRepository.findSummariesByUserAndDateRange(user, FROM, TO);
+        check("findSummariesByUserAndDateRange", true, user.getId(), FROM, TO);
+    }
+
+    @Test
+    @DisplayName("특정 날짜 조회: 복합 인덱스 범위 스캔 + 인덱스 순서 정렬")
+    void singleDate() throws SQLException {
+        scheduleRepository.findByUserAndDate(user, FROM);
+        check("findByUserAndDate", true, user.getId(), FROM);
+    }
+
+    @Test
+    @DisplayName("오늘 조회: 복합 인덱스 범위 스캔 + 인덱스 순서 정렬")
+    void today() throws SQLException {
+        scheduleRepository.findTodaySchedules(user);
+        check("findTodaySchedules", true, user.getId());
+    }
+
+    @Test
+    @DisplayName("전체 조회: 사용자 조건은 복합 인덱스로 (날짜 내림차순 + 시작 시간 오름차순 혼합 정렬은 정렬 단계 허용)")
+    void history() throws SQLException {
+        scheduleRepository.findByUserOrderByScheduleDateDescStartTimeAsc(user);
+        check("findByUserOrderByScheduleDateDescStartTimeAsc", false, user.getId());
+    }
+
+    @Test
+    @DisplayName("커서 페이지/스트리밍: 한 방향(모두 내림차순) 정렬이라 복합 인덱스 역방향 스캔으로 정렬 단계 없음")
+    void page() throws SQLException {
+        scheduleRepository.findPageByUser(user, PageRequest.of(0, PAGE_LIMIT));
+        check("findPageByUser", true, user.getId());
+
+        scheduleRepository.findPageByUserAfter(user, TO, LocalTime.NOON, "01J", PageRequest.of(0, PAGE_LIMIT));
+        check("findPageByUserAfter", true, user.getId(), TO, TO, LocalTime.NOON, LocalTime.NOON, "01J");
+
+        scheduleRepository.findPageByUserAfterAllDay(user, TO, "01J", PageRequest.of(0, PAGE_LIMIT));
+        check("findPageByUserAfterAllDay", true, user.getId(), TO, TO, "01J");
+
+        try (Stream<Schedule> schedules = scheduleRepository.streamByUser(user)) {
+            check("streamByUser", true, user.getId());
+        }
+    }
+
+    private void check(String query, boolean sortedByIndex, Object... params) throws SQLException {
+        assertPlan(query, CapturingStatementInspector.lastScheduleSelect(), params, sortedByIndex);
+        CapturingStatementInspector.clear();
+    }
+
+    // SQL의 ? 순서대로 파라미터 바인딩, 남는 자리는 LIMIT 값
+    static void bind(PreparedStatement statement, String sql, Object[] params) throws SQLException {
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        for (int i = 0; i < placeholders; i++) {
+            statement.setObject(i + 1, i < params.length ? params[i] : PAGE_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.calendar.app.repository;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 계획 회귀 검사 (H2 MySQL 호환 모드, 기본 테스트에 포함)
+ * 엔티티에 선언된 인덱스로 스키마를 만들고, 각 조회가 idx_user_date_start를 쓰고 전체 스캔이 없는지 확인한다.
+ * H2 계획에는 filesort 표시가 없으므로 정렬 검사는 ScheduleQueryPlanMySqlTest가 맡는다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        ScheduleQueryPlanSupport.INSPECTOR_PROPERTY
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ScheduleQueryPlanTest extends ScheduleQueryPlanSupport {
+
+    @Override
+    void analyze() {
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Override
+    void assertPlan(String query, String sql, Object[] params, boolean sortedByIndex) throws SQLException {
+        String plan = jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                bind(statement, sql, params);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+        assertThat(plan).isNotNull();
+        String lower = plan.toLowerCase();
+        assertThat(lower).as("%s 계획:%n%s", query, plan).contains(INDEX);
+        assertThat(lower).as("%s 전체 스캔:%n%s", query, plan).doesNotContain("tablescan");
+    }
+}
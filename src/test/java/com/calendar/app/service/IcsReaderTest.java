@@ -0,0 +1,214 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleRequest;
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("내보낸 일정을 다시 읽으면 날짜/시간/알림/이스케이프 문자가 그대로 복원")
+    void roundTrip() throws IOException {
+        ScheduleResponse timed = ScheduleResponse.builder()
+                .id("01A").title("회의, 주간; 점검").description("1행\n2행 \\ 끝").color("#FF5733")
+                .scheduleDate(LocalDate.of(2025, 3, 2)).startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(10, 30))
+                .reminderMinutes(15).isReminderEnabled(true)
+                .updatedAt(LocalDateTime.of(2025, 3, 1, 12, 0))
+                .build();
+        ScheduleResponse allDay = ScheduleResponse.builder()
+                .id("01B").title("가".repeat(60))
+                .scheduleDate(LocalDate.of(2025, 3, 3))
+                .build();
+        ScheduleResponse overnight = ScheduleResponse.builder()
+                .id("01C").title("야간")
+                .scheduleDate(LocalDate.of(2025, 3, 4)).startTime(LocalTime.of(23, 0)).endTime(LocalTime.of(1, 0))
+                .build();
+
+        String ics = write(timed, allDay, overnight);
+        List<ScheduleRequest> read = readAll(new IcsReader(new StringReader(ics), SEOUL));
+
+        assertThat(ics).contains("DTSTART:20250302T000000Z", "TRIGGER:-PT15M", "DTSTART;VALUE=DATE:20250303");
+        assertThat(read).hasSize(3);
+        assertThat(read.get(0)).isEqualTo(ScheduleRequest.builder()
+                .title("회의, 주간; 점검").description("1행\n2행 \\ 끝").color("#FF5733")
+                .scheduleDate(LocalDate.of(2025, 3, 2)).startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(10, 30))
+                .reminderMinutes(15).isReminderEnabled(true)
+                .build());
+        assertThat(read.get(1).getTitle()).isEqualTo("가".repeat(60));
+        assertThat(read.get(1).getStartTime()).isNull();
+        assertThat(read.get(1).getIsReminderEnabled()).isFalse();
+        assertThat(read.get(2).getEndTime()).isEqualTo(LocalTime.of(1, 0));
+    }
+
+    @Test
+    @DisplayName("모든 줄은 CRLF로 끝나고 75옥텟을 넘지 않음 (멀티바이트 문자는 자르지 않음)")
+    void foldsLongLines() throws IOException {
+        String ics = write(ScheduleResponse.builder()
+                .id("01A").title("긴 제목 ".repeat(40)).description("d".repeat(300))
+                .scheduleDate(LocalDate.of(2025, 3, 3))
+                .build());
+
+        assertThat(ics).endsWith("END:VCALENDAR\r\n");
+        assertThat(ics.split("\r\n"))
+                .allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75))
+                .allSatisfy(line -> assertThat(line).doesNotContain("�"));
+    }
+
+    @Test
+    @DisplayName("UTC/TZID/floating 시간, DURATION, 접힌 줄, 주 단위 알림 처리")
+    void parsesTimeVariants() throws IOException {
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:뉴욕 ",
+                "\t회의",
+                "DTSTART;TZID=America/New_York:20250310T090000",
+                "DURATION:PT1H",
+                "BEGIN:VALARM",
+                "TRIGGER:-P1W",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:floating",
+                "DTSTART:20250311T140000",
+                "DTEND:20250313T100000",
+                "RRULE:FREQ=DAILY",
+                "END:VEVENT",
+                "END:VCALENDAR", "");
+
+        List<ScheduleRequest> read = readAll(new IcsReader(new StringReader(ics), SEOUL));
+
+        assertThat(read).hasSize(2);
+        assertThat(read.get(0).getTitle()).isEqualTo("뉴욕 회의");
+        assertThat(read.get(0).getScheduleDate()).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(read.get(0).getStartTime()).isEqualTo(LocalTime.of(22, 0));
+        assertThat(read.get(0).getEndTime()).isEqualTo(LocalTime.of(23, 0));
+        assertThat(read.get(0).getReminderMinutes()).isEqualTo(7 * 24 * 60);
+        assertThat(read.get(1).getStartTime()).isEqualTo(LocalTime.of(14, 0));
+        assertThat(read.get(1).getEndTime()).isNull(); // 여러 날에 걸친 종료는 표현할 수 없음
+    }
+
+    @Test
+    @DisplayName("DTSTART 없는 일정/취소된 일정은 건너뛰고 나머지는 계속 읽음")
+    void skipsInvalidEvents() throws IOException {
+        String ics = String.join("\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:날짜 없음",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "STATUS:CANCELLED",
+                "DTSTART;VALUE=DATE:20250301",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "DTSTART;VALUE=DATE:20250302",
+                "END:VEVENT",
+                "END:VCALENDAR");
+        IcsReader reader = new IcsReader(new StringReader(ics), SEOUL);
+
+        List<ScheduleRequest> read = readAll(reader);
+
+        assertThat(read).extracting(ScheduleRequest::getTitle).containsExactly(IcsReader.UNTITLED);
+        assertThat(reader.skipped()).isEqualTo(2);
+        assertThat(reader.errors()).containsExactly("2행 일정: DTSTART가 없습니다.");
+    }
+
+    @Test
+    @DisplayName("반복 일정은 RRULE/EXDATE로 내보내고 다시 읽으면 규칙과 취소/수정 회차 날짜가 복원, 수정 회차는 단일 일정")
+    void roundTripSeries() throws IOException {
+        ScheduleResponse master = ScheduleResponse.builder()
+                .id("01S").title("주간 회의")
+                .scheduleDate(LocalDate.of(2025, 3, 3)).startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(10, 0))
+                .recurrenceRule("FREQ=WEEKLY;UNTIL=20250331;BYDAY=MO")
+                .build();
+        ScheduleSeries series = new ScheduleSeries(master, LocalDate.of(2025, 3, 31), List.of(
+                ScheduleSeries.Modification.builder().occurrenceDate(LocalDate.of(2025, 3, 10)).cancelled(true).build(),
+                ScheduleSeries.Modification.builder().occurrenceDate(LocalDate.of(2025, 3, 17))
+                        .title("장소 변경").startTime(LocalTime.of(14, 0)).build()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out, SEOUL);
+        writer.begin();
+        writer.series(series);
+        writer.end();
+        String ics = out.toString(StandardCharsets.UTF_8);
+        IcsReader reader = new IcsReader(new StringReader(ics), SEOUL);
+
+        assertThat(ics).contains("DTSTART;TZID=Asia/Seoul:20250303T090000",
+                "RRULE:FREQ=WEEKLY;UNTIL=20250331T000000Z;BYDAY=MO",
+                "EXDATE;TZID=Asia/Seoul:20250310T090000", "EXDATE;TZID=Asia/Seoul:20250317T090000",
+                "UID:01S-20250317@calendar-app");
+        ScheduleRequest read = reader.next();
+        assertThat(read.getRecurrenceRule()).isEqualTo("FREQ=WEEKLY;UNTIL=20250331;BYDAY=MO");
+        assertThat(read.getScheduleDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(read.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(reader.excludedDates()).containsExactly(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 17));
+
+        ScheduleRequest modified = reader.next();
+        assertThat(modified.getRecurrenceRule()).isNull();
+        assertThat(modified.getTitle()).isEqualTo("장소 변경");
+        assertThat(modified.getScheduleDate()).isEqualTo(LocalDate.of(2025, 3, 17));
+        assertThat(modified.getStartTime()).isEqualTo(LocalTime.of(14, 0));
+        assertThat(reader.excludedDates()).isEmpty();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 RRULE은 첫 회차만 단일 일정으로 가져오고 EXDATE는 무시")
+    void unsupportedRuleImportsFirstOccurrence() throws IOException {
+        String ics = String.join("\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:매시간",
+                "DTSTART:20250301T000000Z",
+                "RRULE:FREQ=HOURLY",
+                "EXDATE:20250301T010000Z",
+                "END:VEVENT",
+                "END:VCALENDAR");
+        IcsReader reader = new IcsReader(new StringReader(ics), SEOUL);
+
+        ScheduleRequest read = reader.next();
+
+        assertThat(read.getRecurrenceRule()).isNull();
+        assertThat(read.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(reader.excludedDates()).isEmpty();
+        assertThat(reader.skipped()).isZero();
+    }
+
+    private static String write(ScheduleResponse... schedules) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IcsWriter writer = new IcsWriter(out, SEOUL);
+        writer.begin();
+        for (ScheduleResponse schedule : schedules) {
+            writer.event(schedule);
+        }
+        writer.end();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<ScheduleRequest> readAll(IcsReader reader) throws IOException {
+        List<ScheduleRequest> read = new ArrayList<>();
+        ScheduleRequest request;
+        while ((request = reader.next()) != null) {
+            read.add(request);
+        }
+        return read;
+    }
+}
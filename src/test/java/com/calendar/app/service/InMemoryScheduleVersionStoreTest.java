@@ -0,0 +1,33 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryScheduleVersionStoreTest {
+
+    private final InMemoryScheduleVersionStore store = new InMemoryScheduleVersionStore();
+
+    @Test
+    @DisplayName("변경한 사용자의 버전만 바뀌고, 변경 없는 조회는 같은 버전")
+    void bumpsOnlyChangedUser() {
+        String u1 = store.current("u1");
+        String u2 = store.current("u2");
+
+        store.bump("u1");
+
+        assertThat(store.current("u1")).isNotEqualTo(u1);
+        assertThat(store.current("u2")).isEqualTo(u2);
+        assertThat(store.current("u1")).isEqualTo(store.current("u1"));
+    }
+
+    @Test
+    @DisplayName("버전은 기동 시각(ms)에서 시작해 재시작 전 버전과 겹치지 않음")
+    void startsFromBootTime() {
+        long before = System.currentTimeMillis();
+        InMemoryScheduleVersionStore restarted = new InMemoryScheduleVersionStore();
+
+        assertThat(Long.parseLong(restarted.current("u1"))).isGreaterThanOrEqualTo(before);
+    }
+}
@@ -0,0 +1,72 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySseReplayLogTest {
+
+    private final InMemorySseReplayLog replayLog = new InMemorySseReplayLog(3, 60000);
+
+    @Test
+    @DisplayName("Last-Event-ID 이후 이벤트만 id를 붙여 순서대로 반환")
+    void returnsEventsAfterLastId() {
+        String first = replayLog.append("u1", body("1"));
+        String second = replayLog.append("u1", body("2"));
+        String third = replayLog.append("u1", body("3"));
+        replayLog.append("u2", body("x"));
+
+        List<String> frames = asText(replayLog.since("u1", first));
+
+        assertThat(frames).containsExactly(
+                "id:" + second + "\nevent:schedule-reminder\ndata:2\n\n",
+                "id:" + third + "\nevent:schedule-reminder\ndata:3\n\n");
+        assertThat(replayLog.since("u1", third)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자별 최근 capacity개만 보관")
+    void keepsOnlyRecentEvents() {
+        String first = replayLog.append("u1", body("1"));
+        for (int i = 2; i <= 5; i++) {
+            replayLog.append("u1", body(String.valueOf(i)));
+        }
+
+        assertThat(asText(replayLog.since("u1", first)))
+                .hasSize(3)
+                .allSatisfy(frame -> assertThat(frame).doesNotContain("data:2\n"));
+    }
+
+    @Test
+    @DisplayName("형식이 다른 id(이전 버전 scheduleId)는 재생하지 않음")
+    void ignoresUnknownIds() {
+        replayLog.append("u1", body("1"));
+
+        assertThat(replayLog.since("u1", "01HZX3J8Q2M4K5N6P7R8S9T0VW")).isEmpty();
+        assertThat(replayLog.since("u1", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 사용자 항목 정리")
+    void purgesExpired() throws InterruptedException {
+        InMemorySseReplayLog expiring = new InMemorySseReplayLog(3, 0);
+        expiring.append("u1", body("1"));
+        Thread.sleep(5);
+
+        expiring.purgeExpired();
+
+        assertThat(expiring.since("u1", "0-0")).isEmpty();
+    }
+
+    private static byte[] body(String data) {
+        return SseConnection.Frame.encode(null, "schedule-reminder", data);
+    }
+
+    private static List<String> asText(List<byte[]> frames) {
+        return frames.stream().map(frame -> new String(frame, StandardCharsets.UTF_8)).toList();
+    }
+}
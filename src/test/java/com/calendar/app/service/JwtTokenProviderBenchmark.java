@@ -0,0 +1,105 @@
+package com.calendar.app.service;
+
+import com.calendar.app.config.JwtProperties;
+import com.calendar.app.entity.User;
+import com.calendar.app.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 검증 처리량 벤치마크 (기본 테스트에서는 제외)
+ * 실행: ./gradlew test --tests JwtTokenProviderBenchmark -Djwt.benchmark=true
+ * 코어 수만큼 스레드로 같은 액세스 토큰을 검증하며 코어당 초당 검증 수 출력
+ * before: 호출마다 secret 인코딩 + hmacShaKeyFor + 파서 생성 (이전 구현), after: 시작 시 만든 키/파서 재사용
+ */
+@EnabledIfSystemProperty(named = "jwt.benchmark", matches = "true")
+class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890123456789012345678901234567890";
+    private static final long WARMUP_MS = 2_000;
+    private static final long MEASURE_MS = 5_000;
+
+    @Test
+    @DisplayName("코어당 초당 JWT 검증 수 (키/파서 매번 생성 vs 재사용)")
+    void validationsPerSecondPerCore() throws Exception {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setAccessTokenValidityInSeconds(3600);
+        properties.setRefreshTokenValidityInSeconds(604800);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail("bench@e")).thenReturn(Optional.of(
+                User.builder().id("u1").email("bench@e").nickname("bench").build()));
+        JwtTokenProvider provider = new JwtTokenProvider(properties, userRepository);
+        provider.init();
+        String token = provider.createAccessToken("bench@e");
+
+        Predicate<String> before = t -> {
+            try {
+                Jwts.parserBuilder()
+                        .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                        .build()
+                        .parseClaimsJws(t);
+                return true;
+            } catch (JwtException | IllegalArgumentException e) {
+                return false;
+            }
+        };
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%8s %6s %18s%n", "impl", "cores", "validations/s/core");
+        double beforeRate = run(before, token, cores);
+        System.out.printf("%8s %6d %18.0f%n", "before", cores, beforeRate);
+        double afterRate = run(provider::validateToken, token, cores);
+        System.out.printf("%8s %6d %18.0f%n", "after", cores, afterRate);
+        System.out.printf("speedup x%.2f%n", afterRate / beforeRate);
+
+        assertThat(afterRate).isGreaterThan(0);
+    }
+
+    // 워밍업 후 측정 구간 동안 스레드별 검증 수를 합쳐 코어당 초당 검증 수로 환산
+    private static double run(Predicate<String> validator, String token, int threads) throws Exception {
+        loop(validator, token, WARMUP_MS);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> loop(validator, token, MEASURE_MS)));
+            }
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            return total / (MEASURE_MS / 1000.0) / threads;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long loop(Predicate<String> validator, String token, long durationMs) {
+        long deadline = System.nanoTime() + durationMs * 1_000_000;
+        long count = 0;
+        while (System.nanoTime() < deadline) {
+            if (!validator.test(token)) {
+                throw new IllegalStateException("검증 실패");
+            }
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,219 @@
+package com.calendar.app.service;
+
+import com.calendar.app.config.JwtProperties;
+import com.calendar.app.dto.auth.TokenClaims;
+import com.calendar.app.entity.User;
+import com.calendar.app.event.UserProfileChangedEvent;
+import com.calendar.app.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET_1 = "testSecretKey123456789012345678901234567890";
+    private static final String SECRET_2 = "rotatedSecretKey12345678901234567890123456789";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("서명 키 교체(재시작): 새 토큰은 새 kid로 서명, 이전 키로 발급된 토큰도 previous-keys로 계속 검증")
+    void rotationKeepsOldTokensValid() {
+        JwtTokenProvider provider = provider(null, SECRET_1, Map.of());
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        when(userRepository.findByEmail("e@e")).thenReturn(Optional.of(user));
+        String before = provider.createAccessToken("e@e");
+
+        JwtTokenProvider restarted = provider("k2", SECRET_2, Map.of("default", SECRET_1));
+        String after = restarted.createRefreshToken("e@e");
+
+        assertThat(header(before)).doesNotContain("kid");
+        assertThat(header(after)).contains("\"kid\":\"k2\"");
+        assertThat(restarted.validateToken(before)).isTrue();
+        assertThat(restarted.validateToken(after)).isTrue();
+        assertThat(restarted.getClaimsFromToken(before)).containsEntry("nickname", "n");
+        assertThat(restarted.getUsername(after)).isEqualTo("e@e");
+        assertThat(restarted.getTokenExpirationTime(after)).isPositive();
+    }
+
+    @Test
+    @DisplayName("설정의 이전 키(default = kid 없던 키)로 재시작 후에도 교체 전 토큰 검증, 모르는 키는 거부")
+    void previousKeysFromConfiguration() {
+        String legacy = provider(null, SECRET_1, Map.of()).createRefreshToken("e@e");
+        String foreign = provider("k9", "foreignSecretKey1234567890123456789012345678", Map.of()).createRefreshToken("e@e");
+
+        JwtTokenProvider rotated = provider("k2", SECRET_2, Map.of("default", SECRET_1));
+
+        assertThat(rotated.validateToken(legacy)).isTrue();
+        assertThat(rotated.validateToken(rotated.createRefreshToken("e@e"))).isTrue();
+        assertThat(rotated.validateToken(foreign)).isFalse();
+        assertThat(provider("k2", SECRET_2, Map.of()).validateToken(legacy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 묶음: kid로 검증 키 조회, 이전 키는 현재 키의 kid를 덮어쓰지 않음, 모르는 kid는 null")
+    void keyRingResolvesByKid() {
+        Key first = Keys.hmacShaKeyFor(SECRET_1.getBytes(StandardCharsets.UTF_8));
+        Key second = Keys.hmacShaKeyFor(SECRET_2.getBytes(StandardCharsets.UTF_8));
+        JwtKeyRing ring = new JwtKeyRing("k2", second);
+
+        ring.addVerificationKey(null, first);
+        ring.addVerificationKey("k2", first);
+
+        assertThat(ring.current().headerKid()).isEqualTo("k2");
+        assertThat(ring.resolve(null)).isSameAs(first);
+        assertThat(ring.resolve("k2")).isSameAs(second);
+        assertThat(ring.resolve("k3")).isNull();
+        assertThat(ring.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("verify: 한 번 파싱으로 subject/jti/id/nickname/만료 시각 반환, 만료/위조 토큰은 null")
+    void verifyReturnsClaimsOnce() {
+        JwtTokenProvider provider = provider(null, SECRET_1, Map.of());
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        when(userRepository.findByEmail("e@e")).thenReturn(Optional.of(user));
+        Key key = Keys.hmacShaKeyFor(SECRET_1.getBytes(StandardCharsets.UTF_8));
+        long now = System.currentTimeMillis();
+
+        TokenClaims claims = provider.verify(provider.createAccessToken("e@e"));
+        TokenClaims expiringSoon = provider.verify(token(key, now + 60_000));
+
+        assertThat(claims.getSubject()).isEqualTo("e@e");
+        assertThat(claims.getId()).isEqualTo("u1");
+        assertThat(claims.getNickname()).isEqualTo("n");
+        assertThat(claims.remainingSeconds(now)).isBetween(3590L, 3600L);
+        assertThat(provider.isTokenExpiringSoon(claims)).isFalse();
+        assertThat(provider.isTokenExpiringSoon(expiringSoon)).isTrue();
+        assertThat(expiringSoon.getId()).isNull();
+        assertThat(claims.getTokenId()).matches("[0-9a-f]{32}");
+        assertThat(provider.verify(provider.createRefreshToken("e@e")).getTokenId())
+                .matches("[0-9a-f]{32}")
+                .isNotEqualTo(claims.getTokenId());
+        assertThat(expiringSoon.getTokenId()).isNull();
+        assertThat(provider.getAuthentication(claims).getPrincipal()).isSameAs(user);
+        assertThat(provider.verify(token(key, now - 1_000))).isNull();
+        assertThat(provider.verify(provider("k9", SECRET_2, Map.of()).createRefreshToken("e@e"))).isNull();
+        assertThat(provider.verify("not.a.token")).isNull();
+    }
+
+    @Test
+    @DisplayName("stateless principal: 액세스 토큰 클레임으로 principal 생성, 클레임 없는 토큰은 TTL 캐시로 한 번만 조회")
+    void statelessPrincipalSkipsUserLookup() {
+        JwtProperties properties = properties(null, SECRET_1, Map.of());
+        properties.setStatelessPrincipal(true);
+        properties.setUserCacheTtlSeconds(60);
+        JwtTokenProvider provider = provider(properties);
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        when(userRepository.findByEmail("e@e")).thenReturn(Optional.of(user));
+        TokenClaims access = provider.verify(provider.createAccessToken("e@e"));
+        TokenClaims refresh = provider.verify(provider.createRefreshToken("e@e"));
+
+        User principal = (User) provider.getAuthentication(access).getPrincipal();
+        provider.getAuthentication(access);
+        Object first = provider.getAuthentication(refresh).getPrincipal();
+        Object second = provider.getAuthentication(refresh).getPrincipal();
+
+        assertThat(principal).isNotSameAs(user);
+        assertThat(principal.getId()).isEqualTo("u1");
+        assertThat(principal.getEmail()).isEqualTo("e@e");
+        assertThat(principal.getNickname()).isEqualTo("n");
+        assertThat(first).isSameAs(user).isSameAs(second);
+        verify(userRepository, times(2)).findByEmail("e@e"); // 토큰 발급 1번 + 캐시 적재 1번
+
+        provider.onUserProfileChanged(new UserProfileChangedEvent(this, "e@e"));
+        provider.getAuthentication(refresh);
+        verify(userRepository, times(3)).findByEmail("e@e");
+    }
+
+    @Test
+    @DisplayName("사용자 캐시는 기본 꺼짐: 클레임 없는 토큰은 요청마다 사용자 조회")
+    void userCacheDisabledByDefault() {
+        JwtTokenProvider provider = provider(properties(null, SECRET_1, Map.of()));
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        when(userRepository.findByEmail("e@e")).thenReturn(Optional.of(user));
+        TokenClaims refresh = provider.verify(provider.createRefreshToken("e@e"));
+
+        provider.getAuthentication(refresh);
+        provider.getAuthentication(refresh);
+
+        verify(userRepository, times(2)).findByEmail("e@e");
+    }
+
+    @Test
+    @DisplayName("사용자 캐시: TTL이 지나면 다시 조회, 없는 사용자는 캐시하지 않음, 용량 초과 시 오래 안 쓴 항목 제거")
+    void userCacheExpiresAndEvicts() {
+        UserPrincipalCache cache = new UserPrincipalCache(1_000, 2);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Optional<User>> loader = email -> {
+            loads.incrementAndGet();
+            return email.startsWith("missing") ? Optional.empty()
+                    : Optional.of(User.builder().email(email).nickname("n").build());
+        };
+
+        cache.get("a@e", loader, 0);
+        cache.get("a@e", loader, 999);
+        assertThat(loads).hasValue(1);
+        cache.get("a@e", loader, 1_000);
+        assertThat(loads).hasValue(2);
+
+        assertThat(cache.get("missing@e", loader, 1_000)).isEmpty();
+        cache.get("b@e", loader, 1_000);
+        cache.get("c@e", loader, 1_000);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loads).hasValue(5);
+    }
+
+    private JwtTokenProvider provider(String keyId, String secret, Map<String, String> previousKeys) {
+        return provider(properties(keyId, secret, previousKeys));
+    }
+
+    private JwtTokenProvider provider(JwtProperties properties) {
+        JwtTokenProvider provider = new JwtTokenProvider(properties, userRepository);
+        provider.init();
+        return provider;
+    }
+
+    private static JwtProperties properties(String keyId, String secret, Map<String, String> previousKeys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(secret);
+        properties.setKeyId(keyId);
+        properties.setPreviousKeys(previousKeys);
+        properties.setAccessTokenValidityInSeconds(3600);
+        properties.setRefreshTokenValidityInSeconds(604800);
+        return properties;
+    }
+
+    private static String token(Key key, long expirationMs) {
+        return Jwts.builder()
+                .setSubject("e@e")
+                .setExpiration(new Date(expirationMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+}
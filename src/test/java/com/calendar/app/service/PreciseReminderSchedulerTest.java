@@ -0,0 +1,194 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ReminderSlot;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.User;
+import com.calendar.app.event.ReminderTimeEvent;
+import com.calendar.app.event.ScheduleBulkChangedEvent;
+import com.calendar.app.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PreciseReminderSchedulerTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ScheduleSeriesService seriesService;
+
+    private PreciseReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReminderShardCoordinator shardCoordinator =
+                new ReminderShardCoordinator(redisService, eventPublisher, new NodeIdentity(), false, 15000);
+        scheduler = new PreciseReminderScheduler(scheduleRepository, eventPublisher, redisService, shardCoordinator, seriesService);
+        ReflectionTestUtils.setField(scheduler, "windowHours", 24L);
+        ReflectionTestUtils.setField(scheduler, "maxLookbackMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("구간 조회가 한 번 실패하면 적재 구간을 되돌려 다음 리필에서 같은 구간을 다시 조회")
+    void loadWindowFailure_restoresLoadedUntil() {
+        LocalDateTime fireAt = LocalDateTime.now().plusHours(1);
+        when(scheduleRepository.findReminderSlots(any(), any()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(List.of(slot("s1", "u1", fireAt)));
+
+        assertThatThrownBy(scheduler::loadInitialWindow).hasMessage("db down");
+        assertThat(scheduler.getSchedulerStats().get("loadedUntil"))
+                .isEqualTo(LocalDateTime.MIN.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+        scheduler.refillWindow();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(scheduleRepository, times(2)).findReminderSlots(from.capture(), any());
+        assertThat(from.getAllValues().get(1)).isBefore(fireAt);
+        assertThat(scheduler.getSchedulerStats().get("pendingReminders")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시작: 저장된 체크포인트부터 적재해 중단 중 놓친 알림을 다음 tick에 발송하고 체크포인트 저장")
+    void restart_catchesUpFromCheckpoint() {
+        LocalDateTime checkpoint = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime missed = checkpoint.plusMinutes(5);
+        when(redisService.getReminderCheckpoint()).thenReturn(toEpochMillis(checkpoint));
+        when(scheduleRepository.findReminderSlots(any(), any())).thenReturn(List.of(slot("s1", "u1", missed)));
+        when(scheduleRepository.findAllById(List.of("s1"))).thenReturn(List.of(schedule("s1", "u1", missed)));
+        startWheelSecondsAgo(5);
+
+        scheduler.loadInitialWindow();
+        scheduler.tick();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(scheduleRepository).findReminderSlots(from.capture(), any());
+        assertThat(from.getValue()).isEqualTo(checkpoint);
+        verify(eventPublisher).publishEvent(any(ReminderTimeEvent.class));
+        verify(redisService).saveReminderCheckpoint(anyLong());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 최대 lookback보다 오래되면 lookback 시점부터만 따라잡음")
+    void restart_clampsToMaxLookback() {
+        LocalDateTime now = LocalDateTime.now();
+        when(redisService.getReminderCheckpoint()).thenReturn(toEpochMillis(now.minusHours(3)));
+
+        scheduler.loadInitialWindow();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(scheduleRepository).findReminderSlots(from.capture(), any());
+        assertThat(from.getValue()).isBetween(now.minusMinutes(61), now.minusMinutes(59));
+    }
+
+    @Test
+    @DisplayName("클러스터 모드 시작: 체크포인트가 최근이어도 lease 2배 전부터 적재 (초기 적재 전에 넘겨받은 샤드의 인수 공백)")
+    void clusterStart_coversTakeoverGap() {
+        ReminderShardCoordinator cluster =
+                new ReminderShardCoordinator(redisService, eventPublisher, new NodeIdentity(), true, 15000);
+        scheduler = new PreciseReminderScheduler(scheduleRepository, eventPublisher, redisService, cluster, seriesService);
+        ReflectionTestUtils.setField(scheduler, "windowHours", 24L);
+        ReflectionTestUtils.setField(scheduler, "maxLookbackMinutes", 60L);
+        LocalDateTime now = LocalDateTime.now();
+        when(redisService.getReminderCheckpoint()).thenReturn(toEpochMillis(now.minusSeconds(1)));
+
+        scheduler.loadInitialWindow();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(scheduleRepository).findReminderSlots(from.capture(), any());
+        assertThat(from.getValue()).isBetween(now.minusSeconds(31), now.minusSeconds(29));
+    }
+
+    @Test
+    @DisplayName("발송 대상 조회가 실패하면 재시도 전까지 체크포인트를 저장하지 않음 (종료 시에도)")
+    void failedFetch_holdsCheckpoint() {
+        when(scheduleRepository.findReminderSlots(any(), any()))
+                .thenReturn(List.of(slot("s1", "u1", LocalDateTime.now().minusSeconds(2))));
+        when(scheduleRepository.findAllById(any())).thenThrow(new RuntimeException("db down"));
+        startWheelSecondsAgo(5);
+
+        scheduler.loadInitialWindow();
+        scheduler.tick();
+        scheduler.shutdown();
+
+        verify(eventPublisher, never()).publishEvent(any(ReminderTimeEvent.class));
+        verify(redisService, never()).saveReminderCheckpoint(anyLong());
+        assertThat(scheduler.getSchedulerStats().get("pendingReminders")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가져오기 이벤트의 알림 슬롯은 엔티티 없이 휠에 적재 (적재 구간 밖은 제외)")
+    void bulkImportSlots_tracked() {
+        scheduler.loadInitialWindow();
+
+        scheduler.onScheduleBulkChanged(new ScheduleBulkChangedEvent(this, "u1", List.of(), List.of(), List.of(), Set.of(),
+                false, List.of(ReminderSlot.of("s1", "u1", LocalDateTime.now().plusHours(1)),
+                        ReminderSlot.of("s2", "u1", LocalDateTime.now().plusDays(3)))));
+
+        assertThat(scheduler.getSchedulerStats().get("pendingReminders")).isEqualTo(1);
+    }
+
+    // 휠 시계를 과거에서 시작시켜 지난 마감 시각 항목이 바로 다음 tick에 만료되게 함 (1초 대기 없이)
+    private void startWheelSecondsAgo(long seconds) {
+        ReflectionTestUtils.setField(scheduler, "wheel",
+                new ReminderTimingWheel(1000, 64, 4, System.currentTimeMillis() - seconds * 1000));
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Schedule schedule(String id, String userId, LocalDateTime fireAt) {
+        User user = User.builder().id(userId).email("e@e").nickname("n").build();
+        return Schedule.builder().id(id).user(user).title("t").fireAt(fireAt).build();
+    }
+
+    private static ReminderSlot slot(String id, String userId, LocalDateTime fireAt) {
+        return new ReminderSlot() {
+            @Override
+            public String getId() {
+                return id;
+            }
+
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+
+            @Override
+            public LocalDateTime getFireAt() {
+                return fireAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @Test
+    @DisplayName("매월 31일: 31일이 없는 달은 건너뜀")
+    void monthlySkipsMissingDays() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=MONTHLY");
+        LocalDate start = LocalDate.of(2025, 1, 31);
+
+        assertThat(rule.between(start, null, start, LocalDate.of(2025, 6, 30)))
+                .containsExactly(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 5, 31));
+    }
+
+    @Test
+    @DisplayName("격주 월/수 COUNT=5: 정규화된 문자열, 첫 회차, 마지막 회차")
+    void weeklyWithCount() {
+        RecurrenceRule rule = RecurrenceRule.parse("freq=weekly;byday=we,mo;interval=2;count=5");
+        LocalDate start = LocalDate.of(2025, 3, 5);
+        LocalDate last = rule.lastDate(start);
+
+        assertThat(rule.format()).isEqualTo("FREQ=WEEKLY;INTERVAL=2;COUNT=5;BYDAY=MO,WE");
+        assertThat(last).isEqualTo(LocalDate.of(2025, 4, 2));
+        assertThat(rule.between(start, last, start, LocalDate.of(2025, 12, 31))).containsExactly(
+                LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 17), LocalDate.of(2025, 3, 19),
+                LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 2));
+    }
+
+    @Test
+    @DisplayName("서수 요일(둘째 화요일, 마지막 금요일)과 윤년 2월 29일 매년 반복")
+    void ordinalDaysAndLeapYear() {
+        RecurrenceRule monthly = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=-1FR,2TU");
+        RecurrenceRule yearly = RecurrenceRule.parse("FREQ=YEARLY");
+
+        assertThat(monthly.between(LocalDate.of(2025, 1, 1), null, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 30)))
+                .containsExactly(LocalDate.of(2025, 3, 11), LocalDate.of(2025, 3, 28),
+                        LocalDate.of(2025, 4, 8), LocalDate.of(2025, 4, 25));
+        assertThat(yearly.between(LocalDate.of(2024, 2, 29), null, LocalDate.of(2024, 1, 1), LocalDate.of(2032, 12, 31)))
+                .containsExactly(LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29), LocalDate.of(2032, 2, 29));
+    }
+
+    @Test
+    @DisplayName("오래된 시리즈도 조회 구간이 속한 주기부터 계산, UNTIL(날짜-시간)은 날짜로")
+    void startsFromRequestedPeriod() {
+        RecurrenceRule weekly = RecurrenceRule.parse("FREQ=WEEKLY");
+        RecurrenceRule daily = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3;UNTIL=20250110T000000Z");
+        LocalDate dailyStart = LocalDate.of(2025, 1, 1);
+
+        assertThat(weekly.between(LocalDate.of(2020, 1, 1), null, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 20)))
+                .containsExactly(LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 12), LocalDate.of(2025, 3, 19));
+        assertThat(daily.between(dailyStart, daily.lastDate(dailyStart), LocalDate.of(2025, 1, 5), LocalDate.of(2025, 2, 1)))
+                .containsExactly(LocalDate.of(2025, 1, 7), LocalDate.of(2025, 1, 10));
+        assertThat(RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31").first(LocalDate.of(2025, 2, 1)))
+                .isEqualTo(LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 규칙은 IllegalArgumentException")
+    void rejectsUnsupportedRules() {
+        for (String rule : new String[]{"FREQ=HOURLY", "INTERVAL=2", "FREQ=DAILY;BYDAY=MO", "FREQ=DAILY;COUNT=0",
+                "FREQ=MONTHLY;BYDAY=6MO", "FREQ=DAILY;COUNT=2;UNTIL=20250101", ""}) {
+            assertThatThrownBy(() -> RecurrenceRule.parse(rule))
+                    .as(rule)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
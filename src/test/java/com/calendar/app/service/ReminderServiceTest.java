@@ -11,10 +11,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +29,9 @@ class ReminderServiceTest {
     @Mock
     private SsePushService ssePushService;
 
+    @Mock
+    private ScheduleSeriesService seriesService;
+
     @InjectMocks
     private ReminderService reminderService;
 
@@ -36,13 +42,49 @@ class ReminderServiceTest {
         Schedule sc = Schedule.builder()
                 .id("s1").user(user).title("t").scheduleDate(LocalDate.now())
                 .startTime(LocalTime.of(9,0)).build();
-        when(scheduleRepository.findPendingReminderCandidates(LocalDate.now()))
+        sc.refreshFireAt();
+        when(scheduleRepository.findDueReminders(any(), any()))
                 .thenReturn(List.of(sc));
-        when(ssePushService.pushScheduleReminder(sc)).thenReturn(true);
+        when(ssePushService.pushOrStoreScheduleReminder(sc)).thenReturn(true);
 
         int sent = reminderService.sendDueReminders(LocalDate.now().atTime(9, 30));
         assertThat(sent).isEqualTo(1);
     }
-}
 
+    @Test
+    @DisplayName("reminderMinutes 만큼 앞당겨 발송")
+    void sendDue_honorsReminderMinutes() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        Schedule sc = Schedule.builder()
+                .id("s1").user(user).title("t").scheduleDate(LocalDate.now())
+                .startTime(LocalTime.of(9,0)).reminderMinutes(10).build();
+        sc.refreshFireAt();
+        assertThat(sc.getFireAt()).isEqualTo(LocalDate.now().atTime(8, 50));
+
+        when(scheduleRepository.findDueReminders(any(), any()))
+                .thenReturn(List.of(sc));
+
+        assertThat(reminderService.sendDueReminders(LocalDate.now().atTime(8, 49, 30))).isZero();
 
+        when(ssePushService.pushOrStoreScheduleReminder(sc)).thenReturn(true);
+        assertThat(reminderService.sendDueReminders(LocalDate.now().atTime(8, 50))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반복 일정은 reminded 대신 다음 회차로 알림 시각 이동")
+    void sendDue_recurringAdvancesFireAt() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        Schedule sc = Schedule.builder()
+                .id("s1").user(user).title("t").scheduleDate(LocalDate.now())
+                .startTime(LocalTime.of(9,0)).isRecurring(true).recurrenceRule("FREQ=DAILY").build();
+        sc.refreshFireAt();
+        LocalDateTime now = LocalDate.now().atTime(9, 0);
+        when(scheduleRepository.findDueReminders(any(), any()))
+                .thenReturn(List.of(sc));
+        when(ssePushService.pushOrStoreScheduleReminder(sc)).thenReturn(true);
+
+        assertThat(reminderService.sendDueReminders(now)).isEqualTo(1);
+        assertThat(sc.isReminded()).isFalse();
+        verify(seriesService).advanceReminder(sc, now);
+    }
+}
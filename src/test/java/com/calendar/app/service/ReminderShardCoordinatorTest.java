@@ -0,0 +1,81 @@
+package com.calendar.app.service;
+
+import com.calendar.app.event.ReminderShardsChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderShardCoordinatorTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("단일 노드 모드는 Redis 없이 모든 샤드 소유")
+    void singleNode_ownsAll() {
+        ReminderShardCoordinator coordinator = new ReminderShardCoordinator(redisService, eventPublisher, new NodeIdentity(), false, 15000);
+
+        coordinator.rebalance();
+
+        assertThat(coordinator.ownedShards()).hasSize(ReminderShardCoordinator.SHARD_COUNT);
+        assertThat(coordinator.ownsUser("any-user")).isTrue();
+        verifyNoInteractions(redisService);
+    }
+
+    @Test
+    @DisplayName("배정된 샤드만 lease 획득 후 소유, 변경 이벤트 발행")
+    void cluster_acquiresAssignedShards() {
+        ReminderShardCoordinator coordinator = new ReminderShardCoordinator(redisService, eventPublisher, new NodeIdentity(), true, 15000);
+        String self = coordinator.getNodeId();
+        when(redisService.heartbeatReminderNode(eq(self), anyLong(), eq(15000L))).thenReturn(Set.of(self, "other"));
+        when(redisService.acquireReminderShard(anyInt(), eq(self), eq(15000L))).thenReturn(true);
+
+        coordinator.rebalance();
+
+        Set<Integer> owned = coordinator.ownedShards();
+        assertThat(owned).isNotEmpty().hasSizeLessThan(ReminderShardCoordinator.SHARD_COUNT);
+        for (int shard = 0; shard < ReminderShardCoordinator.SHARD_COUNT; shard++) {
+            boolean assigned = self.equals(ReminderShardCoordinator.assignedNode(shard, List.of(self, "other")));
+            assertThat(owned.contains(shard)).isEqualTo(assigned);
+        }
+        ArgumentCaptor<ReminderShardsChangedEvent> captor = ArgumentCaptor.forClass(ReminderShardsChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getAcquired()).isEqualTo(owned);
+    }
+
+    @Test
+    @DisplayName("노드 합류 시 새 노드에 배정된 샤드만 이동")
+    void rendezvous_movesOnlyNewNodesShards() {
+        List<String> before = List.of("a", "b");
+        List<String> after = List.of("a", "b", "c");
+        int moved = 0;
+        for (int shard = 0; shard < ReminderShardCoordinator.SHARD_COUNT; shard++) {
+            String oldOwner = ReminderShardCoordinator.assignedNode(shard, before);
+            String newOwner = ReminderShardCoordinator.assignedNode(shard, after);
+            if (!oldOwner.equals(newOwner)) {
+                assertThat(newOwner).isEqualTo("c");
+                moved++;
+            }
+        }
+        assertThat(moved).isPositive().isLessThan(ReminderShardCoordinator.SHARD_COUNT);
+    }
+}
@@ -0,0 +1,99 @@
+package com.calendar.app.service;
+
+import com.calendar.app.repository.ScheduleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderStatusServiceTest {
+
+    private static final LocalDateTime FIRE_AT = LocalDateTime.of(2025, 3, 2, 8, 45);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderStatusService reminderStatusService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reminderStatusService = new ReminderStatusService(scheduleRepository, meterRegistry);
+        ReflectionTestUtils.setField(reminderStatusService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("flush 전에는 DB 접근 없음, flush 시 UPDATE 한 번")
+    void flush_singleUpdate() {
+        reminderStatusService.markAsReminded("s1", FIRE_AT);
+        verify(scheduleRepository, never()).markRemindedByIds(anyCollection(), any());
+
+        when(scheduleRepository.markRemindedByIds(List.of("s1"), FIRE_AT)).thenReturn(1);
+        reminderStatusService.flush();
+
+        verify(scheduleRepository, times(1)).markRemindedByIds(List.of("s1"), FIRE_AT);
+        assertThat(meterRegistry.get("reminder.status.flush.batch.size").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("batchSize 도달 시 즉시 반영")
+    void markAsReminded_flushesAtBatchSize() {
+        when(scheduleRepository.markRemindedByIds(List.of("s1", "s2"), FIRE_AT)).thenReturn(2);
+
+        reminderStatusService.markAsReminded("s1", FIRE_AT);
+        reminderStatusService.markAsReminded("s2", FIRE_AT);
+
+        verify(scheduleRepository, times(1)).markRemindedByIds(List.of("s1", "s2"), FIRE_AT);
+        assertThat(meterRegistry.get("reminder.status.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("UPDATE 실패 시 다음 flush에서 재시도")
+    void flush_retriesFailedBatch() {
+        when(scheduleRepository.markRemindedByIds(List.of("s1"), FIRE_AT))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(1);
+
+        reminderStatusService.markAsReminded("s1", FIRE_AT);
+        reminderStatusService.flush();
+        assertThat(meterRegistry.get("reminder.status.pending").gauge().value()).isEqualTo(1);
+
+        reminderStatusService.flush();
+        verify(scheduleRepository, times(2)).markRemindedByIds(List.of("s1"), FIRE_AT);
+        assertThat(meterRegistry.get("reminder.status.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송한 알림 시각별로 나눠 fire_at 조건부 UPDATE, 알림 시각이 없으면 대기열에 넣지 않음")
+    void flush_guardsBySentFireAt() {
+        LocalDateTime later = FIRE_AT.plusMinutes(1);
+        when(scheduleRepository.markRemindedByIds(List.of("s1"), FIRE_AT)).thenReturn(1);
+        when(scheduleRepository.markRemindedByIds(List.of("s2"), later)).thenReturn(0); // 그사이 시간이 바뀐 일정
+
+        reminderStatusService.markAsReminded("s0", null);
+        reminderStatusService.markAsReminded("s1", FIRE_AT);
+        reminderStatusService.markAsReminded("s2", later);
+
+        verify(scheduleRepository).markRemindedByIds(List.of("s1"), FIRE_AT);
+        verify(scheduleRepository).markRemindedByIds(List.of("s2"), later);
+        verify(scheduleRepository, times(2)).markRemindedByIds(anyCollection(), any());
+        assertThat(meterRegistry.get("reminder.status.pending").gauge().value()).isZero();
+    }
+}
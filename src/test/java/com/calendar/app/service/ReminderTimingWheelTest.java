@@ -0,0 +1,73 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderTimingWheelTest {
+
+    // tick 1초, 슬롯 4개, 3레벨 → 전체 범위 64초
+    private ReminderTimingWheel newWheel() {
+        return new ReminderTimingWheel(1000, 4, 3, 0);
+    }
+
+    @Test
+    @DisplayName("마감 시각에 정확히 만료")
+    void expiresAtDeadline() {
+        ReminderTimingWheel wheel = newWheel();
+        wheel.schedule("a", 3_000);
+
+        assertThat(wheel.advanceTo(2_999)).isEmpty();
+        assertThat(wheel.advanceTo(3_000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨 항목은 cascade 후 만료")
+    void cascadesFromUpperLevels() {
+        ReminderTimingWheel wheel = newWheel();
+        wheel.schedule("b", 10_500); // 11초 → 레벨 1
+        wheel.schedule("c", 40_000); // 40초 → 레벨 2
+
+        assertThat(wheel.advanceTo(10_999)).isEmpty();
+        assertThat(wheel.advanceTo(11_000)).containsExactly("b");
+        assertThat(wheel.advanceTo(39_999)).isEmpty();
+        assertThat(wheel.advanceTo(40_000)).containsExactly("c");
+    }
+
+    @Test
+    @DisplayName("취소된 항목은 만료되지 않음")
+    void cancel() {
+        ReminderTimingWheel wheel = newWheel();
+        wheel.schedule("a", 5_000);
+
+        assertThat(wheel.cancel("a")).isTrue();
+        assertThat(wheel.cancel("a")).isFalse();
+        assertThat(wheel.advanceTo(10_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 id 재등록 시 마감 시각 교체")
+    void rescheduleReplaces() {
+        ReminderTimingWheel wheel = newWheel();
+        wheel.schedule("a", 5_000);
+        wheel.schedule("a", 8_000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(5_000)).isEmpty();
+        assertThat(wheel.advanceTo(8_000)).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("휠 범위를 벗어나면 등록 거부, 지난 마감은 다음 tick에 만료")
+    void rangeAndPastDeadline() {
+        ReminderTimingWheel wheel = newWheel();
+        assertThat(wheel.schedule("far", 64_000)).isFalse();
+        assertThat(wheel.schedule("near", 63_000)).isTrue();
+
+        wheel.advanceTo(10_000);
+        wheel.schedule("late", 1_000);
+        assertThat(wheel.advanceTo(11_000)).containsExactly("late");
+    }
+}
@@ -0,0 +1,163 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleImportResponse;
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.entity.User;
+import com.calendar.app.repository.ScheduleRecurrenceExceptionRepository;
+import com.calendar.app.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * iCalendar 가져오기/내보내기 처리량, 최대 힙 벤치마크 (기본 테스트에서는 제외)
+ * 실행: ./gradlew test --tests ScheduleIcsBenchmark -Dschedule.benchmark=true
+ * 50,000건 .ics 파일을 가져오고 다시 내보내며 초당 처리 건수와 구간 중 힙 최대 사용량을 출력
+ * 최대 힙은 힙 풀별 최대치의 합이라 실제보다 크게 나올 수 있음 (상한값)
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "schedule.benchmark", matches = "true")
+class ScheduleIcsBenchmark {
+
+    private static final int EVENTS = 50_000;
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleRecurrenceExceptionRepository exceptionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path dir;
+
+    private User user;
+    private ScheduleIcsService icsService;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("bench@e").nickname("bench").build();
+        entityManager.persist(user);
+        ScheduleService scheduleService = new ScheduleService(scheduleRepository, null, event -> { }, entityManager, null, null, null);
+        icsService = new ScheduleIcsService(scheduleService, new ScheduleSeriesService(scheduleRepository, exceptionRepository),
+                entityManager, event -> { });
+        ReflectionTestUtils.setField(icsService, "batchSize", 1000);
+        ReflectionTestUtils.setField(icsService, "maxEvents", EVENTS);
+    }
+
+    @Test
+    @DisplayName("50,000건 .ics 가져오기/내보내기 처리량과 최대 힙")
+    void importAndExport() throws Exception {
+        Path file = dir.resolve("bench.ics");
+        generate(file);
+
+        long[] imported = new long[1];
+        Measurement importRun = measure(() -> {
+            try (InputStream in = Files.newInputStream(file)) {
+                ScheduleImportResponse response = icsService.importIcs(user, in);
+                imported[0] = response.getImported();
+            }
+        });
+
+        long[] exported = new long[2];
+        Measurement exportRun = measure(() -> {
+            OutputStream counting = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    exported[1]++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    exported[1] += len;
+                }
+            };
+            exported[0] = icsService.exportIcs(user, counting);
+        });
+
+        System.out.printf("file: %d events, %.1f MB%n", EVENTS, Files.size(file) / 1024.0 / 1024.0);
+        System.out.printf("%8s %14s %12s %18s%n", "path", "events/s", "elapsed ms", "peak heap +MB");
+        importRun.print("import");
+        exportRun.print("export");
+
+        assertThat(imported[0]).isEqualTo(EVENTS);
+        assertThat(exported[0]).isEqualTo(EVENTS);
+        assertThat(exported[1]).isPositive();
+    }
+
+    // 다양한 형태(시간/종일/알림/긴 설명)의 VEVENT 파일 생성
+    private void generate(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            IcsWriter writer = new IcsWriter(out, ZoneId.systemDefault());
+            writer.begin();
+            for (int i = 0; i < EVENTS; i++) {
+                boolean allDay = i % 5 == 0;
+                writer.event(ScheduleResponse.builder()
+                        .id(String.format("%026d", i))
+                        .title("일정 " + i)
+                        .description(i % 3 == 0 ? "설명, 메모; 회의록\n".repeat(10) : null)
+                        .color("#FF5733")
+                        .scheduleDate(FROM.plusDays(i % 365))
+                        .startTime(allDay ? null : LocalTime.of(i % 24, 0))
+                        .endTime(allDay ? null : LocalTime.of(i % 24, 30))
+                        .reminderMinutes(10)
+                        .isReminderEnabled(i % 2 == 0)
+                        .build());
+            }
+            writer.end();
+        }
+    }
+
+    private static Measurement measure(Run run) throws Exception {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        run.run();
+        long elapsed = System.nanoTime() - start;
+
+        long peak = pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new Measurement(elapsed, Math.max(peak - baseline, 0));
+    }
+
+    @FunctionalInterface
+    private interface Run {
+        void run() throws Exception;
+    }
+
+    private record Measurement(long elapsedNanos, long peakHeapBytes) {
+
+        void print(String path) {
+            System.out.printf("%8s %14.0f %12d %18.1f%n", path,
+                    EVENTS / (elapsedNanos / 1e9), elapsedNanos / 1_000_000, peakHeapBytes / 1024.0 / 1024.0);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.User;
+import com.calendar.app.event.ScheduleUpdatedEvent;
+import com.calendar.app.listener.ScheduleEventListener;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ScheduleMonthCacheTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+    private static final YearMonth APRIL = YearMonth.of(2025, 4);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScheduleMonthCache cache = new ScheduleMonthCache(
+            JsonMapper.builder().findAndAddModules().build(), meterRegistry, 100, 60000);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 (사용자, 월)은 한 번만 조회하고 적중률 메트릭 기록")
+    void loadsOncePerMonth() {
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getMonth("u2", MARCH, "v1", this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("schedule.cache.requests").tag("tier", "local").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("schedule.cache.hit.ratio").tag("tier", "local").gauge().value())
+                .isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("수정 이벤트는 새 날짜의 달과 이전 날짜의 달만 무효화")
+    void updateInvalidatesOldAndNewMonth() {
+        YearMonth may = YearMonth.of(2025, 5);
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getMonth("u1", APRIL, "v1", this::load);
+        cache.getMonth("u1", may, "v1", this::load);
+
+        cache.onScheduleChanged(new ScheduleUpdatedEvent(this, schedule("u1", LocalDate.of(2025, 4, 2)), LocalDate.of(2025, 3, 30)));
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getMonth("u1", APRIL, "v1", this::load);
+        cache.getMonth("u1", may, "v1", this::load);
+
+        assertThat(loads).hasValue(5);
+        assertThat(cache.localSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반복 일정 수정은 월 목록 대신 사용자의 반복 일정 캐시만 무효화, 단일 일정으로 바꾸면 새 날짜의 달도")
+    void recurringUpdateInvalidatesSeriesOnly() {
+        AtomicInteger seriesLoads = new AtomicInteger();
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getSeries("u1", "v1", () -> loadSeries(seriesLoads));
+
+        Schedule recurring = schedule("u1", LocalDate.of(2025, 3, 3));
+        recurring.setRecurring(true);
+        recurring.setRecurrenceRule("FREQ=WEEKLY;BYDAY=MO");
+        cache.onScheduleChanged(new ScheduleUpdatedEvent(this, recurring, LocalDate.of(2025, 3, 3), true));
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getSeries("u1", "v1", () -> loadSeries(seriesLoads));
+
+        assertThat(loads).hasValue(1);
+        assertThat(seriesLoads).hasValue(2);
+
+        cache.onScheduleChanged(new ScheduleUpdatedEvent(this, schedule("u1", LocalDate.of(2025, 3, 10)), LocalDate.of(2025, 3, 3), true));
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getSeries("u1", "v1", () -> loadSeries(seriesLoads));
+
+        assertThat(loads).hasValue(2);
+        assertThat(seriesLoads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽은 결과를 캐시에 저장하지 않음")
+    void invalidationDuringLoadSkipsPut() {
+        cache.getMonth("u1", MARCH, "v1", () -> {
+            cache.invalidate("u1", Set.of(MARCH));
+            return load();
+        });
+
+        assertThat(cache.localSize()).isZero();
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 일정 버전으로 저장된 로컬 항목은 쓰지 않음 (무효화 메시지가 늦게 온 노드)")
+    void staleVersionMisses() {
+        cache.getMonth("u1", MARCH, "v1", this::load);
+        cache.getMonth("u1", MARCH, "v2", this::load);
+        cache.getMonth("u1", MARCH, "v2", this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.localSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋 후 리스너는 월 캐시를 무효화한 뒤 버전을 올림: 버전이 오르기 직전 조회도 새 목록을 읽음")
+    void listenerInvalidatesBeforeBump() {
+        ScheduleVersionStore versions = new InMemoryScheduleVersionStore() {
+            @Override
+            public void bump(String userId) {
+                // 무효화와 버전 증가 사이에 들어온 조회 (이전 버전의 ETag로 응답)
+                cache.getMonth(userId, MARCH, current(userId), ScheduleMonthCacheTest.this::load);
+                super.bump(userId);
+            }
+        };
+        ScheduleEventListener listener = new ScheduleEventListener(
+                mock(SsePushService.class), mock(ReminderStatusService.class), versions, cache);
+        cache.getMonth("u1", MARCH, versions.current("u1"), this::load);
+
+        listener.handleScheduleChanged(new ScheduleUpdatedEvent(this, schedule("u1", LocalDate.of(2025, 3, 5)), LocalDate.of(2025, 3, 2)));
+        assertThat(loads).hasValue(2);
+
+        // 새 버전의 첫 조회는 이전 버전으로 저장된 항목을 쓰지 않고 다시 읽고, 이후는 캐시
+        cache.getMonth("u1", MARCH, versions.current("u1"), this::load);
+        cache.getMonth("u1", MARCH, versions.current("u1"), this::load);
+        assertThat(loads).hasValue(3);
+    }
+
+    private List<ScheduleResponse> load() {
+        loads.incrementAndGet();
+        return List.of(ScheduleResponse.builder().id("01A").scheduleDate(LocalDate.of(2025, 3, 2)).build());
+    }
+
+    private static List<ScheduleSeries> loadSeries(AtomicInteger seriesLoads) {
+        seriesLoads.incrementAndGet();
+        return List.of();
+    }
+
+    private static Schedule schedule(String userId, LocalDate date) {
+        User user = User.builder().id(userId).email("e@e").nickname("n").build();
+        return Schedule.builder().id("01A").user(user).title("t").scheduleDate(date).build();
+    }
+}
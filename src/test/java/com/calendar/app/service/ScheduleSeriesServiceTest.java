@@ -0,0 +1,166 @@
+package com.calendar.app.service;
+
+import com.calendar.app.dto.schedule.ScheduleRequest;
+import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.ScheduleRecurrenceException;
+import com.calendar.app.entity.User;
+import com.calendar.app.repository.ScheduleRecurrenceExceptionRepository;
+import com.calendar.app.repository.ScheduleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleSeriesServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 3); // 월요일
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ScheduleRecurrenceExceptionRepository exceptionRepository;
+
+    @InjectMocks
+    private ScheduleSeriesService seriesService;
+
+    @Test
+    @DisplayName("회차 펼치기: 조회 범위만, 취소된 회차 제외, 수정된 회차는 옮긴 날짜와 바뀐 값으로")
+    void expandAppliesModifications() {
+        ScheduleSeries series = new ScheduleSeries(ScheduleResponse.from(master(LocalTime.of(9, 0))), null, List.of(
+                ScheduleSeries.Modification.builder().occurrenceDate(LocalDate.of(2025, 3, 10)).cancelled(true).build(),
+                ScheduleSeries.Modification.builder().occurrenceDate(LocalDate.of(2025, 3, 17))
+                        .scheduleDate(LocalDate.of(2025, 3, 18)).title("변경").build()));
+
+        List<ScheduleResponse> occurrences = ScheduleSeriesService.expand(List.of(series),
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), false);
+
+        assertThat(occurrences).extracting(ScheduleResponse::getScheduleDate).containsExactlyInAnyOrder(
+                LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 18), LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 31));
+        assertThat(occurrences).allSatisfy(occurrence -> {
+            assertThat(occurrence.getId()).isEqualTo("01S");
+            assertThat(occurrence.getDescription()).isNull();
+        });
+        ScheduleResponse moved = occurrences.stream()
+                .filter(occurrence -> occurrence.getScheduleDate().equals(LocalDate.of(2025, 3, 18)))
+                .findFirst().orElseThrow();
+        assertThat(moved.getTitle()).isEqualTo("변경");
+        assertThat(moved.getOccurrenceDate()).isEqualTo(LocalDate.of(2025, 3, 17));
+        assertThat(moved.getStartTime()).isEqualTo(LocalTime.of(9, 0));
+    }
+
+    @Test
+    @DisplayName("다음 알림 시각: 취소/수정된 회차를 건너뛰고 수정된 회차는 옮긴 시각으로 비교, 종일 일정은 없음")
+    void nextFireAtSkipsModifiedOccurrences() {
+        Schedule master = master(LocalTime.of(9, 0));
+        List<ScheduleSeries.Modification> modifications = List.of(
+                ScheduleSeries.Modification.builder().occurrenceDate(LocalDate.of(2025, 3, 10)).cancelled(true).build(),
+                ScheduleSeries.Modification.builder().occurrenceDate(LocalDate.of(2025, 3, 17))
+                        .scheduleDate(LocalDate.of(2025, 3, 18)).startTime(LocalTime.of(7, 0)).build());
+
+        assertThat(ScheduleSeriesService.nextFireAt(master, modifications, LocalDateTime.of(2025, 3, 9, 0, 0)))
+                .isEqualTo(LocalDateTime.of(2025, 3, 18, 6, 50));
+        assertThat(ScheduleSeriesService.nextFireAt(master, modifications, LocalDateTime.of(2025, 3, 18, 6, 50)))
+                .isEqualTo(LocalDateTime.of(2025, 3, 24, 8, 50));
+        assertThat(ScheduleSeriesService.nextFireAt(master(null), List.of(), LocalDateTime.of(2025, 3, 9, 0, 0)))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("알림 발송 후 fire_at을 다음 회차로 조건부 이동, 다른 곳에서 먼저 옮겼으면 null")
+    void advanceReminderMovesToNextOccurrence() {
+        Schedule master = master(LocalTime.of(9, 0));
+        LocalDateTime current = LocalDateTime.of(2025, 3, 10, 8, 50);
+        LocalDateTime next = LocalDateTime.of(2025, 3, 17, 8, 50);
+        master.setFireAt(current);
+        when(exceptionRepository.findByScheduleId("01S")).thenReturn(List.of());
+        when(scheduleRepository.advanceFireAt("01S", current, next)).thenReturn(1, 0);
+
+        assertThat(seriesService.advanceReminder(master, current.plusSeconds(1))).isEqualTo(next);
+        assertThat(seriesService.advanceReminder(master, current.plusSeconds(1))).isNull();
+        assertThat(master.getFireAt()).isEqualTo(current); // 발송 이벤트가 들고 있는 엔티티는 그대로
+    }
+
+    @Test
+    @DisplayName("회차 취소: 예외 행 저장 후 원본 알림 시각을 다음 회차로 재계산")
+    void cancelOccurrenceSavesExceptionAndRefreshesFireAt() {
+        Schedule master = master(LocalTime.of(9, 0));
+        LocalDate occurrence = LocalDate.of(2025, 3, 10);
+        when(exceptionRepository.findOccurrence("01S", occurrence)).thenReturn(Optional.empty());
+        when(exceptionRepository.findByScheduleId("01S")).thenReturn(List.of());
+
+        seriesService.cancelOccurrence(master, occurrence);
+
+        ArgumentCaptor<ScheduleRecurrenceException> saved = ArgumentCaptor.forClass(ScheduleRecurrenceException.class);
+        verify(exceptionRepository).save(saved.capture());
+        assertThat(saved.getValue().isCancelled()).isTrue();
+        assertThat(saved.getValue().getOccurrenceDate()).isEqualTo(occurrence);
+        assertThat(saved.getValue().getSchedule()).isSameAs(master);
+        assertThat(master.getFireAt()).isAfter(LocalDateTime.now());
+        assertThat(master.getFireAt().getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(master.getFireAt().toLocalTime()).isEqualTo(LocalTime.of(8, 50));
+    }
+
+    @Test
+    @DisplayName("회차 수정: 규칙상 회차가 아닌 날짜나 반복 일정이 아니면 IllegalArgumentException")
+    void modifyOccurrenceRejectsInvalidDates() {
+        Schedule master = master(LocalTime.of(9, 0));
+        Schedule single = Schedule.builder().id("01A").title("t").scheduleDate(START).build();
+        ScheduleRequest request = ScheduleRequest.builder().title("변경").build();
+
+        assertThatThrownBy(() -> seriesService.modifyOccurrence(master, LocalDate.of(2025, 3, 11), request))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> seriesService.modifyOccurrence(master, LocalDate.of(2025, 2, 24), request))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> seriesService.modifyOccurrence(single, START, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(exceptionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("반복 규칙 적용: 정규화, 첫 회차로 날짜 보정, COUNT 규칙의 마지막 날짜 저장")
+    void applyRuleNormalizesSchedule() {
+        Schedule schedule = Schedule.builder().title("t").scheduleDate(LocalDate.of(2025, 3, 1)).build();
+
+        ScheduleSeriesService.applyRule(schedule, "RRULE:FREQ=WEEKLY;BYDAY=MO;COUNT=3");
+
+        assertThat(schedule.isRecurring()).isTrue();
+        assertThat(schedule.getRecurrenceRule()).isEqualTo("FREQ=WEEKLY;COUNT=3;BYDAY=MO");
+        assertThat(schedule.getScheduleDate()).isEqualTo(START);
+        assertThat(schedule.getRecurrenceUntil()).isEqualTo(LocalDate.of(2025, 3, 17));
+
+        ScheduleSeriesService.applyRule(schedule, null);
+        assertThat(schedule.isRecurring()).isFalse();
+        assertThat(schedule.getRecurrenceRule()).isNull();
+    }
+
+    // 매주 월요일, 10분 전 알림
+    private static Schedule master(LocalTime startTime) {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        return Schedule.builder()
+                .id("01S").user(user).title("주간 회의").description("설명")
+                .scheduleDate(START).startTime(startTime).reminderMinutes(10)
+                .isRecurring(true).recurrenceRule("FREQ=WEEKLY;BYDAY=MO")
+                .build();
+    }
+}
@@ -1,22 +1,53 @@
 package com.calendar.app.service;
 
+import com.calendar.app.dto.schedule.ScheduleBatchRequest;
+import com.calendar.app.dto.schedule.ScheduleBatchResponse;
+import com.calendar.app.dto.schedule.ScheduleCursor;
+import com.calendar.app.dto.schedule.ScheduleCursorPage;
+import com.calendar.app.dto.schedule.ScheduleDayColorCount;
+import com.calendar.app.dto.schedule.ScheduleDaySummaryResponse;
 import com.calendar.app.dto.schedule.ScheduleRequest;
 import com.calendar.app.dto.schedule.ScheduleResponse;
+import com.calendar.app.dto.schedule.ScheduleSeries;
+import com.calendar.app.dto.schedule.ScheduleSummary;
+import com.calendar.app.entity.Schedule;
 import com.calendar.app.entity.User;
+import com.calendar.app.event.ScheduleBulkChangedEvent;
+import com.calendar.app.event.ScheduleUpdatedEvent;
+import com.calendar.app.listener.ScheduleEventListener;
 import com.calendar.app.repository.ScheduleRepository;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +59,19 @@ class ScheduleServiceTest {
     @Mock
     private SsePushService ssePushService;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ScheduleSeriesService seriesService;
+
+    @Spy
+    private ScheduleMonthCache monthCache = new ScheduleMonthCache(
+            JsonMapper.builder().findAndAddModules().build(), new SimpleMeterRegistry(), 100, 60000);
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -54,6 +98,263 @@ class ScheduleServiceTest {
         List<ScheduleResponse> list = scheduleService.getAllSchedules(user);
         assertThat(list).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("커서 페이지: size+1건으로 다음 페이지 판단, 마지막 일정으로 커서 생성")
+    void page_firstPage_hasNext() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        Schedule a = schedule(user, "01A", LocalDate.of(2025, 3, 2), LocalTime.of(9, 0));
+        Schedule b = schedule(user, "01B", LocalDate.of(2025, 3, 2), null);
+        Schedule c = schedule(user, "01C", LocalDate.of(2025, 3, 1), LocalTime.of(8, 0));
+        when(scheduleRepository.findPageByUser(eq(user), any(Pageable.class))).thenReturn(List.of(a, b, c));
+
+        ScheduleCursorPage page = scheduleService.getSchedulePage(user, null, 2);
+
+        assertThat(page.getItems()).extracting(ScheduleResponse::getId).containsExactly("01A", "01B");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(ScheduleCursor.decode(page.getNextCursor()))
+                .isEqualTo(new ScheduleCursor(LocalDate.of(2025, 3, 2), null, "01B"));
+    }
+
+    @Test
+    @DisplayName("커서 페이지: 종일 일정 커서는 시작 시간 없는 keyset 쿼리 사용")
+    void page_allDayCursor() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        String cursor = new ScheduleCursor(LocalDate.of(2025, 3, 2), null, "01A").encode();
+        when(scheduleRepository.findPageByUserAfterAllDay(eq(user), eq(LocalDate.of(2025, 3, 2)), eq("01A"), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        ScheduleCursorPage page = scheduleService.getSchedulePage(user, cursor, null);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 페이지: 잘못된 커서는 IllegalArgumentException")
+    void page_invalidCursor() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+
+        assertThatThrownBy(() -> scheduleService.getSchedulePage(user, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스트리밍: 한 건씩 넘기고 영속성 컨텍스트에서 분리")
+    void stream_detachesEach() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        Schedule a = schedule(user, "01A", LocalDate.of(2025, 3, 2), null);
+        Schedule b = schedule(user, "01B", LocalDate.of(2025, 3, 1), LocalTime.of(9, 0));
+        when(scheduleRepository.streamByUser(user)).thenReturn(Stream.of(a, b));
+
+        List<String> ids = new ArrayList<>();
+        int count = scheduleService.streamAllSchedules(user, response -> ids.add(response.getId()));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(ids).containsExactly("01A", "01B");
+        verify(entityManager).detach(a);
+        verify(entityManager).detach(b);
+    }
+
+    @Test
+    @DisplayName("목록 조회: 기본은 description 없는 월 프로젝션에서 날짜만, 요청 시 엔티티 조회")
+    void byDate_usesProjectionUnlessDescriptionRequested() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        LocalDate date = LocalDate.of(2025, 3, 2);
+        ScheduleSummary summary = summary("01A", date);
+        ScheduleSummary otherDay = summary("01B", LocalDate.of(2025, 3, 3));
+        when(scheduleRepository.findSummariesByUserAndDateRange(user, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)))
+                .thenReturn(List.of(summary, otherDay));
+
+        List<ScheduleResponse> list = scheduleService.getSchedulesByDate(user, date, false, "v1");
+
+        assertThat(list).extracting(ScheduleResponse::getId).containsExactly("01A");
+        assertThat(list.get(0).getDescription()).isNull();
+        assertThat(list.get(0).isReminderEnabled()).isTrue();
+        verify(scheduleRepository, never()).findByUserAndDate(any(), any());
+
+        when(scheduleRepository.findByUserAndDate(user, date)).thenReturn(List.of(schedule(user, "01A", date, null)));
+        scheduleService.getSchedulesByDate(user, date, true, "v1");
+        verify(scheduleRepository).findByUserAndDate(user, date);
+    }
+
+    @Test
+    @DisplayName("범위 조회: 월 단위로 한 번만 조회하고 이후 요청은 캐시에서 범위만 잘라 응답")
+    void range_servedFromMonthCache() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        ScheduleSummary march = summary("01A", LocalDate.of(2025, 3, 30));
+        ScheduleSummary april = summary("01B", LocalDate.of(2025, 4, 2));
+        ScheduleSummary aprilLate = summary("01C", LocalDate.of(2025, 4, 20));
+        when(scheduleRepository.findSummariesByUserAndDateRange(user, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)))
+                .thenReturn(List.of(march));
+        when(scheduleRepository.findSummariesByUserAndDateRange(user, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30)))
+                .thenReturn(List.of(april, aprilLate));
+
+        List<ScheduleResponse> first = scheduleService.getSchedulesByDateRange(
+                user, LocalDate.of(2025, 3, 15), LocalDate.of(2025, 4, 10), false, "v1");
+        List<ScheduleResponse> second = scheduleService.getSchedulesByDateRange(
+                user, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), false, "v1");
+
+        assertThat(first).extracting(ScheduleResponse::getId).containsExactly("01A", "01B");
+        assertThat(second).extracting(ScheduleResponse::getId).containsExactly("01B", "01C");
+        verify(scheduleRepository).findSummariesByUserAndDateRange(user, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30));
+    }
+
+    @Test
+    @DisplayName("반복 일정: 원본 행은 빼고 범위 안의 회차로 펼쳐 단일 일정과 시간순으로 합침")
+    void byDate_mergesRecurringOccurrences() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        LocalDate monday = LocalDate.of(2025, 3, 3);
+        Schedule single = schedule(user, "01A", monday, LocalTime.of(10, 0));
+        Schedule master = Schedule.builder().id("01S").user(user).title("주간 회의").description("설명")
+                .scheduleDate(LocalDate.of(2025, 2, 24)).startTime(LocalTime.of(9, 0))
+                .isRecurring(true).recurrenceRule("FREQ=WEEKLY;BYDAY=MO").build();
+        when(scheduleRepository.findByUserAndDate(user, monday)).thenReturn(List.of(single, master));
+        when(seriesService.loadSeries(user)).thenReturn(List.of(
+                new ScheduleSeries(ScheduleResponse.from(master), null, List.of())));
+
+        List<ScheduleResponse> list = scheduleService.getSchedulesByDate(user, monday, true, "v1");
+
+        assertThat(list).extracting(ScheduleResponse::getId).containsExactly("01S", "01A");
+        assertThat(list.get(0).getScheduleDate()).isEqualTo(monday);
+        assertThat(list.get(0).getOccurrenceDate()).isEqualTo(monday);
+        assertThat(list.get(0).getDescription()).isEqualTo("설명");
+        assertThat(list.get(1).getOccurrenceDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("월간 요약: (날짜, 색상) 집계 행을 날짜별 개수/가장 이른 시작 시간/색상으로 합침")
+    void daySummaries_mergeRowsPerDay() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        LocalDate d1 = LocalDate.of(2025, 3, 1);
+        LocalDate d2 = LocalDate.of(2025, 3, 2);
+        LocalDate end = LocalDate.of(2025, 3, 31);
+        when(scheduleRepository.countByUserAndDateRangeGroupByDayAndColor(user, d1, end)).thenReturn(List.of(
+                dayColorCount(d1, null, 1, null),
+                dayColorCount(d1, "#FF5733", 2, LocalTime.of(10, 0)),
+                dayColorCount(d1, "#3366FF", 1, LocalTime.of(9, 0)),
+                dayColorCount(d2, "#3366FF", 3, LocalTime.of(14, 0))));
+
+        List<ScheduleDaySummaryResponse> days = scheduleService.getDaySummaries(user, d1, end, "v1");
+
+        assertThat(days).extracting(ScheduleDaySummaryResponse::getDate).containsExactly(d1, d2);
+        assertThat(days.get(0).getCount()).isEqualTo(4);
+        assertThat(days.get(0).getEarliestStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(days.get(0).getColors()).containsExactly("#FF5733", "#3366FF");
+        assertThat(days.get(1).getCount()).isEqualTo(3);
+        assertThat(days.get(1).getColors()).containsExactly("#3366FF");
+    }
+
+    @Test
+    @DisplayName("월간 요약: 시작 날짜가 종료 날짜보다 늦으면 IllegalArgumentException")
+    void daySummaries_invalidRange() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+
+        assertThatThrownBy(() -> scheduleService.getDaySummaries(user, LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 1), "v1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 처리: 대상은 한 번에 조회, 잘못된 항목은 항목별 결과로 건너뛰고 이벤트는 한 번만 발행")
+    void batch_appliesValidOperationsAndPublishesOneEvent() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        User other = User.builder().id("u2").email("o@e").nickname("o").build();
+        LocalDate march = LocalDate.of(2025, 3, 2);
+        LocalDate april = LocalDate.of(2025, 4, 5);
+        Schedule moved = schedule(user, "01A", march, null);
+        Schedule removed = schedule(user, "01B", march, null);
+        Schedule foreign = schedule(other, "01C", march, null);
+        when(scheduleRepository.findAllById(anyCollection())).thenReturn(List.of(moved, removed, foreign));
+
+        ScheduleRequest valid = ScheduleRequest.builder().title("새 일정").scheduleDate(april).build();
+        ScheduleBatchResponse response = scheduleService.applyBatch(user, List.of(
+                operation(ScheduleBatchRequest.Type.CREATE, null, valid),
+                operation(ScheduleBatchRequest.Type.CREATE, null, ScheduleRequest.builder().scheduleDate(april).build()),
+                operation(ScheduleBatchRequest.Type.UPDATE, "01A", valid),
+                operation(ScheduleBatchRequest.Type.UPDATE, "01C", valid),
+                operation(ScheduleBatchRequest.Type.DELETE, "01B", null),
+                operation(ScheduleBatchRequest.Type.DELETE, "01B", null)));
+
+        assertThat(response.getResults()).extracting(ScheduleBatchResponse.Result::getStatus).containsExactly(
+                ScheduleBatchResponse.Status.OK, ScheduleBatchResponse.Status.INVALID, ScheduleBatchResponse.Status.OK,
+                ScheduleBatchResponse.Status.FORBIDDEN, ScheduleBatchResponse.Status.OK, ScheduleBatchResponse.Status.NOT_FOUND);
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(moved.getScheduleDate()).isEqualTo(april);
+        assertThat(foreign.getTitle()).isEqualTo("t");
+        verify(scheduleRepository, times(1)).findAllById(anyCollection());
+        verify(entityManager, times(1)).persist(any(Schedule.class));
+        verify(scheduleRepository).deleteAll(List.of(removed));
+        verify(entityManager).flush();
+
+        ArgumentCaptor<ApplicationEvent> event = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        ScheduleBulkChangedEvent bulk = (ScheduleBulkChangedEvent) event.getValue();
+        assertThat(bulk.getUserId()).isEqualTo("u1");
+        assertThat(bulk.getCreated()).hasSize(1);
+        assertThat(bulk.getUpdated()).containsExactly(moved);
+        assertThat(bulk.getDeleted()).containsExactly(removed);
+        assertThat(bulk.affectedDates()).containsExactlyInAnyOrder(march, april);
+    }
+
+    @Test
+    @DisplayName("일괄 처리: 작업이 없거나 최대 건수를 넘으면 IllegalArgumentException")
+    void batch_rejectsEmptyOrTooLarge() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        ScheduleBatchRequest.Operation delete = operation(ScheduleBatchRequest.Type.DELETE, "01A", null);
+
+        assertThatThrownBy(() -> scheduleService.applyBatch(user, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduleService.applyBatch(user, java.util.Collections.nCopies(501, delete)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(scheduleRepository, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("알림 토글은 내용 변경이 아닌 수정 이벤트로 발행 → 리스너가 '일정이 수정되었습니다' 푸시를 보내지 않음")
+    void toggleReminder_publishesStateChangeWithoutPush() {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        Schedule schedule = schedule(user, "01A", LocalDate.now().plusDays(1), LocalTime.of(9, 0));
+        schedule.setReminderEnabled(false); // 켜는 토글 → 켜진 시간 일정이라 내용 변경이었다면 푸시 대상
+        when(scheduleRepository.findById("01A")).thenReturn(Optional.of(schedule));
+        when(scheduleRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        scheduleService.toggleReminderEnabled(user, "01A");
 
+        ArgumentCaptor<ScheduleUpdatedEvent> event = ArgumentCaptor.forClass(ScheduleUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().isContentChanged()).isFalse();
+        assertThat(new ScheduleUpdatedEvent(this, schedule).isContentChanged()).isTrue();
+
+        ScheduleEventListener listener = new ScheduleEventListener(ssePushService, null, null, null);
+        listener.handleScheduleUpdated(event.getValue());
+        verify(ssePushService, never()).pushTestEvent(anyString(), anyString());
+    }
+
+    private static ScheduleBatchRequest.Operation operation(ScheduleBatchRequest.Type type, String scheduleId,
+                                                            ScheduleRequest schedule) {
+        return ScheduleBatchRequest.Operation.builder().type(type).scheduleId(scheduleId).schedule(schedule).build();
+    }
+
+    private static ScheduleDayColorCount dayColorCount(LocalDate date, String color, long count, LocalTime earliest) {
+        return new ScheduleDayColorCount() {
+            @Override public LocalDate getScheduleDate() { return date; }
+            @Override public String getColor() { return color; }
+            @Override public Long getCount() { return count; }
+            @Override public LocalTime getEarliestStartTime() { return earliest; }
+        };
+    }
+
+    private static ScheduleSummary summary(String id, LocalDate date) {
+        ScheduleSummary summary = mock(ScheduleSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getScheduleDate()).thenReturn(date);
+        when(summary.getReminderEnabled()).thenReturn(true);
+        return summary;
+    }
+
+    private static Schedule schedule(User user, String id, LocalDate date, LocalTime startTime) {
+        return Schedule.builder().id(id).user(user).title("t").scheduleDate(date).startTime(startTime).build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.calendar.app.service;
+
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.User;
+import com.calendar.app.service.SsePushServiceTest.RecordingSsePushService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SseClusterDeliveryTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final FakeRedis redis = new FakeRedis();
+    private final List<SsePushService> nodes = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        nodes.forEach(SsePushService::shutdown);
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게 노드 채널로 전달 (양방향)")
+    void routesBothDirections() throws Exception {
+        RecordingSsePushService nodeA = node("A");
+        RecordingSsePushService nodeB = node("B");
+
+        nodeB.subscribe("u1");
+        nodeA.subscribe("u2");
+        assertThat(redis.sets).containsEntry("SSE:PRESENCE:u1", Set.of("B")).containsEntry("SSE:PRESENCE:u2", Set.of("A"));
+
+        assertThat(nodeA.pushScheduleReminder(schedule("s1", "u1"))).isTrue();
+        assertThat(nodeB.pushScheduleReminder(schedule("s2", "u2"))).isTrue();
+
+        assertThat(redis.published).containsExactly("SSE:NODE:B", "SSE:NODE:A");
+        assertThat(nodeB.awaitEvents(0, 3)).hasSize(2).element(1).asString().contains("event:schedule-reminder\n");
+        assertThat(nodeA.awaitEvents(0, 3)).hasSize(2).element(1).asString().contains("event:schedule-reminder\n");
+    }
+
+    @Test
+    @DisplayName("연결이 없는 노드로는 보내지 않음")
+    void deliversOnlyToPresentNodes() throws Exception {
+        RecordingSsePushService nodeA = node("A");
+        node("B");
+        RecordingSsePushService nodeC = node("C");
+
+        nodeC.subscribe("u1");
+
+        assertThat(nodeA.pushScheduleReminder(schedule("s1", "u1"))).isTrue();
+        assertThat(redis.published).containsExactly("SSE:NODE:C");
+        assertThat(nodeC.awaitEvents(0, 3)).hasSize(2);
+        assertThat(nodeA.pushScheduleReminder(schedule("s2", "nobody"))).isFalse();
+        assertThat(redis.published).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("죽은 노드의 presence는 전달 시 정리 (PUBLISH 수신자 0)")
+    void removesStalePresence() {
+        RecordingSsePushService nodeA = node("A");
+        redis.set("SSE:PRESENCE:u1").add("dead");
+
+        assertThat(nodeA.pushScheduleReminder(schedule("s1", "u1"))).isFalse();
+        assertThat(redis.published).containsExactly("SSE:NODE:dead");
+        assertThat(redis.set("SSE:PRESENCE:u1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전달받은 노드에 연결이 없으면 presence 해제")
+    void receiverWithoutConnectionLeaves() {
+        RecordingSsePushService nodeA = node("A");
+        node("B");
+        redis.set("SSE:PRESENCE:u1").add("B");
+
+        assertThat(nodeA.pushScheduleReminder(schedule("s1", "u1"))).isTrue();
+        assertThat(redis.set("SSE:PRESENCE:u1")).isEmpty();
+    }
+
+    // 실제 RedisSseDeliveryBus + 메모리 Redis, 노드마다 writer/하트비트 스레드는 테스트 후 종료
+    private RecordingSsePushService node(String nodeId) {
+        NodeIdentity identity = mock(NodeIdentity.class);
+        when(identity.getNodeId()).thenReturn(nodeId);
+        RedisSseDeliveryBus bus = new RedisSseDeliveryBus(redis.template, redis.container, objectMapper, identity);
+        bus.listen();
+        RecordingSsePushService node = new RecordingSsePushService(bus);
+        nodes.add(node);
+        return node;
+    }
+
+    private static Schedule schedule(String id, String userId) {
+        User user = User.builder().id(userId).email("e@e").nickname("n").build();
+        return Schedule.builder().id(id).user(user).title("t").build();
+    }
+
+    // 버스가 쓰는 Redis 명령(SADD/SREM/SMEMBERS, PUBLISH, 채널 구독)만 메모리로 처리 (PUBLISH는 구독자에게 바로 전달)
+    private static class FakeRedis {
+        private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+        private final Map<String, MessageListener> subscribers = new ConcurrentHashMap<>();
+        private final List<String> published = new CopyOnWriteArrayList<>();
+        private final StringRedisTemplate template = mock(StringRedisTemplate.class);
+        private final RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+
+        @SuppressWarnings("unchecked")
+        private FakeRedis() {
+            SetOperations<String, String> setOps = mock(SetOperations.class);
+            when(template.opsForSet()).thenReturn(setOps);
+            when(setOps.add(anyString(), any(String.class))).thenAnswer(inv ->
+                    set(inv.getArgument(0)).add(inv.getArgument(1)) ? 1L : 0L);
+            when(setOps.remove(anyString(), any(String.class))).thenAnswer(inv ->
+                    set(inv.getArgument(0)).remove(inv.getArgument(1)) ? 1L : 0L);
+            when(setOps.members(anyString())).thenAnswer(inv -> Set.copyOf(set(inv.getArgument(0))));
+            when(template.convertAndSend(anyString(), any())).thenAnswer(inv ->
+                    publish(inv.getArgument(0), inv.getArgument(1)));
+            doAnswer(inv -> {
+                subscribers.put(inv.<ChannelTopic>getArgument(1).getTopic(), inv.getArgument(0));
+                return null;
+            }).when(container).addMessageListener(any(MessageListener.class), any(Topic.class));
+        }
+
+        private Set<String> set(String key) {
+            return sets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+        }
+
+        private long publish(String channel, Object body) {
+            published.add(channel);
+            MessageListener listener = subscribers.get(channel);
+            if (listener == null) {
+                return 0;
+            }
+            listener.onMessage(new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+                    body.toString().getBytes(StandardCharsets.UTF_8)), null);
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionTest {
+
+    // writer가 아직 비우지 못한 상황을 만들기 위해 작업을 실행하지 않고 쌓아 둠
+    private final List<Runnable> pendingWrites = new ArrayList<>();
+    private final Executor stalledWriter = pendingWrites::add;
+    private final List<SseConnection> closed = new ArrayList<>();
+
+    private SseConnection connection(SseOverflowPolicy policy, Executor writer) {
+        return new SseConnection("u1", new SseEmitter(), 2, policy, writer, closed::add);
+    }
+
+    private static SseConnection.Frame event(String data) {
+        return SseConnection.Frame.of(null, "test", data, false);
+    }
+
+    private static SseConnection.Frame ping() {
+        return SseConnection.Frame.of(null, "ping", "ok", true);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: 가득 차면 가장 오래된 ping을 버림, 버릴 ping이 없으면 이벤트를 버리지 않고 연결 종료")
+    void dropOldest() {
+        SseConnection connection = connection(SseOverflowPolicy.DROP_OLDEST, stalledWriter);
+
+        assertThat(connection.offer(ping())).isEqualTo(SseConnection.OfferResult.QUEUED);
+        assertThat(connection.offer(event("1"))).isEqualTo(SseConnection.OfferResult.QUEUED);
+        assertThat(connection.offer(event("2"))).isEqualTo(SseConnection.OfferResult.DROPPED_PING);
+        assertThat(connection.backlog()).isEqualTo(2);
+        assertThat(pendingWrites).hasSize(1); // 연결당 writer 작업은 하나만 예약
+
+        // 대기열이 모두 이벤트: 새 ping은 버리고, 새 이벤트는 연결 종료
+        assertThat(connection.offer(ping())).isEqualTo(SseConnection.OfferResult.DROPPED_PING);
+        assertThat(connection.backlog()).isEqualTo(2);
+        assertThat(connection.offer(event("3"))).isEqualTo(SseConnection.OfferResult.DISCONNECTED);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(closed).containsExactly(connection);
+    }
+
+    @Test
+    @DisplayName("COALESCE_PINGS: 대기 중인 ping과 합치고, 가득 차면 ping부터 버림, 이벤트는 버리지 않고 연결 종료")
+    void coalescePings() {
+        SseConnection connection = connection(SseOverflowPolicy.COALESCE_PINGS, stalledWriter);
+
+        assertThat(connection.offer(ping())).isEqualTo(SseConnection.OfferResult.QUEUED);
+        assertThat(connection.offer(ping())).isEqualTo(SseConnection.OfferResult.COALESCED);
+        assertThat(connection.offer(event("1"))).isEqualTo(SseConnection.OfferResult.QUEUED);
+        assertThat(connection.offer(event("2"))).isEqualTo(SseConnection.OfferResult.DROPPED_PING);
+        assertThat(connection.backlog()).isEqualTo(2);
+
+        // 남은 두 프레임은 모두 이벤트이므로 새 ping은 버리고, 새 이벤트(알림)는 연결을 끊어 재연결 재생/outbox로 넘김
+        assertThat(connection.offer(ping())).isEqualTo(SseConnection.OfferResult.DROPPED_PING);
+        assertThat(connection.offer(event("3"))).isEqualTo(SseConnection.OfferResult.DISCONNECTED);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DISCONNECT: 가득 차면 연결 종료")
+    void disconnectSlowConsumer() {
+        SseConnection connection = connection(SseOverflowPolicy.DISCONNECT, stalledWriter);
+
+        connection.offer(event("1"));
+        connection.offer(event("2"));
+
+        assertThat(connection.offer(event("3"))).isEqualTo(SseConnection.OfferResult.DISCONNECTED);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(connection.backlog()).isZero();
+        assertThat(closed).containsExactly(connection);
+    }
+
+    @Test
+    @DisplayName("writer가 대기열을 모두 비움")
+    void drainsQueue() {
+        SseConnection connection = connection(SseOverflowPolicy.DROP_OLDEST, stalledWriter);
+        connection.offer(event("1"));
+        connection.offer(event("2"));
+
+        pendingWrites.remove(0).run();
+
+        assertThat(connection.backlog()).isZero();
+        assertThat(connection.offer(event("3"))).isEqualTo(SseConnection.OfferResult.QUEUED);
+        assertThat(pendingWrites).hasSize(1); // 비운 뒤에는 다시 예약
+    }
+}
@@ -0,0 +1,81 @@
+package com.calendar.app.service;
+
+import com.calendar.app.entity.Schedule;
+import com.calendar.app.entity.User;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseFrameCacheTest {
+
+    private final SseFrameCache cache = new SseFrameCache(
+            JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(), 2);
+
+    @Test
+    @DisplayName("SSE 와이어 포맷으로 한 번에 인코딩 (event, data)")
+    void encodesWireFormat() {
+        Schedule schedule = schedule("s1", LocalDateTime.of(2025, 1, 1, 9, 0));
+
+        String frame = new String(cache.reminderFrame(schedule).bytes(), StandardCharsets.UTF_8);
+
+        assertThat(frame).isEqualTo("event:schedule-reminder\n"
+                + "data:{\"scheduleId\":\"s1\",\"title\":\"회의\",\"description\":null,"
+                + "\"scheduleDate\":\"2025-01-02\",\"startTime\":\"10:00:00\"}\n\n");
+    }
+
+    @Test
+    @DisplayName("여러 줄 data는 줄마다 data: 접두어")
+    void encodesMultilineData() {
+        String frame = new String(SseConnection.Frame.encode(null, "test", "a\nb"), StandardCharsets.UTF_8);
+
+        assertThat(frame).isEqualTo("event:test\ndata:a\ndata:b\n\n");
+    }
+
+    @Test
+    @DisplayName("같은 일정은 같은 프레임 재사용, 수정되면 새로 인코딩")
+    void reusesUntilUpdated() {
+        Schedule schedule = schedule("s1", LocalDateTime.of(2025, 1, 1, 9, 0));
+        SseConnection.Frame first = cache.reminderFrame(schedule);
+
+        assertThat(cache.reminderFrame(schedule)).isSameAs(first);
+
+        schedule.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 9, 5));
+        assertThat(cache.reminderFrame(schedule)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 프레임부터 제거")
+    void evictsLeastRecentlyUsed() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        Schedule s1 = schedule("s1", updatedAt);
+        SseConnection.Frame frame1 = cache.reminderFrame(s1);
+        SseConnection.Frame frame2 = cache.reminderFrame(schedule("s2", updatedAt));
+        cache.reminderFrame(s1); // s1을 최근 사용으로
+        cache.reminderFrame(schedule("s3", updatedAt));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.reminderFrame(s1)).isSameAs(frame1);
+        assertThat(cache.reminderFrame(schedule("s2", updatedAt))).isNotSameAs(frame2);
+    }
+
+    private static Schedule schedule(String id, LocalDateTime updatedAt) {
+        User user = User.builder().id("u1").email("e@e").nickname("n").build();
+        Schedule schedule = Schedule.builder()
+                .id(id)
+                .user(user)
+                .title("회의")
+                .scheduleDate(LocalDate.of(2025, 1, 2))
+                .startTime(LocalTime.of(10, 0))
+                .build();
+        schedule.setUpdatedAt(updatedAt);
+        return schedule;
+    }
+}
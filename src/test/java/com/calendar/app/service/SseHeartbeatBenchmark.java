@@ -0,0 +1,85 @@
+package com.calendar.app.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하트비트 처리 비용 벤치마크 (기본 테스트에서는 제외)
+ * 실행: ./gradlew test --tests SseHeartbeatBenchmark -Dsse.benchmark=true
+ * 연결 수를 늘려도 ping 한 번당 CPU 시간과 tick 하나의 처리 시간(연결 수 / 슬롯 수에 비례)이 고르게 유지되는지 확인
+ */
+@EnabledIfSystemProperty(named = "sse.benchmark", matches = "true")
+class SseHeartbeatBenchmark {
+
+    private static final long INTERVAL_MS = 15000;
+    private static final long TICK_MS = 250;
+    private static final int SHARDS = 2;
+
+    @Test
+    @DisplayName("연결 수별 하트비트 CPU/p99")
+    void heartbeatCostByConnectionCount() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("%10s %14s %14s %14s%n", "conns", "cpu ns/ping", "p50 tick us", "p99 tick us");
+
+        for (int connections : new int[]{1_000, 10_000, 100_000}) {
+            AtomicLong pings = new AtomicLong();
+            SseHeartbeatWheel wheel = new SseHeartbeatWheel(INTERVAL_MS, TICK_MS, SHARDS,
+                    connection -> {
+                        connection.offer(SseHeartbeatWheel.PING);
+                        pings.incrementAndGet();
+                    },
+                    new SimpleMeterRegistry().timer("tick"));
+            for (int i = 0; i < connections; i++) {
+                // writer 작업은 버림: 스케줄러 쪽 비용만 측정 (대기 ping은 합쳐지므로 메모리 일정)
+                wheel.register(new SseConnection("u" + i, new SseEmitter(), 64,
+                        SseOverflowPolicy.COALESCE_PINGS, r -> { }, c -> { }));
+            }
+
+            runIntervals(wheel, 1); // 워밍업
+            pings.set(0);
+
+            int ticks = wheel.slotCount() * wheel.shardCount() * 3;
+            long[] tickNanos = new long[ticks];
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            int index = 0;
+            for (int interval = 0; interval < 3; interval++) {
+                for (int tick = 0; tick < wheel.slotCount(); tick++) {
+                    for (int shard = 0; shard < wheel.shardCount(); shard++) {
+                        long start = System.nanoTime();
+                        wheel.tick(shard);
+                        tickNanos[index++] = System.nanoTime() - start;
+                    }
+                }
+            }
+            long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+
+            Arrays.sort(tickNanos);
+            System.out.printf("%10d %14.1f %14.1f %14.1f%n", connections,
+                    (double) cpuNanos / pings.get(),
+                    tickNanos[ticks / 2] / 1000.0,
+                    tickNanos[(int) (ticks * 0.99)] / 1000.0);
+
+            assertThat(pings.get()).isEqualTo(connections * 3L);
+        }
+    }
+
+    private static void runIntervals(SseHeartbeatWheel wheel, int intervals) {
+        for (int interval = 0; interval < intervals; interval++) {
+            for (int tick = 0; tick < wheel.slotCount(); tick++) {
+                for (int shard = 0; shard < wheel.shardCount(); shard++) {
+                    wheel.tick(shard);
+                }
+            }
+        }
+    }
+}
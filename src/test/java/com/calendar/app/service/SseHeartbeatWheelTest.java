@@ -0,0 +1,88 @@
+package com.calendar.app.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHeartbeatWheelTest {
+
+    private final List<SseConnection> pinged = new ArrayList<>();
+
+    // 주기 1초, tick 100ms → 슬롯 10개, shard 2개
+    private SseHeartbeatWheel newWheel() {
+        return new SseHeartbeatWheel(1000, 100, 2, pinged::add, new SimpleMeterRegistry().timer("t"));
+    }
+
+    private static SseConnection connection() {
+        return new SseConnection("u1", new SseEmitter(), 4, SseOverflowPolicy.COALESCE_PINGS, r -> { }, c -> { });
+    }
+
+    private static void runOneInterval(SseHeartbeatWheel wheel) {
+        for (int tick = 0; tick < wheel.slotCount(); tick++) {
+            for (int shard = 0; shard < wheel.shardCount(); shard++) {
+                wheel.tick(shard);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 모든 연결에 ping 한 번씩")
+    void pingsEveryConnectionOncePerInterval() {
+        SseHeartbeatWheel wheel = newWheel();
+        List<SseConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            SseConnection connection = connection();
+            connections.add(connection);
+            wheel.register(connection);
+        }
+
+        runOneInterval(wheel);
+
+        assertThat(pinged).hasSize(50).containsExactlyInAnyOrderElementsOf(connections);
+    }
+
+    @Test
+    @DisplayName("닫힌 연결은 자기 슬롯 차례에 제거")
+    void dropsClosedConnections() {
+        SseHeartbeatWheel wheel = newWheel();
+        SseConnection open = connection();
+        SseConnection closed = connection();
+        wheel.register(open);
+        wheel.register(closed);
+        closed.close(null);
+
+        runOneInterval(wheel);
+        runOneInterval(wheel);
+
+        assertThat(pinged).containsExactly(open, open);
+    }
+
+    @Test
+    @DisplayName("한 연결의 ping이 실패해도 같은 슬롯의 나머지 연결에는 ping")
+    void failingPingDoesNotSkipSlot() {
+        SseConnection failing = connection();
+        SseHeartbeatWheel wheel = new SseHeartbeatWheel(1000, 1000, 1, connection -> {
+            if (connection == failing) {
+                throw new IllegalStateException("broken");
+            }
+            pinged.add(connection);
+        }, new SimpleMeterRegistry().timer("t"));
+        List<SseConnection> others = new ArrayList<>();
+        wheel.register(failing);
+        for (int i = 0; i < 5; i++) {
+            SseConnection connection = connection();
+            others.add(connection);
+            wheel.register(connection);
+        }
+
+        wheel.tick(0);
+
+        assertThat(pinged).containsExactlyInAnyOrderElementsOf(others);
+    }
+}
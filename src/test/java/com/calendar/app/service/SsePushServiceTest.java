@@ -4,9 +4,21 @@ import com.calendar.app.entity.Schedule;
 import com.calendar.app.entity.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class SsePushServiceTest {
 
@@ -27,6 +39,103 @@ class SsePushServiceTest {
         boolean delivered = svc.pushScheduleReminder(sc);
         assertThat(delivered).isFalse();
     }
-}
 
+    @Test
+    @DisplayName("메모리 보관함: 보관해도 false(reminded 유지), 구독한 연결은 재생 로그와 겹치는 프레임을 한 번만 받음")
+    void pushOrStore_memoryOutbox_deliversOnceOnSubscribe() throws Exception {
+        InMemorySseOutbox outbox = new InMemorySseOutbox(10, 60000);
+        RecordingSsePushService svc = new RecordingSsePushService(new InMemorySseReplayLog(10, 60000), outbox);
+        try {
+            assertThat(svc.pushOrStoreScheduleReminder(schedule("s1", "u1"))).isFalse();
+
+            svc.subscribe("u1", "0-0");
+
+            List<String> frames = svc.awaitEvents(0, 3);
+            assertThat(frames).hasSize(2);
+            assertThat(frames.get(0)).startsWith("event:connected\n");
+            assertThat(frames.get(1)).startsWith("id:").contains("event:schedule-reminder\n");
+            assertThat(outbox.drain("u1")).isEmpty();
+        } finally {
+            svc.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("redis 보관함(durable): 보관하면 true, 구독 시 꺼낸 프레임을 새 연결로 전송")
+    void pushOrStore_durableOutbox_storesUntilSubscribe() throws Exception {
+        RedisService redisService = mock(RedisService.class);
+        RecordingSsePushService svc = new RecordingSsePushService(new InMemorySseReplayLog(10, 60000), new RedisSseOutbox(redisService));
+        try {
+            assertThat(svc.pushOrStoreScheduleReminder(schedule("s1", "u1"))).isTrue();
+            ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+            verify(redisService).pushSseOutbox(eq("u1"), stored.capture(), anyInt(), anyLong());
+            when(redisService.drainSseOutbox(eq("u1"), anyLong())).thenReturn(List.of(stored.getValue()));
+
+            svc.subscribe("u1");
+
+            List<String> frames = svc.awaitEvents(0, 3);
+            assertThat(frames).containsExactly("event:connected\ndata:ok\n\n",
+                    new String(stored.getValue(), StandardCharsets.UTF_8));
+            assertThat(frames.get(1)).contains("event:schedule-reminder\n");
+        } finally {
+            svc.shutdown();
+        }
+    }
 
+    @Test
+    @DisplayName("TTL이 지난 보관 알림은 전달하지 않음")
+    void outbox_skipsExpired() {
+        InMemorySseOutbox outbox = new InMemorySseOutbox(10, -1);
+        outbox.put("u1", new byte[]{1});
+
+        assertThat(outbox.drain("u1")).isEmpty();
+    }
+
+    private static Schedule schedule(String id, String userId) {
+        User user = User.builder().id(userId).email("e@e").nickname("n").build();
+        return Schedule.builder().id(id).user(user).title("t").build();
+    }
+
+    // 연결이 실제로 받은 프레임을 기록하는 emitter (writer 풀이 send 호출)
+    static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            items.forEach(item -> frames.add(new String((byte[]) item.getData(), StandardCharsets.UTF_8)));
+        }
+
+        // ping을 제외한 이벤트 프레임
+        List<String> events() {
+            return frames.stream().filter(frame -> !frame.contains("event:ping\n")).toList();
+        }
+    }
+
+    static class RecordingSsePushService extends SsePushService {
+        final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        RecordingSsePushService(SseReplayLog replayLog, SseOutbox outbox) {
+            super(new LocalSseDeliveryBus(), replayLog, outbox);
+        }
+
+        RecordingSsePushService(SseDeliveryBus deliveryBus) {
+            super(deliveryBus);
+        }
+
+        @Override
+        SseEmitter createEmitter() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+
+        // writer 풀이 비동기로 보내므로 atMost개가 오거나 제한 시간이 지날 때까지 기다린 뒤 반환 (중복 전송 확인용)
+        List<String> awaitEvents(int connection, int atMost) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 500;
+            while (System.currentTimeMillis() < deadline && emitters.get(connection).events().size() < atMost) {
+                Thread.sleep(10);
+            }
+            return emitters.get(connection).events();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.calendar.app.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+
+    @Mock
+    private RedisMessageListenerContainer container;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static final String JTI_1 = "0123456789abcdef0123456789abcdef";
+    private static final String JTI_2 = "fedcba9876543210fedcba9876543210";
+
+    @Test
+    @DisplayName("블룸 필터 비활성: 매 요청 jti 키로 Redis 조회, 시작 시 구독/재구성 없음")
+    void disabledAlwaysAsksRedis() {
+        TokenBlacklist blacklist = blacklist(false);
+        when(redisService.isBlacklisted(JTI_1)).thenReturn(true);
+
+        blacklist.start();
+
+        assertThat(blacklist.isRevoked("t1", JTI_1)).isTrue();
+        assertThat(blacklist.ready()).isFalse();
+        verifyNoInteractions(listenerContainer);
+        verify(redisService, never()).readRevokedTokenIds(anyLong());
+    }
+
+    @Test
+    @DisplayName("jti 없는 이전 토큰: 토큰 해시 키와 이전 형식 키(BL:<JWT>)를 함께 확인, 형식이 다른 jti도 해시 사용")
+    void legacyTokensKeyedByHash() {
+        TokenBlacklist blacklist = blacklist(false);
+        when(redisService.isBlacklisted(TokenBlacklist.tokenHash("legacy.jwt.token"), "legacy.jwt.token")).thenReturn(true);
+
+        assertThat(blacklist.isRevoked("legacy.jwt.token", null)).isTrue();
+        assertThat(TokenBlacklist.revocationId("legacy.jwt.token", "not-a-hex-id"))
+                .isEqualTo(TokenBlacklist.tokenHash("legacy.jwt.token"))
+                .hasSize(32);
+        assertThat(TokenBlacklist.revocationId("legacy.jwt.token", JTI_1)).isEqualTo(JTI_1);
+        verify(redisService, never()).isBlacklisted(anyString());
+    }
+
+    @Test
+    @DisplayName("이관 기간: jti 토큰도 이전 노드가 기록한 BL:<JWT> 키를 함께 확인 (필터 비활성)")
+    void legacyKeysCheckedForJtiTokensDuringMigration() {
+        TokenBlacklist blacklist = blacklist(false, true);
+        when(redisService.isBlacklisted(JTI_1, "new.jwt.token")).thenReturn(true);
+
+        assertThat(blacklist.isRevoked("new.jwt.token", JTI_1)).isTrue();
+        verify(redisService, never()).isBlacklisted(anyString());
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰은 Redis 조회 없이 통과, 폐기 토큰(양성)만 Redis로 확인, 기존 블랙리스트는 인덱스로 이관")
+    void bloomNegativeSkipsRedis() {
+        TokenBlacklist blacklist = blacklist(true);
+        when(listenerContainer.getIfAvailable()).thenReturn(container);
+        when(redisService.scanBlacklistedTokens()).thenReturn(Map.of("legacy.jwt.token", 60_000L));
+        when(redisService.readRevokedTokenIds(anyLong()))
+                .thenReturn(Set.of(JTI_1, TokenBlacklist.tokenHash("legacy.jwt.token")));
+        when(redisService.isBlacklisted(JTI_1)).thenReturn(true);
+        when(redisService.isBlacklisted(TokenBlacklist.tokenHash("legacy.jwt.token"), "legacy.jwt.token")).thenReturn(true);
+
+        long before = System.currentTimeMillis();
+        blacklist.start();
+
+        assertThat(blacklist.ready()).isTrue();
+        assertThat(blacklist.isRevoked("fresh", JTI_2)).isFalse();
+        assertThat(blacklist.isRevoked("revoked", JTI_1)).isTrue();
+        assertThat(blacklist.isRevoked("legacy.jwt.token", null)).isTrue();
+        verify(redisService, never()).isBlacklisted(JTI_2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> indexed = ArgumentCaptor.forClass(Map.class);
+        verify(redisService).indexRevokedTokens(indexed.capture());
+        assertThat(indexed.getValue()).containsOnlyKeys(TokenBlacklist.tokenHash("legacy.jwt.token"));
+        assertThat(indexed.getValue().get(TokenBlacklist.tokenHash("legacy.jwt.token")))
+                .isBetween(before + 60_000, System.currentTimeMillis() + 60_000);
+        assertThat(meterRegistry.get("auth.blacklist.checks").tag("result", "bloom-negative").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.blacklist.checks").tag("result", "redis").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기(pub/sub id)와 이 노드의 폐기는 바로 필터에 반영, Redis에는 토큰 대신 jti 기록")
+    void revocationsReachFilter() {
+        TokenBlacklist blacklist = blacklist(true);
+        when(listenerContainer.getIfAvailable()).thenReturn(container);
+        when(redisService.scanBlacklistedTokens()).thenReturn(Map.of());
+        when(redisService.readRevokedTokenIds(anyLong())).thenReturn(Set.of());
+        when(redisService.isBlacklisted(anyString())).thenReturn(true);
+        blacklist.start();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listener.capture(), eq(new ChannelTopic(TokenBlacklist.REVOKED_CHANNEL)));
+
+        listener.getValue().onMessage(new DefaultMessage(
+                TokenBlacklist.REVOKED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                JTI_1.getBytes(StandardCharsets.UTF_8)), null);
+        blacklist.revoke("local", JTI_2, 30_000);
+
+        assertThat(blacklist.isRevoked("remote", JTI_1)).isTrue();
+        assertThat(blacklist.isRevoked("local", JTI_2)).isTrue();
+        verify(redisService).addToBlacklist(JTI_2, 30_000, TokenBlacklist.REVOKED_CHANNEL);
+    }
+
+    @Test
+    @DisplayName("재구성하면 만료되어 인덱스에서 빠진 토큰은 더 이상 Redis로 확인하지 않음, 실패하면 기존 필터 유지")
+    void rebuildDropsExpiredEntries() {
+        TokenBlacklist blacklist = blacklist(true);
+        when(listenerContainer.getIfAvailable()).thenReturn(container);
+        when(redisService.scanBlacklistedTokens()).thenReturn(Map.of());
+        when(redisService.readRevokedTokenIds(anyLong()))
+                .thenReturn(Set.of(JTI_1))
+                .thenReturn(Set.of())
+                .thenThrow(new IllegalStateException("redis down"));
+        when(redisService.isBlacklisted(JTI_1)).thenReturn(true);
+        blacklist.start();
+        assertThat(blacklist.isRevoked("expired", JTI_1)).isTrue();
+
+        blacklist.rebuild();
+        assertThat(blacklist.isRevoked("expired", JTI_1)).isFalse();
+
+        blacklist.rebuild();
+        assertThat(blacklist.ready()).isTrue();
+        verify(redisService).isBlacklisted(JTI_1);
+    }
+
+    @Test
+    @DisplayName("이관 기간: 필터를 만든 뒤 이전 노드가 기록한 BL:<JWT> 항목도 다음 재구성 때 jti로 인덱스/필터에 반영")
+    @SuppressWarnings("unchecked")
+    void legacyEntriesWrittenAfterBuildReachFilter() {
+        TokenBlacklist blacklist = blacklist(true, true);
+        String legacyJwt = jwt("{\"sub\":\"a@b.c\",\"jti\":\"" + JTI_2 + "\"}");
+        when(listenerContainer.getIfAvailable()).thenReturn(container);
+        when(redisService.scanBlacklistedTokens())
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(legacyJwt, 30_000L));
+        when(redisService.readRevokedTokenIds(anyLong()))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of(JTI_2));
+        when(redisService.isBlacklisted(JTI_2, legacyJwt)).thenReturn(true);
+        blacklist.start();
+        assertThat(blacklist.isRevoked(legacyJwt, JTI_2)).isFalse();
+
+        blacklist.rebuild();
+
+        ArgumentCaptor<Map<String, Long>> indexed = ArgumentCaptor.forClass(Map.class);
+        verify(redisService, times(2)).indexRevokedTokens(indexed.capture());
+        assertThat(indexed.getValue()).containsOnlyKeys(JTI_2);
+        assertThat(blacklist.isRevoked(legacyJwt, JTI_2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 형식 항목의 id: payload에 jti가 있으면 jti, 없거나 JWT가 아니면 토큰 해시")
+    void legacyEntryIdPrefersJti() {
+        String withJti = jwt("{\"jti\":\"" + JTI_1 + "\"}");
+        String withoutJti = jwt("{\"sub\":\"a@b.c\"}");
+
+        assertThat(TokenBlacklist.revocationId(withJti, TokenBlacklist.legacyTokenId(withJti))).isEqualTo(JTI_1);
+        assertThat(TokenBlacklist.revocationId(withoutJti, TokenBlacklist.legacyTokenId(withoutJti)))
+                .isEqualTo(TokenBlacklist.tokenHash(withoutJti));
+        assertThat(TokenBlacklist.legacyTokenId("not.@@@.jwt")).isNull();
+    }
+
+    @Test
+    @DisplayName("구독 컨테이너가 없거나 첫 재구성이 실패하면 필터 없이 Redis 조회")
+    void fallsBackToRedisUntilReady() {
+        TokenBlacklist withoutContainer = blacklist(true);
+        withoutContainer.start();
+        assertThat(withoutContainer.ready()).isFalse();
+
+        TokenBlacklist failing = blacklist(true);
+        when(listenerContainer.getIfAvailable()).thenReturn(container);
+        when(redisService.scanBlacklistedTokens()).thenThrow(new IllegalStateException("redis down"));
+        failing.start();
+
+        assertThat(failing.ready()).isFalse();
+        failing.isRevoked("t1", JTI_1);
+        verify(redisService).isBlacklisted(JTI_1);
+    }
+
+    @Test
+    @DisplayName("블룸 필터: 넣은 항목은 항상 양성(거짓 음성 없음), 오탐률은 설정값 근처")
+    void bloomFilterHasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            String hash = TokenBlacklist.tokenHash("in" + i);
+            filter.put(Long.parseUnsignedLong(hash, 0, 16, 16), Long.parseUnsignedLong(hash, 16, 32, 16));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            String in = TokenBlacklist.tokenHash("in" + i);
+            assertThat(filter.mightContain(Long.parseUnsignedLong(in, 0, 16, 16), Long.parseUnsignedLong(in, 16, 32, 16))).isTrue();
+            String out = TokenBlacklist.tokenHash("out" + i);
+            if (filter.mightContain(Long.parseUnsignedLong(out, 0, 16, 16), Long.parseUnsignedLong(out, 16, 32, 16))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(200); // p = 0.01 → 기대값 100
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String jwt(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".sig";
+    }
+
+    private TokenBlacklist blacklist(boolean bloomEnabled) {
+        return blacklist(bloomEnabled, false);
+    }
+
+    private TokenBlacklist blacklist(boolean bloomEnabled, boolean legacyKeys) {
+        return new TokenBlacklist(redisService, listenerContainer, meterRegistry, bloomEnabled, 1_000, 0.001, legacyKeys);
+    }
+}